@@ -0,0 +1,29 @@
+package io.fundrequest.common.infrastructure.feign;
+
+import com.netflix.hystrix.HystrixCommand;
+import com.netflix.hystrix.HystrixCommandGroupKey;
+import com.netflix.hystrix.HystrixCommandKey;
+import feign.Feign;
+import feign.hystrix.HystrixFeign;
+import io.fundrequest.common.infrastructure.IgnoreDuringComponentScan;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+
+/**
+ * Keys the hystrix group and command on the feign client name, so every client gets its own thread pool and circuit breaker.
+ */
+@Configuration
+@IgnoreDuringComponentScan
+public class PerClientHystrixFeignConfiguration {
+
+    @Bean
+    @Scope("prototype")
+    @ConditionalOnProperty(name = "feign.hystrix.enabled", matchIfMissing = true)
+    public Feign.Builder perClientHystrixFeignBuilder() {
+        return HystrixFeign.builder()
+                           .setterFactory((target, method) -> HystrixCommand.Setter.withGroupKey(HystrixCommandGroupKey.Factory.asKey(target.name()))
+                                                                                   .andCommandKey(HystrixCommandKey.Factory.asKey(target.name())));
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -22,16 +23,11 @@ public interface BaseMapper<IN, OUT> {
     }
 
     default Set<OUT> mapToSet(final Collection<? extends IN> collectionIn) {
-        return collectionIn.stream().map(BaseMapper.this::map).collect(Collectors.toSet());
+        return new HashSet<>(mapToList(collectionIn));
     }
 
     default Page<OUT> mapToPage(final Page<? extends IN> pageIn) {
-        final List<OUT> collect = pageIn.getContent()
-                                        .stream()
-                                        .map(this::map)
-                                        .collect(Collectors.toList());
-
-        return new PageImpl<>(collect, null, pageIn.getTotalElements());
+        return new PageImpl<>(mapToList(pageIn.getContent()), null, pageIn.getTotalElements());
     }
 
 }
\ No newline at end of file
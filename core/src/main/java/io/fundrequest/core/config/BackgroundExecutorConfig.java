@@ -0,0 +1,24 @@
+package io.fundrequest.core.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class BackgroundExecutorConfig {
+
+    @Bean
+    public Executor backgroundExecutor(@Value("${io.fundrequest.background.threads:2}") final int threads,
+                                       @Value("${io.fundrequest.background.queue-capacity:100}") final int queueCapacity) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("background-");
+        executor.initialize();
+        return executor;
+    }
+}
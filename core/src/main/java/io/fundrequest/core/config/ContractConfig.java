@@ -2,6 +2,7 @@ package io.fundrequest.core.config;
 
 import io.fundrequest.core.contract.domain.FundRequestContract;
 import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
+import io.fundrequest.core.web3j.JsonRpcBatchClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,7 +21,8 @@ public class ContractConfig {
     @Bean
     public TokenWhitelistPreconditionContract tokenWhitelistPrecondition(final @Value("${io.fundrequest.contract.token-whitelist-precondition.address}")
                                                                                  String tokenWhitelistPreconditionContract,
-                                                                         final Web3j web3j) {
-        return new TokenWhitelistPreconditionContract(tokenWhitelistPreconditionContract, web3j);
+                                                                         final Web3j web3j,
+                                                                         final JsonRpcBatchClient batchClient) {
+        return new TokenWhitelistPreconditionContract(tokenWhitelistPreconditionContract, web3j, batchClient);
     }
 }
\ No newline at end of file
@@ -1,5 +1,14 @@
 package io.fundrequest.core.config;
 
+import io.fundrequest.core.web3j.BlockCachingWeb3jService;
+import io.fundrequest.core.web3j.CoalescingHttpService;
+import io.fundrequest.core.web3j.EthCallCache;
+import io.fundrequest.core.web3j.HedgedJsonRpcBatchClient;
+import io.fundrequest.core.web3j.HedgingWeb3jService;
+import io.fundrequest.core.web3j.JsonRpcBatchClient;
+import io.fundrequest.core.web3j.Web3jEndpoint;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -7,11 +16,29 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
-import org.web3j.protocol.http.HttpService;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class Web3Config {
 
+    @Value("${io.fundrequest.ethereum.batch.window-ms:5}")
+    private long batchWindowInMillis;
+    @Value("${io.fundrequest.ethereum.batch.max-size:50}")
+    private int maxBatchSize;
+    @Value("${io.fundrequest.ethereum.batch.dispatcher-threads:4}")
+    private int dispatcherThreads;
+    @Value("${io.fundrequest.ethereum.http.max-idle-connections:5}")
+    private int maxIdleConnections;
+    @Value("${io.fundrequest.ethereum.http.keep-alive-minutes:5}")
+    private long keepAliveInMinutes;
+    @Value("${io.fundrequest.ethereum.hedge.min-delay-ms:200}")
+    private long minHedgeDelayInMillis;
+    @Value("${io.fundrequest.ethereum.hedge.probe-interval-ms:10000}")
+    private long probeIntervalInMillis;
+
     @Bean
     @Primary
     public Web3j provideWeb3J(final Web3jService web3jService) {
@@ -26,13 +53,42 @@ public class Web3Config {
 
     @Bean
     @Primary
-    public Web3jService provideWeb3JService(@Value("${io.fundrequest.ethereum.endpoint.url}") final String endpoint) {
-        return new HttpService(endpoint);
+    public Web3jService provideWeb3JService(final HedgingWeb3jService hedgingService, final EthCallCache ethCallCache) {
+        return new BlockCachingWeb3jService(hedgingService, ethCallCache);
+    }
+
+    @Bean
+    public HedgingWeb3jService provideHedgingWeb3jService(@Value("${io.fundrequest.ethereum.endpoint.url}") final String primaryEndpoint,
+                                                          @Value("${io.fundrequest.ethereum.endpoint.local-url}") final String localEndpoint,
+                                                          final EthCallCache ethCallCache) {
+        return new HedgingWeb3jService(Arrays.asList(endpoint("primary", new JsonRpcBatchClient(primaryEndpoint, keepAliveHttpClient(), ethCallCache)),
+                                                     endpoint("local", new JsonRpcBatchClient(localEndpoint, keepAliveHttpClient(), ethCallCache))),
+                                       Duration.ofMillis(minHedgeDelayInMillis),
+                                       Duration.ofMillis(probeIntervalInMillis));
     }
 
     @Bean
     @Qualifier("local")
-    public Web3jService provideInfuraEndpoint(@Value("${io.fundrequest.ethereum.endpoint.local-url}") final String endpoint) {
-        return new HttpService(endpoint);
+    public Web3jService provideInfuraEndpoint(@Value("${io.fundrequest.ethereum.endpoint.local-url}") final String endpoint, final EthCallCache ethCallCache) {
+        return new BlockCachingWeb3jService(coalescing(new JsonRpcBatchClient(endpoint, keepAliveHttpClient(), ethCallCache)), ethCallCache);
+    }
+
+    @Bean
+    public JsonRpcBatchClient provideJsonRpcBatchClient(final HedgingWeb3jService hedgingService, final EthCallCache ethCallCache) {
+        return new HedgedJsonRpcBatchClient(hedgingService, ethCallCache);
+    }
+
+    private Web3jEndpoint endpoint(final String name, final JsonRpcBatchClient batchClient) {
+        return new Web3jEndpoint(name, coalescing(batchClient), batchClient);
+    }
+
+    private CoalescingHttpService coalescing(final JsonRpcBatchClient batchClient) {
+        return new CoalescingHttpService(batchClient, batchWindowInMillis, maxBatchSize, dispatcherThreads);
+    }
+
+    private OkHttpClient keepAliveHttpClient() {
+        return new OkHttpClient.Builder().connectionPool(new ConnectionPool(maxIdleConnections, keepAliveInMinutes, TimeUnit.MINUTES))
+                                         .retryOnConnectionFailure(true)
+                                         .build();
     }
 }
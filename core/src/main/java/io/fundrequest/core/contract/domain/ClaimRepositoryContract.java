@@ -7,10 +7,7 @@ import org.web3j.abi.datatypes.Uint;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.abi.datatypes.generated.Bytes32;
 import org.web3j.abi.datatypes.generated.Uint256;
-import org.web3j.crypto.Credentials;
-import org.web3j.crypto.ECKeyPair;
 import org.web3j.protocol.Web3j;
-import org.web3j.tx.Contract;
 
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -20,10 +17,10 @@ import static io.fundrequest.core.web3j.AddressUtils.prettify;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
 
-public class ClaimRepositoryContract extends Contract {
+public class ClaimRepositoryContract extends ReadOnlyContract {
 
     public ClaimRepositoryContract(final String contractAddress, final Web3j web3j) {
-        super("", contractAddress, web3j, Credentials.create(ECKeyPair.create(BigInteger.ONE)), BigInteger.ONE, BigInteger.ZERO);
+        super(contractAddress, web3j);
     }
 
     public Optional<String> getSolver(final String platform, final String platformId) {
@@ -0,0 +1,53 @@
+package io.fundrequest.core.contract.domain;
+
+import io.fundrequest.db.infrastructure.AbstractEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+@Table(name = "contract_address")
+@Entity
+@IdClass(ContractAddress.Key.class)
+@Getter
+public class ContractAddress extends AbstractEntity {
+
+    @Id
+    @Column(name = "fund_request_address")
+    private String fundRequestAddress;
+
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "address")
+    private String address;
+
+    protected ContractAddress() {
+    }
+
+    public ContractAddress(final String fundRequestAddress, final String name, final String address) {
+        this.fundRequestAddress = fundRequestAddress;
+        this.name = name;
+        this.address = address;
+    }
+
+    public void setAddress(final String address) {
+        this.address = address;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String fundRequestAddress;
+        private String name;
+    }
+}
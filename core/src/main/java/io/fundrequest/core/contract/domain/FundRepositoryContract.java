@@ -1,5 +1,6 @@
 package io.fundrequest.core.contract.domain;
 
+import io.fundrequest.core.web3j.JsonRpcBatchClient;
 import lombok.extern.slf4j.Slf4j;
 import org.web3j.abi.TypeReference;
 import org.web3j.abi.datatypes.Address;
@@ -10,25 +11,33 @@ import org.web3j.abi.datatypes.Uint;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.abi.datatypes.generated.Bytes32;
 import org.web3j.abi.datatypes.generated.Uint256;
-import org.web3j.crypto.Credentials;
-import org.web3j.crypto.ECKeyPair;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.RemoteCall;
-import org.web3j.tx.Contract;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 
 @Slf4j
-public class FundRepositoryContract extends Contract {
+public class FundRepositoryContract extends ReadOnlyContract {
 
-    public FundRepositoryContract(final String contractAddress, final Web3j web3j) {
-        super("", contractAddress, web3j, Credentials.create(ECKeyPair.create(BigInteger.ONE)), BigInteger.ONE, BigInteger.ZERO);
+    private final JsonRpcBatchClient batchClient;
+
+    public FundRepositoryContract(final String contractAddress, final Web3j web3j, final JsonRpcBatchClient batchClient) {
+        super(contractAddress, web3j);
+        this.batchClient = batchClient;
     }
 
     public RemoteCall<BigInteger> requestsFunded() {
@@ -70,16 +79,18 @@ public class FundRepositoryContract extends Contract {
     }
 
     public RemoteCall<BigInteger> getFundedTokenCountAsync(final String platform, final String platformId) {
+        return executeRemoteCallSingleValueReturn(getFundedTokenCountFunction(platform, platformId), BigInteger.class);
+    }
 
-        final Function function = new Function("getFundedTokenCount",
-                                               Arrays.asList(
-                                                       new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
-                                                       new Utf8String(platformId)
+    private Function getFundedTokenCountFunction(final String platform, final String platformId) {
+        return new Function("getFundedTokenCount",
+                            Arrays.asList(
+                                    new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
+                                    new Utf8String(platformId)
 
-                                                            ),
-                                               singletonList(new TypeReference<Uint256>() {
-                                               }));
-        return executeRemoteCallSingleValueReturn(function, BigInteger.class);
+                                         ),
+                            singletonList(new TypeReference<Uint256>() {
+                            }));
     }
 
     public Long getFundedTokenCount(final String platform, final String platformId) {
@@ -92,16 +103,19 @@ public class FundRepositoryContract extends Contract {
     }
 
     public RemoteCall<String> getFundedTokenAsync(final String platform, final String platformId, final long index) {
-        final Function function = new Function("getFundedTokensByIndex",
-                                               Arrays.asList(
-                                                       new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
-                                                       new Utf8String(platformId),
-                                                       new Uint(BigInteger.valueOf(index))
+        return executeRemoteCallSingleValueReturn(getFundedTokensByIndexFunction(platform, platformId, index), String.class);
+    }
 
-                                                            ),
-                                               singletonList(new TypeReference<Address>() {
-                                               }));
-        return executeRemoteCallSingleValueReturn(function, String.class);
+    private Function getFundedTokensByIndexFunction(final String platform, final String platformId, final long index) {
+        return new Function("getFundedTokensByIndex",
+                            Arrays.asList(
+                                    new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
+                                    new Utf8String(platformId),
+                                    new Uint(BigInteger.valueOf(index))
+
+                                         ),
+                            singletonList(new TypeReference<Address>() {
+                            }));
     }
 
     public Optional<String> getFundedToken(final String platform, final String platformId, final long index) {
@@ -125,28 +139,38 @@ public class FundRepositoryContract extends Contract {
     }
 
     public RemoteCall<BigInteger> amountFunded(final String platform, final String platformId, final String funder, final String token) {
-        final Function function = new Function("amountFunded",
-                                               Arrays.asList(
-                                                       new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
-                                                       new Utf8String(platformId),
-                                                       new Address(funder),
-                                                       new Address(token)
-                                                            ),
-                                               singletonList(new TypeReference<Uint256>() {
-                                               }));
-        return executeRemoteCallSingleValueReturn(function, BigInteger.class);
+        return executeRemoteCallSingleValueReturn(amountFundedFunction(platform, platformId, funder, token), BigInteger.class);
+    }
+
+    public CompletableFuture<BigInteger> amountFunded(final String platform, final String platformId, final String funder, final String token, final Duration timeout) {
+        return executeCallSingleValueReturnAsync(amountFundedFunction(platform, platformId, funder, token), timeout);
+    }
+
+    private Function amountFundedFunction(final String platform, final String platformId, final String funder, final String token) {
+        return new Function("amountFunded",
+                            Arrays.asList(
+                                    new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
+                                    new Utf8String(platformId),
+                                    new Address(funder),
+                                    new Address(token)
+                                         ),
+                            singletonList(new TypeReference<Uint256>() {
+                            }));
     }
 
     public RemoteCall<BigInteger> balanceAsync(final String platform, final String platformId, final String token) {
-        final Function function = new Function("balance",
-                                               Arrays.asList(
-                                                       new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
-                                                       new Utf8String(platformId),
-                                                       new Address(token)
-                                                            ),
-                                               singletonList(new TypeReference<Uint256>() {
-                                               }));
-        return executeRemoteCallSingleValueReturn(function, BigInteger.class);
+        return executeRemoteCallSingleValueReturn(balanceFunction(platform, platformId, token), BigInteger.class);
+    }
+
+    private Function balanceFunction(final String platform, final String platformId, final String token) {
+        return new Function("balance",
+                            Arrays.asList(
+                                    new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
+                                    new Utf8String(platformId),
+                                    new Address(token)
+                                         ),
+                            singletonList(new TypeReference<Uint256>() {
+                            }));
     }
 
     public BigInteger balance(final String platform, final String platformId, final String token) {
@@ -157,4 +181,68 @@ public class FundRepositoryContract extends Contract {
             return BigInteger.ZERO;
         }
     }
+
+    public Map<String, BigInteger> getBalancesByToken(final String platform, final String platformId) {
+        final long fundedTokenCount;
+        try {
+            fundedTokenCount = getFundedTokenCountAsync(platform, platformId).send().longValue();
+        } catch (final Exception e) {
+            log.error("Error while trying to fetch balances by token", e);
+            return emptyMap();
+        }
+        final List<String> tokens = getFundedTokens(platform, platformId, fundedTokenCount);
+        final List<Optional<BigInteger>> balances = getBalances(platform, platformId, tokens);
+        final Map<String, BigInteger> balancesByToken = new LinkedHashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            final String token = tokens.get(i);
+            balances.get(i).ifPresent(balance -> balancesByToken.put(token, balance));
+        }
+        return balancesByToken;
+    }
+
+    private List<String> getFundedTokens(final String platform, final String platformId, final long fundedTokenCount) {
+        try {
+            return batchClient.executeCalls(transactionManager.getFromAddress(),
+                                            getContractAddress(),
+                                            LongStream.range(0, fundedTokenCount)
+                                                      .mapToObj(index -> getFundedTokensByIndexFunction(platform, platformId, index))
+                                                      .collect(Collectors.toList()))
+                              .stream()
+                              .filter(result -> !result.isEmpty())
+                              .map(result -> result.get(0).toString())
+                              .collect(Collectors.toList());
+        } catch (final IOException e) {
+            log.warn("Batch fetch of funded tokens failed, falling back to one call per token: {}", e.getMessage());
+            return LongStream.range(0, fundedTokenCount)
+                             .mapToObj(index -> getFundedToken(platform, platformId, index))
+                             .filter(Optional::isPresent)
+                             .map(Optional::get)
+                             .collect(Collectors.toList());
+        }
+    }
+
+    private List<Optional<BigInteger>> getBalances(final String platform, final String platformId, final List<String> tokens) {
+        try {
+            return batchClient.executeCalls(transactionManager.getFromAddress(),
+                                            getContractAddress(),
+                                            tokens.stream()
+                                                  .map(token -> balanceFunction(platform, platformId, token))
+                                                  .collect(Collectors.toList()))
+                              .stream()
+                              .map(result -> result.isEmpty() ? Optional.<BigInteger>empty() : Optional.of((BigInteger) result.get(0).getValue()))
+                              .collect(Collectors.toList());
+        } catch (final IOException e) {
+            log.warn("Batch fetch of balances failed, falling back to one call per token: {}", e.getMessage());
+            return tokens.stream()
+                         .map(token -> {
+                             try {
+                                 return Optional.of(balanceAsync(platform, platformId, token).send());
+                             } catch (final Exception ex) {
+                                 log.error("Error while trying to fetch balance of token {}", token, ex);
+                                 return Optional.<BigInteger>empty();
+                             }
+                         })
+                         .collect(Collectors.toList());
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package io.fundrequest.core.contract.domain;
+
+import io.fundrequest.core.web3j.Deadlines;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.tx.Contract;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public abstract class ReadOnlyContract extends Contract {
+
+    protected ReadOnlyContract(final String contractAddress, final Web3j web3j) {
+        super("", contractAddress, web3j, Credentials.create(ECKeyPair.create(BigInteger.ONE)), BigInteger.ONE, BigInteger.ZERO);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T> CompletableFuture<T> executeCallSingleValueReturnAsync(final Function function, final Duration timeout) {
+        final CompletableFuture<EthCall> ethCall = web3j.ethCall(Transaction.createEthCallTransaction(transactionManager.getFromAddress(),
+                                                                                                      getContractAddress(),
+                                                                                                      FunctionEncoder.encode(function)),
+                                                                 DefaultBlockParameterName.LATEST)
+                                                        .sendAsync();
+        return Deadlines.withDeadline(ethCall, timeout)
+                        .thenApply(response -> {
+                            if (response.hasError()) {
+                                throw new CompletionException(new IOException(function.getName() + " failed: " + response.getError().getMessage()));
+                            }
+                            final List<Type> values = FunctionReturnDecoder.decode(response.getValue(), function.getOutputParameters());
+                            if (values.isEmpty()) {
+                                throw new CompletionException(new IOException(function.getName() + " returned no value"));
+                            }
+                            final Type value = values.get(0);
+                            return (T) (value instanceof Address ? value.toString() : value.getValue());
+                        });
+    }
+}
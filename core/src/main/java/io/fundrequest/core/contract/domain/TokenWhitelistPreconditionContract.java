@@ -1,80 +1,132 @@
 package io.fundrequest.core.contract.domain;
 
+import io.fundrequest.core.web3j.JsonRpcBatchClient;
 import org.web3j.abi.TypeReference;
 import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.Bool;
 import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.Uint;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.abi.datatypes.generated.Bytes32;
 import org.web3j.abi.datatypes.generated.Uint256;
-import org.web3j.crypto.Credentials;
-import org.web3j.crypto.ECKeyPair;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.RemoteCall;
-import org.web3j.tx.Contract;
 
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
-public class TokenWhitelistPreconditionContract extends Contract {
+public class TokenWhitelistPreconditionContract extends ReadOnlyContract {
 
-    public TokenWhitelistPreconditionContract(final String contractAddress, final Web3j web3j) {
-        super("", contractAddress, web3j, Credentials.create(ECKeyPair.create(BigInteger.ONE)), BigInteger.ONE, BigInteger.ZERO);
+    private final JsonRpcBatchClient batchClient;
+
+    public TokenWhitelistPreconditionContract(final String contractAddress, final Web3j web3j, final JsonRpcBatchClient batchClient) {
+        super(contractAddress, web3j);
+        this.batchClient = batchClient;
     }
 
     public RemoteCall<BigInteger> amountOftokens() {
-        Function function = new Function("amountOfTokens",
-                                         emptyList(),
-                                         singletonList(new TypeReference<Uint>() {
-                                         }));
-        return executeRemoteCallSingleValueReturn(function, BigInteger.class);
+        return executeRemoteCallSingleValueReturn(amountOfTokensFunction(), BigInteger.class);
+    }
+
+    private Function amountOfTokensFunction() {
+        return new Function("amountOfTokens",
+                            emptyList(),
+                            singletonList(new TypeReference<Uint>() {
+                            }));
     }
 
     public RemoteCall<String> tokenAsync(final BigInteger index) {
-        Function function = new Function("tokens",
-                                         singletonList(new Uint(index)),
-                                         singletonList(new TypeReference<Address>() {
-                                         }));
-        return executeRemoteCallSingleValueReturn(function, String.class);
+        return executeRemoteCallSingleValueReturn(tokenFunction(index), String.class);
+    }
+
+    private Function tokenFunction(final BigInteger index) {
+        return new Function("tokens",
+                            singletonList(new Uint(index)),
+                            singletonList(new TypeReference<Address>() {
+                            }));
     }
 
     public Optional<String> token(final BigInteger index) {
         try {
-            final String token = tokenAsync(index).send();
-            if (token == null || token.isEmpty() || token.equalsIgnoreCase("0x")) {
-                return Optional.empty();
-            } else {
-                return Optional.of(token);
-            }
+            return toToken(tokenAsync(index).send());
         } catch (final Exception ex) {
             return Optional.empty();
         }
     }
 
+    public List<String> tokens() throws Exception {
+        final int amountOfTokens = amountOftokens().send().intValue();
+        return batchClient.executeCalls(transactionManager.getFromAddress(),
+                                        getContractAddress(),
+                                        IntStream.range(0, amountOfTokens)
+                                                 .mapToObj(index -> tokenFunction(BigInteger.valueOf(index)))
+                                                 .collect(Collectors.toList()))
+                          .stream()
+                          .filter(result -> !result.isEmpty())
+                          .map(result -> toToken(result.get(0).toString()))
+                          .filter(Optional::isPresent)
+                          .map(Optional::get)
+                          .distinct()
+                          .collect(Collectors.toList());
+    }
+
+    private Optional<String> toToken(final String token) {
+        if (token == null || token.isEmpty() || token.equalsIgnoreCase("0x")) {
+            return Optional.empty();
+        } else {
+            return Optional.of(token);
+        }
+    }
+
     public RemoteCall<Boolean> isValidAsync(final String platform, final String platformId, final String token) {
-        Function function = new Function("isValid",
-                                         Arrays.asList(
-                                                 new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
-                                                 new Utf8String(platformId),
-                                                 new Address(token),
-                                                 new Uint256(0),
-                                                 new Address(token)
-                                                      ),
-                                         singletonList(new TypeReference<Bool>() {
-                                         }));
-        return executeRemoteCallSingleValueReturn(function, Boolean.class);
+        return executeRemoteCallSingleValueReturn(isValidFunction(platform, platformId, token), Boolean.class);
+    }
+
+    private Function isValidFunction(final String platform, final String platformId, final String token) {
+        return new Function("isValid",
+                            Arrays.asList(
+                                    new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
+                                    new Utf8String(platformId),
+                                    new Address(token),
+                                    new Uint256(0),
+                                    new Address(token)
+                                         ),
+                            singletonList(new TypeReference<Bool>() {
+                            }));
     }
 
     public boolean isValid(final String platform, final String platformId, final String token) {
         try {
             return isValidAsync(platform, platformId, token).send();
         } catch (final Exception ex) {
-            return true;
+            return false;
+        }
+    }
+
+    public Map<String, Boolean> isValid(final String platform, final String platformId, final List<String> tokens) throws IOException {
+        final List<List<Type>> results = batchClient.executeCalls(transactionManager.getFromAddress(),
+                                                                  getContractAddress(),
+                                                                  tokens.stream()
+                                                                        .map(token -> isValidFunction(platform, platformId, token))
+                                                                        .collect(Collectors.toList()));
+        final Map<String, Boolean> validity = new LinkedHashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            // errored or empty results are left out so callers can tell an answer from a failed call
+            if (!results.get(i).isEmpty()) {
+                validity.put(tokens.get(i), (Boolean) results.get(i).get(0).getValue());
+            }
         }
+        return validity;
     }
 }
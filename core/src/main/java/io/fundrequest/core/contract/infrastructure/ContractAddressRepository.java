@@ -0,0 +1,7 @@
+package io.fundrequest.core.contract.infrastructure;
+
+import io.fundrequest.core.contract.domain.ContractAddress;
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+
+public interface ContractAddressRepository extends JpaRepository<ContractAddress, ContractAddress.Key> {
+}
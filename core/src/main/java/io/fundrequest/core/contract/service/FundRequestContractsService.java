@@ -1,98 +1,159 @@
 package io.fundrequest.core.contract.service;
 
 import io.fundrequest.core.contract.domain.ClaimRepositoryContract;
+import io.fundrequest.core.contract.domain.ContractAddress;
 import io.fundrequest.core.contract.domain.FundRepositoryContract;
 import io.fundrequest.core.contract.domain.FundRequestContract;
-import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
+import io.fundrequest.core.contract.infrastructure.ContractAddressRepository;
 import io.fundrequest.core.infrastructure.exception.ResourceNotFoundException;
-import io.fundrequest.core.token.TokenInfoService;
 import io.fundrequest.core.token.dto.TokenInfoDto;
+import io.fundrequest.core.web3j.JsonRpcBatchClient;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.web3j.protocol.Web3j;
 
 import javax.annotation.PostConstruct;
-import java.math.BigInteger;
-import java.util.Collections;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 public class FundRequestContractsService {
 
-    private TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract;
+    static final String FUND_REPOSITORY = "fund_repository";
+    static final String CLAIM_REPOSITORY = "claim_repository";
+
+    private TokenWhitelistIndex tokenWhitelistIndex;
     private Web3j web3j;
+    private JsonRpcBatchClient batchClient;
+    private ContractAddressRepository contractAddressRepository;
+    private Executor backgroundExecutor;
+    private Duration callTimeout;
 
     private FundRequestContract fundRequestContract;
-    private FundRepositoryContract fundRepositoryContract;
-    private ClaimRepositoryContract claimRepositoryContract;
-    private TokenInfoService tokenInfoService;
+    private volatile FundRepositoryContract fundRepositoryContract;
+    private volatile ClaimRepositoryContract claimRepositoryContract;
+    private CompletableFuture<Void> resolution;
 
     public FundRequestContractsService(final FundRequestContract fundRequestContract,
-                                       final TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract,
+                                       final TokenWhitelistIndex tokenWhitelistIndex,
                                        final Web3j web3j,
-                                       final TokenInfoService tokenInfoService) {
+                                       final JsonRpcBatchClient batchClient,
+                                       final ContractAddressRepository contractAddressRepository,
+                                       @Qualifier("backgroundExecutor") final Executor backgroundExecutor,
+                                       @Value("${io.fundrequest.ethereum.call-timeout-ms:5000}") final long callTimeoutInMillis) {
         this.fundRequestContract = fundRequestContract;
-        this.tokenWhitelistPreconditionContract = tokenWhitelistPreconditionContract;
+        this.tokenWhitelistIndex = tokenWhitelistIndex;
         this.web3j = web3j;
-        this.tokenInfoService = tokenInfoService;
+        this.batchClient = batchClient;
+        this.contractAddressRepository = contractAddressRepository;
+        this.backgroundExecutor = backgroundExecutor;
+        this.callTimeout = Duration.ofMillis(callTimeoutInMillis);
+    }
+
+    public Duration getCallTimeout() {
+        return callTimeout;
     }
 
     public FundRepositoryContract fundRepository() {
+        if (fundRepositoryContract == null) {
+            awaitResolution();
+        }
         return fundRepositoryContract;
     }
 
+    public CompletableFuture<FundRepositoryContract> fundRepositoryAsync() {
+        final FundRepositoryContract contract = fundRepositoryContract;
+        if (contract != null) {
+            return CompletableFuture.completedFuture(contract);
+        }
+        return resolveAddresses().thenApply(resolved -> fundRepositoryContract);
+    }
+
     public ClaimRepositoryContract claimRepository() {
+        if (claimRepositoryContract == null) {
+            awaitResolution();
+        }
         return claimRepositoryContract;
     }
 
     @PostConstruct
     public void init() {
         try {
-            this.fundRepositoryContract = new FundRepositoryContract(
-                    fundRequestContract.fundRepository().send(),
-                    web3j
-            );
-            this.claimRepositoryContract = new ClaimRepositoryContract(
-                    fundRequestContract.claimRepository().send(),
-                    web3j
-            );
+            contractAddressRepository.findOne(key(FUND_REPOSITORY))
+                                     .ifPresent(address -> fundRepositoryContract = new FundRepositoryContract(address.getAddress(), web3j, batchClient));
+            contractAddressRepository.findOne(key(CLAIM_REPOSITORY))
+                                     .ifPresent(address -> claimRepositoryContract = new ClaimRepositoryContract(address.getAddress(), web3j));
         } catch (final Exception ex) {
-            log.error("Unable to start application, couldn't access contracts", ex);
-            throw new IllegalArgumentException("Couldn't startup");
+            log.warn("Unable to load the last known contract addresses", ex);
         }
+        resolveAddresses();
     }
 
-    @Cacheable(value = "possible_tokens", keyGenerator = "getAllPossibleTokensKeyGenerator")
-    public List<TokenInfoDto> getAllPossibleTokens(final String platform, final String platformId) {
-        return checkNotEmpty(getAllPossibleTokens().stream()
-                                                   .filter(token -> tokenWhitelistPreconditionContract.isValid(platform, platformId, token.getAddress()))
-                                                   .collect(Collectors.toList()));
+    @Scheduled(fixedDelayString = "${io.fundrequest.contract.address-refresh-interval-ms:3600000}", initialDelayString = "${io.fundrequest.contract.address-refresh-interval-ms:3600000}")
+    public void refreshAddresses() {
+        resolveAddresses();
     }
 
-    private List<TokenInfoDto> checkNotEmpty(final List<TokenInfoDto> possibleTokens) {
-        if (possibleTokens.isEmpty()) {
-            throw new ResourceNotFoundException();
+    synchronized CompletableFuture<Void> resolveAddresses() {
+        if (resolution == null || resolution.isDone()) {
+            final CompletableFuture<String> fundRepositoryAddress = fundRequestContract.fundRepository(callTimeout);
+            final CompletableFuture<String> claimRepositoryAddress = fundRequestContract.claimRepository(callTimeout);
+            resolution = CompletableFuture.allOf(fundRepositoryAddress, claimRepositoryAddress)
+                                          .thenRun(() -> {
+                                              fundRepositoryContract = new FundRepositoryContract(fundRepositoryAddress.join(), web3j, batchClient);
+                                              claimRepositoryContract = new ClaimRepositoryContract(claimRepositoryAddress.join(), web3j);
+                                          });
+            resolution.thenRunAsync(() -> {
+                saveAddress(FUND_REPOSITORY, fundRepositoryAddress.join());
+                saveAddress(CLAIM_REPOSITORY, claimRepositoryAddress.join());
+            }, backgroundExecutor);
+            resolution.exceptionally(ex -> {
+                log.warn("Unable to resolve contract addresses, keeping the last known ones", ex);
+                return null;
+            });
         }
-        return possibleTokens;
+        return resolution;
     }
 
-    private Set<TokenInfoDto> getAllPossibleTokens() {
+    private void awaitResolution() {
         try {
-            final int amount = tokenWhitelistPreconditionContract.amountOftokens().send().intValue();
-            return IntStream.range(0, amount)
-                            .mapToObj(x -> tokenWhitelistPreconditionContract.token(BigInteger.valueOf(x))).filter(Optional::isPresent)
-                            .map(Optional::get)
-                            .map(x -> tokenInfoService.getTokenInfo(x))
-                            .collect(Collectors.toSet());
-        } catch (final Exception exception) {
-            log.debug("Unable to fetch all possible tokens from contract", exception);
-            return Collections.emptySet();
+            resolveAddresses().get(callTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final Exception ex) {
+            throw new IllegalStateException("Contract addresses are not resolved yet", ex);
         }
     }
+
+    private void saveAddress(final String name, final String address) {
+        try {
+            final Optional<ContractAddress> known = contractAddressRepository.findOne(key(name));
+            if (!known.isPresent()) {
+                contractAddressRepository.save(new ContractAddress(fundRequestContract.getContractAddress(), name, address));
+            } else if (!address.equalsIgnoreCase(known.get().getAddress())) {
+                known.get().setAddress(address);
+                contractAddressRepository.save(known.get());
+            }
+        } catch (final Exception ex) {
+            log.warn("Unable to store the address of {}", name, ex);
+        }
+    }
+
+    private ContractAddress.Key key(final String name) {
+        return new ContractAddress.Key(fundRequestContract.getContractAddress(), name);
+    }
+
+    public List<TokenInfoDto> getAllPossibleTokens(final String platform, final String platformId) {
+        final List<TokenInfoDto> possibleTokens = tokenWhitelistIndex.getAllowedTokens(platform, platformId);
+        if (possibleTokens.isEmpty()) {
+            throw new ResourceNotFoundException();
+        }
+        return possibleTokens;
+    }
 }
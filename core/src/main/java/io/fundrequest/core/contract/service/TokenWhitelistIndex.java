@@ -0,0 +1,214 @@
+package io.fundrequest.core.contract.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
+import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.infrastructure.github.parser.GithubPlatformIdParser;
+import io.fundrequest.core.token.TokenInfoService;
+import io.fundrequest.core.token.dto.TokenInfoDto;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class TokenWhitelistIndex {
+
+    private final TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract;
+    private final TokenInfoService tokenInfoService;
+    private final RequestRepository requestRepository;
+    private final Duration coldMissWait;
+    private final AsyncLoadingCache<RepoKey, RepoWhitelist> whitelists;
+
+    private volatile List<TokenInfoDto> tokens = Collections.emptyList();
+
+    @Autowired
+    public TokenWhitelistIndex(final TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract,
+                               final TokenInfoService tokenInfoService,
+                               final RequestRepository requestRepository,
+                               @Value("${io.fundrequest.token-whitelist.expire-after-access-ms:3600000}") final long expireAfterAccessInMillis,
+                               @Value("${io.fundrequest.token-whitelist.max-repos:10000}") final long maxRepos,
+                               @Value("${io.fundrequest.token-whitelist.cold-miss-wait-ms:1500}") final long coldMissWaitInMillis) {
+        this(tokenWhitelistPreconditionContract,
+             tokenInfoService,
+             requestRepository,
+             Duration.ofMillis(expireAfterAccessInMillis),
+             maxRepos,
+             Duration.ofMillis(coldMissWaitInMillis),
+             Ticker.systemTicker(),
+             ForkJoinPool.commonPool());
+    }
+
+    TokenWhitelistIndex(final TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract,
+                        final TokenInfoService tokenInfoService,
+                        final RequestRepository requestRepository,
+                        final Duration expireAfterAccess,
+                        final long maxRepos,
+                        final Duration coldMissWait,
+                        final Ticker ticker,
+                        final Executor executor) {
+        this.tokenWhitelistPreconditionContract = tokenWhitelistPreconditionContract;
+        this.tokenInfoService = tokenInfoService;
+        this.requestRepository = requestRepository;
+        this.coldMissWait = coldMissWait;
+        this.whitelists = Caffeine.newBuilder()
+                                  .expireAfterAccess(expireAfterAccess.toMillis(), TimeUnit.MILLISECONDS)
+                                  .maximumSize(maxRepos)
+                                  .ticker(ticker)
+                                  .executor(executor)
+                                  .buildAsync(this::load);
+    }
+
+    public List<TokenInfoDto> getAllowedTokens(final String platform, final String platformId) {
+        try {
+            // a cold repo is evaluated on the cache executor; the caller only waits a bounded time for it
+            final RepoWhitelist whitelist = whitelists.get(new RepoKey(key(platform, platformId), platform, platformId))
+                                                      .get(coldMissWait.toMillis(), TimeUnit.MILLISECONDS);
+            return whitelist == null ? Collections.emptyList() : whitelist.getAllowedTokens();
+        } catch (final TimeoutException e) {
+            log.debug("Token whitelist for {} {} is still loading", platform, platformId);
+            return Collections.emptyList();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
+        } catch (final ExecutionException e) {
+            log.debug("Unable to load the token whitelist for {} {}", platform, platformId, e);
+            return Collections.emptyList();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${io.fundrequest.token-whitelist.refresh-interval-ms:600000}")
+    public void refresh() {
+        final List<TokenInfoDto> allTokens = loadTokens();
+        if (allTokens.isEmpty()) {
+            return;
+        }
+        final Map<RepoKey, RepoWhitelist> indexed = whitelists.synchronous().asMap();
+        indexed.values().forEach(whitelist -> evaluate(whitelist.getPlatform(), whitelist.getPlatformId(), allTokens)
+                // updated in place: writing to the cache would count as an access and keep unused repos from expiring
+                .ifPresent(whitelist::setAllowedTokens));
+        findActiveRepos().stream()
+                         .filter(repo -> !indexed.containsKey(repo))
+                         .forEach(repo -> evaluate(repo.getPlatform(), repo.getPlatformId(), allTokens)
+                                 .ifPresent(allowedTokens -> whitelists.synchronous()
+                                                                       .put(repo, new RepoWhitelist(repo.getPlatform(), repo.getPlatformId(), allowedTokens))));
+    }
+
+    private RepoWhitelist load(final RepoKey repo) {
+        return evaluate(repo.getPlatform(), repo.getPlatformId(), tokens.isEmpty() ? loadTokens() : tokens)
+                .map(allowedTokens -> new RepoWhitelist(repo.getPlatform(), repo.getPlatformId(), allowedTokens))
+                .orElse(null);
+    }
+
+    private List<RepoKey> findActiveRepos() {
+        try {
+            final List<RequestStatus> statuses = Arrays.stream(RequestStatus.values())
+                                                       .filter(status -> status.getPhase() == RequestPhase.OPEN)
+                                                       .collect(Collectors.toList());
+            return requestRepository.findRepositoriesWithStatusIn(statuses)
+                                    .stream()
+                                    .map(repo -> {
+                                        final String platform = ((Platform) repo[0]).name();
+                                        final String platformId = (String) repo[1];
+                                        return new RepoKey(key(platform, platformId), platform, platformId);
+                                    })
+                                    .collect(Collectors.toList());
+        } catch (final Exception ex) {
+            log.warn("Unable to find the repositories to warm the token whitelist for", ex);
+            return Collections.emptyList();
+        }
+    }
+
+    private List<TokenInfoDto> loadTokens() {
+        try {
+            final List<TokenInfoDto> allTokens = tokenWhitelistPreconditionContract.tokens()
+                                                                                   .stream()
+                                                                                   .map(tokenInfoService::getTokenInfo)
+                                                                                   .distinct()
+                                                                                   .collect(Collectors.toList());
+            if (!allTokens.isEmpty()) {
+                tokens = allTokens;
+            }
+            return allTokens;
+        } catch (final Exception ex) {
+            log.debug("Unable to fetch all possible tokens from contract", ex);
+            return tokens;
+        }
+    }
+
+    private Optional<List<TokenInfoDto>> evaluate(final String platform, final String platformId, final List<TokenInfoDto> allTokens) {
+        if (allTokens.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            final List<String> addresses = allTokens.stream().map(TokenInfoDto::getAddress).collect(Collectors.toList());
+            final Map<String, Boolean> validity = tokenWhitelistPreconditionContract.isValid(platform, platformId, addresses);
+            if (!validity.keySet().containsAll(addresses)) {
+                log.debug("Token whitelist batch for {} {} had failed calls, not indexing it", platform, platformId);
+                return Optional.empty();
+            }
+            return Optional.of(allTokens.stream()
+                                        .filter(token -> validity.getOrDefault(token.getAddress(), false))
+                                        .collect(Collectors.toList()));
+        } catch (final Exception ex) {
+            log.debug("Unable to evaluate the token whitelist for {} {}", platform, platformId, ex);
+            return Optional.empty();
+        }
+    }
+
+    static String key(final String platform, final String platformId) {
+        if (Platform.GITHUB.name().equalsIgnoreCase(platform)) {
+            return platform + "-" + GithubPlatformIdParser.extractOwner(platformId) + "-" + GithubPlatformIdParser.extractRepo(platformId);
+        }
+        return platform + "-" + platformId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode(of = "key")
+    private static class RepoKey {
+        private final String key;
+        private final String platform;
+        private final String platformId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RepoWhitelist {
+        private final String platform;
+        private final String platformId;
+        @Setter
+        private volatile List<TokenInfoDto> allowedTokens;
+    }
+}
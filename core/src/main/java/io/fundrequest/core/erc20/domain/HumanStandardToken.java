@@ -36,11 +36,14 @@ public final class HumanStandardToken extends Contract {
     }
 
     private RemoteCall<String> nameAsync() {
-        Function function = new Function("name",
-                                         emptyList(),
-                                         singletonList(new TypeReference<Utf8String>() {
-                                         }));
-        return executeRemoteCallSingleValueReturn(function, String.class);
+        return executeRemoteCallSingleValueReturn(nameFunction(), String.class);
+    }
+
+    public static Function nameFunction() {
+        return new Function("name",
+                            emptyList(),
+                            singletonList(new TypeReference<Utf8String>() {
+                            }));
     }
 
     public String name() {
@@ -80,11 +83,14 @@ public final class HumanStandardToken extends Contract {
     }
 
     private RemoteCall<BigInteger> decimalsAsync() {
-        Function function = new Function("decimals",
-                                         emptyList(),
-                                         singletonList(new TypeReference<Uint8>() {
-                                         }));
-        return executeRemoteCallSingleValueReturn(function, BigInteger.class);
+        return executeRemoteCallSingleValueReturn(decimalsFunction(), BigInteger.class);
+    }
+
+    public static Function decimalsFunction() {
+        return new Function("decimals",
+                            emptyList(),
+                            singletonList(new TypeReference<Uint8>() {
+                            }));
     }
 
     public int decimals() {
@@ -113,11 +119,14 @@ public final class HumanStandardToken extends Contract {
     }
 
     private RemoteCall<String> symbolAsync() {
-        Function function = new Function("symbol",
-                                         emptyList(),
-                                         singletonList(new TypeReference<Utf8String>() {
-                                         }));
-        return executeRemoteCallSingleValueReturn(function, String.class);
+        return executeRemoteCallSingleValueReturn(symbolFunction(), String.class);
+    }
+
+    public static Function symbolFunction() {
+        return new Function("symbol",
+                            emptyList(),
+                            singletonList(new TypeReference<Utf8String>() {
+                            }));
     }
 
     public String symbol() {
@@ -1,18 +1,30 @@
 package io.fundrequest.core.erc20.service;
 
 import io.fundrequest.core.erc20.domain.HumanStandardToken;
+import io.fundrequest.core.token.dto.TokenInfoDto;
+import io.fundrequest.core.web3j.JsonRpcBatchClient;
 import io.fundrequest.core.web3j.Web3jGateway;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
+import org.web3j.abi.datatypes.Type;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 
 @Component
+@Slf4j
 public class ERC20Service {
 
     private Web3jGateway web3jGateway;
+    private JsonRpcBatchClient batchClient;
 
-    public ERC20Service(final Web3jGateway web3jGateway) {
+    public ERC20Service(final Web3jGateway web3jGateway, final JsonRpcBatchClient batchClient) {
         this.web3jGateway = web3jGateway;
+        this.batchClient = batchClient;
     }
 
     @Cacheable(cacheNames = "erc20.tokens.decimals", key = "#token")
@@ -30,6 +42,28 @@ public class ERC20Service {
         return getERC20(token).symbol();
     }
 
+    public Optional<TokenInfoDto> tokenInfo(final String token) {
+        try {
+            final List<List<Type>> results = batchClient.executeCalls(null,
+                                                                      token,
+                                                                      Arrays.asList(HumanStandardToken.decimalsFunction(),
+                                                                                    HumanStandardToken.nameFunction(),
+                                                                                    HumanStandardToken.symbolFunction()));
+            if (results.stream().anyMatch(List::isEmpty)) {
+                return Optional.empty();
+            }
+            return Optional.of(TokenInfoDto.builder()
+                                           .address(token)
+                                           .decimals(((BigInteger) results.get(0).get(0).getValue()).intValue())
+                                           .name((String) results.get(1).get(0).getValue())
+                                           .symbol((String) results.get(2).get(0).getValue())
+                                           .build());
+        } catch (final Exception e) {
+            log.debug("Unable to fetch token info for erc20 {}", token, e);
+            return Optional.empty();
+        }
+    }
+
     private HumanStandardToken getERC20(final String token) {
         return HumanStandardToken.load(token, web3jGateway.web3j());
     }
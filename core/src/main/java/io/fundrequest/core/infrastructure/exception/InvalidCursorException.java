@@ -0,0 +1,12 @@
+package io.fundrequest.core.infrastructure.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(final String cursor, final Throwable cause) {
+        super("Invalid cursor: " + cursor, cause);
+    }
+}
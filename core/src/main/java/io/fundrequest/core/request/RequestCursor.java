@@ -0,0 +1,46 @@
+package io.fundrequest.core.request;
+
+import io.fundrequest.core.infrastructure.exception.InvalidCursorException;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.view.RequestSort;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Value
+class RequestCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime lastModifiedDate;
+    private final BigDecimal usdValue;
+    private final Long id;
+
+    static RequestCursor of(final Request request) {
+        return new RequestCursor(request.getLastModifiedDate(), null, request.getId());
+    }
+
+    static RequestCursor of(final BigDecimal usdValue, final Long id) {
+        return new RequestCursor(null, usdValue, id);
+    }
+
+    static RequestCursor decode(final String cursor, final RequestSort sort) {
+        try {
+            final String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separator = value.lastIndexOf(SEPARATOR);
+            final String key = value.substring(0, separator);
+            final Long id = Long.valueOf(value.substring(separator + 1));
+            return sort == RequestSort.USD_VALUE ? of(new BigDecimal(key), id) : new RequestCursor(LocalDateTime.parse(key), null, id);
+        } catch (final RuntimeException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+
+    String encode() {
+        final String key = usdValue == null ? lastModifiedDate.toString() : usdValue.toPlainString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((key + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
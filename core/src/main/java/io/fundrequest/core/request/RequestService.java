@@ -10,12 +10,18 @@ import io.fundrequest.core.request.command.CreateRequestCommand;
 import io.fundrequest.core.request.command.UpdateRequestStatusCommand;
 import io.fundrequest.core.request.domain.Platform;
 import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestPhase;
 import io.fundrequest.core.request.fund.domain.CreateERC67FundRequest;
 import io.fundrequest.core.request.fund.dto.CommentDto;
 import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.request.view.RequestFilterDto;
+import io.fundrequest.core.request.view.RequestPageDto;
+import io.fundrequest.core.request.view.RequestVersionDto;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface RequestService {
@@ -23,6 +29,10 @@ public interface RequestService {
 
     List<RequestDto> findAll(Iterable<Long> ids);
 
+    RequestPageDto findFunded(RequestFilterDto filter, String cursor, int size);
+
+    Map<RequestPhase, Long> countFundedPerPhase();
+
     Set<String> findAllTechnologies();
 
     Set<String> findAllProjects();
@@ -39,6 +49,12 @@ public interface RequestService {
 
     RequestDto findRequest(Platform platform, String platformId);
 
+    RequestVersionDto findVersion(Long id);
+
+    RequestVersionDto findVersion(Platform platform, String platformId);
+
+    LocalDateTime findLastModifiedDate();
+
     Long createRequest(CreateRequestCommand command);
 
     Request requestClaimed(RequestClaimedCommand command);
@@ -21,15 +21,22 @@ import io.fundrequest.core.request.domain.IssueInformation;
 import io.fundrequest.core.request.domain.Platform;
 import io.fundrequest.core.request.domain.Request;
 import io.fundrequest.core.request.domain.RequestBuilder;
+import io.fundrequest.core.request.domain.RequestPhase;
 import io.fundrequest.core.request.domain.RequestStatus;
 import io.fundrequest.core.request.domain.RequestTechnology;
 import io.fundrequest.core.request.erc67.ERC67;
 import io.fundrequest.core.request.erc67.Erc67Generator;
 import io.fundrequest.core.request.fund.domain.CreateERC67FundRequest;
 import io.fundrequest.core.request.fund.dto.CommentDto;
+import io.fundrequest.core.request.fund.infrastructure.RefundRequestRepository;
 import io.fundrequest.core.request.infrastructure.RequestRepository;
 import io.fundrequest.core.request.infrastructure.github.parser.GithubPlatformIdParser;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
 import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.request.view.RequestFilterDto;
+import io.fundrequest.core.request.view.RequestPageDto;
+import io.fundrequest.core.request.view.RequestSort;
+import io.fundrequest.core.request.view.RequestVersionDto;
 import io.fundrequest.core.token.model.TokenValue;
 import io.fundrequest.platform.github.GithubGateway;
 import io.fundrequest.platform.github.parser.GithubIssueCommentsResult;
@@ -41,24 +48,36 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
 import java.security.Principal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 class RequestServiceImpl implements RequestService {
 
+    private static final Pattern SEARCH_NUMBER = Pattern.compile("^#?(\\d+)$");
+    private static final int MIN_SEARCH_LENGTH = 3;
+
     private RequestRepository requestRepository;
+    private RequestSummaryRepository requestSummaryRepository;
+    private RefundRequestRepository refundRequestRepository;
     private Mappers mappers;
     private GithubPlatformIdParser githubLinkParser;
     private ProfileService profileService;
@@ -70,6 +89,8 @@ class RequestServiceImpl implements RequestService {
     private Environment environment;
 
     public RequestServiceImpl(final RequestRepository requestRepository,
+                              final RequestSummaryRepository requestSummaryRepository,
+                              final RefundRequestRepository refundRequestRepository,
                               final Mappers mappers,
                               final GithubPlatformIdParser githubLinkParser,
                               final ProfileService profileService,
@@ -80,6 +101,8 @@ class RequestServiceImpl implements RequestService {
                               final Erc67Generator erc67Generator,
                               final Environment environment) {
         this.requestRepository = requestRepository;
+        this.requestSummaryRepository = requestSummaryRepository;
+        this.refundRequestRepository = refundRequestRepository;
         this.mappers = mappers;
         this.githubLinkParser = githubLinkParser;
         this.profileService = profileService;
@@ -103,6 +126,80 @@ class RequestServiceImpl implements RequestService {
         return mappers.mapList(Request.class, RequestDto.class, requestRepository.findAll(ids));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public RequestPageDto findFunded(final RequestFilterDto filter, final String cursor, final int size) {
+        final List<RequestStatus> statuses = getStatuses(filter);
+        if (statuses.isEmpty()) {
+            return RequestPageDto.builder().build();
+        }
+        final Set<String> technologies = filter.getTechnologies()
+                                               .stream()
+                                               .map(String::toLowerCase)
+                                               .collect(Collectors.toSet());
+        final Set<String> technologiesParameter = technologies.isEmpty() ? Collections.singleton("") : technologies;
+        final String project = StringUtils.trimToNull(filter.getProject());
+        final String search = StringUtils.trimToEmpty(filter.getSearch());
+        final Matcher searchNumberMatcher = SEARCH_NUMBER.matcher(search);
+        final String searchNumber = searchNumberMatcher.matches() ? searchNumberMatcher.group(1) : null;
+        final String searchTitle = search.length() >= MIN_SEARCH_LENGTH ? "%" + search.toLowerCase() + "%" : null;
+        final PageRequest limit = new PageRequest(0, size + 1);
+        final RequestCursor after = cursor == null ? null : RequestCursor.decode(cursor, filter.getSort());
+        final List<Request> requests;
+        final RequestCursor last;
+        if (filter.getSort() == RequestSort.USD_VALUE) {
+            final List<Object[]> rows = after == null
+                                        ? requestRepository.findFundedByUsdValue(statuses, project, technologiesParameter, technologies.size(), searchTitle, searchNumber, limit)
+                                        : requestRepository.findFundedByUsdValueAfter(statuses,
+                                                                                      project,
+                                                                                      technologiesParameter,
+                                                                                      technologies.size(),
+                                                                                      searchTitle,
+                                                                                      searchNumber,
+                                                                                      after.getUsdValue(),
+                                                                                      after.getId(),
+                                                                                      limit);
+            requests = rows.stream().map(row -> (Request) row[0]).collect(Collectors.toList());
+            final Object[] lastRow = rows.size() > size ? rows.get(size - 1) : null;
+            last = lastRow == null ? null : RequestCursor.of((BigDecimal) lastRow[1], ((Request) lastRow[0]).getId());
+        } else {
+            requests = after == null
+                       ? requestRepository.findFunded(statuses, project, technologiesParameter, technologies.size(), searchTitle, searchNumber, limit)
+                       : requestRepository.findFundedAfter(statuses,
+                                                           project,
+                                                           technologiesParameter,
+                                                           technologies.size(),
+                                                           searchTitle,
+                                                           searchNumber,
+                                                           after.getLastModifiedDate(),
+                                                           after.getId(),
+                                                           limit);
+            last = requests.size() > size ? RequestCursor.of(requests.get(size - 1)) : null;
+        }
+        final List<Request> page = requests.size() > size ? requests.subList(0, size) : requests;
+        return RequestPageDto.builder()
+                             .requests(mappers.mapList(Request.class, RequestDto.class, page))
+                             .nextCursor(last == null ? null : last.encode())
+                             .build();
+    }
+
+    private List<RequestStatus> getStatuses(final RequestFilterDto filter) {
+        return Arrays.stream(RequestStatus.values())
+                     .filter(status -> filter.getPhase() == null || status.getPhase() == filter.getPhase())
+                     .filter(status -> filter.getStatus() == null || status == filter.getStatus())
+                     .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<RequestPhase, Long> countFundedPerPhase() {
+        final Map<RequestPhase, Long> countPerPhase = new EnumMap<>(RequestPhase.class);
+        for (final Object[] statusCount : requestRepository.countFundedPerStatus()) {
+            countPerPhase.merge(((RequestStatus) statusCount[0]).getPhase(), (Long) statusCount[1], Long::sum);
+        }
+        return countPerPhase;
+    }
+
     @Override
     @Transactional(readOnly = true)
     @Cacheable(value = "technologies", key = "'all'")
@@ -197,6 +294,39 @@ class RequestServiceImpl implements RequestService {
         return mappers.map(Request.class, RequestDto.class, request);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public RequestVersionDto findVersion(final Long id) {
+        return withDependentVersions(requestRepository.findVersion(id).orElseThrow(ResourceNotFoundException::new));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RequestVersionDto findVersion(final Platform platform, final String platformId) {
+        return withDependentVersions(requestRepository.findVersion(platform, platformId).orElseThrow(ResourceNotFoundException::new));
+    }
+
+    private RequestVersionDto withDependentVersions(final RequestVersionDto version) {
+        requestSummaryRepository.findLastModifiedDate(version.getRequestId())
+                                .ifPresent(summaryLastModified -> version.setLastModifiedDate(latest(version.getLastModifiedDate(), summaryLastModified)));
+        refundRequestRepository.findLastModifiedDate(version.getRequestId())
+                               .ifPresent(refundLastModified -> version.setLastModifiedDate(latest(version.getLastModifiedDate(), refundLastModified)));
+        return version;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDateTime findLastModifiedDate() {
+        return latest(requestRepository.findLastModifiedDate(), requestSummaryRepository.findLastModifiedDate());
+    }
+
+    private static LocalDateTime latest(final LocalDateTime first, final LocalDateTime second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return first.isAfter(second) ? first : second;
+    }
+
     @Override
     @Transactional
     @CacheEvict(value = {"projects", "technologies"}, key = "'all'")
@@ -50,7 +50,7 @@ class ClaimDtoAggregator {
                                                                                                     .collect(toList())))
                                            .fndValue(totalFndValue)
                                            .otherValue(totalOtherValue)
-                                           .usdValue(fiatService.getUsdPrice(totalFndValue, totalOtherValue))
+                                           .usdValue(fiatService.getUsdPrice(totalFndValue, totalOtherValue).orElse(null))
                                            .build();
     }
 
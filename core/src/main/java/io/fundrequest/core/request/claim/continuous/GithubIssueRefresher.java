@@ -0,0 +1,56 @@
+package io.fundrequest.core.request.claim.continuous;
+
+import io.fundrequest.core.request.domain.IssueInformation;
+import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.platform.github.GithubIssueBatchFetcher;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "io.fundrequest.github-issue-refresher.enabled", havingValue = "true")
+public class GithubIssueRefresher {
+
+    private final RequestRepository requestRepository;
+    private final GithubIssueBatchFetcher githubIssueBatchFetcher;
+
+    public GithubIssueRefresher(final RequestRepository requestRepository, final GithubIssueBatchFetcher githubIssueBatchFetcher) {
+        this.requestRepository = requestRepository;
+        this.githubIssueBatchFetcher = githubIssueBatchFetcher;
+    }
+
+    @Scheduled(fixedDelayString = "${io.fundrequest.github-issue-refresher.interval-ms:300000}")
+    public void refresh() {
+        final List<GithubId> githubIds = requestRepository.findByStatusIn(Arrays.asList(RequestStatus.FUNDED, RequestStatus.CLAIMABLE))
+                                                          .stream()
+                                                          .map(Request::getIssueInformation)
+                                                          .filter(issue -> issue.getPlatform() == Platform.GITHUB)
+                                                          .map(this::toGithubId)
+                                                          .distinct()
+                                                          .collect(Collectors.toList());
+        try {
+            final int refreshed = githubIssueBatchFetcher.refreshIssues(githubIds).size();
+            log.debug("Refreshed {} of {} GitHub issues", refreshed, githubIds.size());
+        } catch (final Exception ex) {
+            log.error("Unable to refresh GitHub issues: {}", ex.getMessage());
+        }
+    }
+
+    private GithubId toGithubId(final IssueInformation issue) {
+        return GithubId.builder()
+                       .owner(issue.getOwner())
+                       .repo(issue.getRepo())
+                       .number(issue.getNumber())
+                       .build();
+    }
+}
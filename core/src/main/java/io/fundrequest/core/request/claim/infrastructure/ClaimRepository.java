@@ -2,11 +2,29 @@ package io.fundrequest.core.request.claim.infrastructure;
 
 import io.fundrequest.core.infrastructure.repository.JpaRepository;
 import io.fundrequest.core.request.claim.domain.Claim;
+import io.fundrequest.core.request.fund.infrastructure.RequestTokenAmountDto;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ClaimRepository extends JpaRepository<Claim, Long> {
 
     List<Claim> findByRequestId(Long requestId);
 
+    @Query(""
+           + "SELECT new io.fundrequest.core.request.fund.infrastructure.TokenAmountDto(c.tokenValue.tokenAddress, SUM(c.tokenValue.amountInWei)) "
+           + "FROM Claim c "
+           + "WHERE c.requestId = :requestId "
+           + "GROUP BY c.tokenValue.tokenAddress")
+    List<TokenAmountDto> getAmountPerTokenForRequest(@Param("requestId") Long requestId);
+
+    @Query(""
+           + "SELECT new io.fundrequest.core.request.fund.infrastructure.RequestTokenAmountDto(c.requestId, c.tokenValue.tokenAddress, SUM(c.tokenValue.amountInWei)) "
+           + "FROM Claim c "
+           + "WHERE c.requestId IN :requestIds "
+           + "GROUP BY c.requestId, c.tokenValue.tokenAddress")
+    List<RequestTokenAmountDto> getAmountPerTokenForRequests(@Param("requestIds") Collection<Long> requestIds);
 }
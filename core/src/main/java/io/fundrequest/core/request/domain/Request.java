@@ -1,6 +1,7 @@
 package io.fundrequest.core.request.domain;
 
 import io.fundrequest.db.infrastructure.AbstractEntity;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.CollectionTable;
 import javax.persistence.Column;
@@ -26,6 +27,8 @@ import java.util.stream.Collectors;
 @Entity
 public class Request extends AbstractEntity {
 
+    private static final int COLLECTION_BATCH_SIZE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,6 +45,7 @@ public class Request extends AbstractEntity {
     private RequestType type = RequestType.ISSUE;
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @CollectionTable(
             name = "request_watcher",
             joinColumns = @JoinColumn(name = "request_id")
@@ -50,6 +54,7 @@ public class Request extends AbstractEntity {
     private Set<String> watchers = new HashSet<>();
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @CollectionTable(
             name = "request_technology",
             joinColumns = @JoinColumn(name = "request_id")
@@ -1,41 +1,56 @@
 package io.fundrequest.core.request.fiat;
 
-import io.fundrequest.core.infrastructure.exception.ResourceNotFoundException;
-import io.fundrequest.core.request.fiat.coinmarketcap.service.CoinMarketCapService;
-import io.fundrequest.core.request.fiat.cryptocompare.service.CryptoCompareService;
 import io.fundrequest.core.token.dto.TokenValueDto;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 public class FiatService {
 
-    private CryptoCompareService cryptoCompareService;
+    private PriceOracle priceOracle;
 
-    private CoinMarketCapService coinMarketCapService;
-
-    public FiatService(CryptoCompareService cryptoCompareService, CoinMarketCapService coinMarketCapService) {
-        this.cryptoCompareService = cryptoCompareService;
-        this.coinMarketCapService = coinMarketCapService;
+    public FiatService(PriceOracle priceOracle) {
+        this.priceOracle = priceOracle;
     }
 
-    public double getUsdPrice(TokenValueDto... funds) {
-        return Arrays.stream(funds)
-                     .filter(f -> f != null && StringUtils.isNotBlank(f.getTokenSymbol()))
-                     .map(this::getValue)
-                     .mapToDouble(f -> f)
-                     .sum();
+    public Optional<Double> getUsdPrice(TokenValueDto... funds) {
+        return getUsdPrice(getPrices(Arrays.stream(funds).filter(Objects::nonNull).map(TokenValueDto::getTokenSymbol).collect(Collectors.toSet())), funds);
     }
 
-    private Double getValue(TokenValueDto f) {
-        Double currentPrice = coinMarketCapService.getCurrentPriceInUsd(f.getTokenSymbol())
-                                                  .orElseGet(() -> cryptoCompareService.getCurrentPriceInUsd(f.getTokenSymbol())
-                                                                                       .orElseThrow(ResourceNotFoundException::new));
-        return calculateResult(f, currentPrice);
+    public Map<String, TokenPrice> getPrices(Collection<String> symbols) {
+        final Map<String, TokenPrice> prices = new HashMap<>();
+        symbols.stream()
+               .filter(StringUtils::isNotBlank)
+               .distinct()
+               .forEach(symbol -> priceOracle.getPrice(symbol).ifPresent(price -> prices.put(symbol, price)));
+        return prices;
+    }
 
+    public Optional<Double> getUsdPrice(Map<String, TokenPrice> prices, TokenValueDto... funds) {
+        double total = 0;
+        for (final TokenValueDto f : funds) {
+            if (f == null || StringUtils.isBlank(f.getTokenSymbol())) {
+                continue;
+            }
+            final TokenPrice price = prices.get(f.getTokenSymbol());
+            if (price == null) {
+                log.warn("No USD price available for {}", f.getTokenSymbol());
+                return Optional.empty();
+            }
+            total += calculateResult(f, price.getUsd());
+        }
+        return Optional.of(total);
     }
 
     private Double calculateResult(TokenValueDto tokenvalue, Double currentPrice) {
@@ -0,0 +1,100 @@
+package io.fundrequest.core.request.fiat;
+
+import io.fundrequest.core.request.fiat.coinmarketcap.service.CoinMarketCapService;
+import io.fundrequest.core.request.fiat.cryptocompare.service.CryptoCompareService;
+import io.fundrequest.core.token.infrastructure.TokenInfoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Component
+@Slf4j
+public class PriceOracle {
+
+    private final CoinMarketCapService coinMarketCapService;
+    private final CryptoCompareService cryptoCompareService;
+    private final TokenInfoRepository tokenInfoRepository;
+    private final Executor fetchExecutor;
+
+    private final Set<String> symbols = ConcurrentHashMap.newKeySet();
+    private final Map<String, TokenPrice> prices = new ConcurrentHashMap<>();
+
+    public PriceOracle(final CoinMarketCapService coinMarketCapService,
+                       final CryptoCompareService cryptoCompareService,
+                       final TokenInfoRepository tokenInfoRepository,
+                       @Qualifier("backgroundExecutor") final Executor fetchExecutor) {
+        this.coinMarketCapService = coinMarketCapService;
+        this.cryptoCompareService = cryptoCompareService;
+        this.tokenInfoRepository = tokenInfoRepository;
+        this.fetchExecutor = fetchExecutor;
+    }
+
+    @PostConstruct
+    public void seedSymbols() {
+        try {
+            tokenInfoRepository.findAllSymbols().forEach(symbol -> symbols.add(symbol.toUpperCase()));
+            log.info("Seeded the price oracle with {} token symbols", symbols.size());
+        } catch (final Exception e) {
+            log.warn("Unable to seed the price oracle with the known token symbols: {}", e.getMessage());
+        }
+    }
+
+    public Optional<TokenPrice> getPrice(final String symbol) {
+        final String key = symbol.toUpperCase();
+        final TokenPrice price = prices.get(key);
+        if (price == null && symbols.add(key)) {
+            // unknown symbol: fetched once in the background, the schedule keeps it fresh from then on
+            try {
+                fetchExecutor.execute(() -> refresh(Collections.singletonList(key)));
+            } catch (final RejectedExecutionException e) {
+                log.debug("Unable to schedule the first price fetch of {}, leaving it to the next refresh", key);
+            }
+        }
+        return Optional.ofNullable(price);
+    }
+
+    public Map<String, TokenPrice> getPrices() {
+        return new HashMap<>(prices);
+    }
+
+    @Scheduled(fixedDelayString = "${io.fundrequest.price-oracle.refresh-interval-ms:60000}")
+    public void refresh() {
+        refresh(new ArrayList<>(symbols));
+    }
+
+    private void refresh(final Collection<String> symbolsToRefresh) {
+        if (symbolsToRefresh.isEmpty()) {
+            return;
+        }
+        final Map<String, Double> fetched = new HashMap<>();
+        try {
+            fetched.putAll(coinMarketCapService.getCurrentPricesInUsd(symbolsToRefresh));
+        } catch (final Exception e) {
+            log.warn("Unable to fetch prices from CoinMarketCap: {}", e.getMessage());
+        }
+        final List<String> missing = new ArrayList<>();
+        symbolsToRefresh.stream().filter(symbol -> !fetched.containsKey(symbol)).forEach(missing::add);
+        try {
+            fetched.putAll(cryptoCompareService.getCurrentPricesInUsd(missing));
+        } catch (final Exception e) {
+            log.warn("Unable to fetch prices from CryptoCompare: {}", e.getMessage());
+        }
+        final Instant now = Instant.now();
+        fetched.forEach((symbol, usd) -> prices.put(symbol, new TokenPrice(usd, now)));
+    }
+}
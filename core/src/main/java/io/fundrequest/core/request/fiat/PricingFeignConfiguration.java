@@ -0,0 +1,21 @@
+package io.fundrequest.core.request.fiat;
+
+import feign.Request;
+import io.fundrequest.common.infrastructure.IgnoreDuringComponentScan;
+import io.fundrequest.common.infrastructure.feign.PerClientHystrixFeignConfiguration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@Configuration
+@IgnoreDuringComponentScan
+@Import(PerClientHystrixFeignConfiguration.class)
+public class PricingFeignConfiguration {
+
+    @Bean
+    public Request.Options pricingRequestOptions(@Value("${io.fundrequest.pricing.connect-timeout-ms:2000}") final int connectTimeoutInMillis,
+                                                 @Value("${io.fundrequest.pricing.read-timeout-ms:3500}") final int readTimeoutInMillis) {
+        return new Request.Options(connectTimeoutInMillis, readTimeoutInMillis);
+    }
+}
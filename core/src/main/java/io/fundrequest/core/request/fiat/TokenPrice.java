@@ -0,0 +1,17 @@
+package io.fundrequest.core.request.fiat;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Value
+public class TokenPrice {
+
+    private final double usd;
+    private final Instant fetchedAt;
+
+    public Duration getAge() {
+        return Duration.between(fetchedAt, Instant.now());
+    }
+}
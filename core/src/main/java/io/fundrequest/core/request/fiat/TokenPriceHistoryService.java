@@ -0,0 +1,22 @@
+package io.fundrequest.core.request.fiat;
+
+import io.fundrequest.core.request.claim.domain.Claim;
+import io.fundrequest.core.request.fund.domain.Fund;
+import io.fundrequest.core.token.dto.TokenValueDto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+public interface TokenPriceHistoryService {
+
+    void record(Map<String, TokenPrice> prices);
+
+    Optional<Double> getUsdPrice(String symbol, LocalDateTime timestamp);
+
+    double getUsdValue(TokenValueDto tokenValue, LocalDateTime timestamp);
+
+    double getUsdValue(Fund fund);
+
+    double getUsdValue(Claim claim);
+}
@@ -0,0 +1,122 @@
+package io.fundrequest.core.request.fiat;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.fundrequest.core.request.claim.domain.Claim;
+import io.fundrequest.core.request.fiat.domain.TokenPriceBucket;
+import io.fundrequest.core.request.fiat.infrastructure.TokenPriceBucketRepository;
+import io.fundrequest.core.request.fund.domain.Fund;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.mapper.TokenValueMapper;
+import io.fundrequest.core.token.model.TokenValue;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class TokenPriceHistoryServiceImpl implements TokenPriceHistoryService {
+
+    private final TokenPriceBucketRepository tokenPriceBucketRepository;
+    private final TokenValueMapper tokenValueMapper;
+    private final int recentWindowInDays;
+
+    private final LoadingCache<String, NavigableMap<LocalDate, Double>> recentPrices;
+
+    @Autowired
+    public TokenPriceHistoryServiceImpl(final TokenPriceBucketRepository tokenPriceBucketRepository,
+                                        final TokenValueMapper tokenValueMapper,
+                                        @Value("${io.fundrequest.price-history.recent-window-days:90}") final int recentWindowInDays,
+                                        @Value("${io.fundrequest.price-history.recent-expire-after-write-ms:900000}") final long recentExpireAfterWriteInMillis) {
+        this(tokenPriceBucketRepository, tokenValueMapper, recentWindowInDays, Duration.ofMillis(recentExpireAfterWriteInMillis), Ticker.systemTicker());
+    }
+
+    TokenPriceHistoryServiceImpl(final TokenPriceBucketRepository tokenPriceBucketRepository,
+                                 final TokenValueMapper tokenValueMapper,
+                                 final int recentWindowInDays,
+                                 final Duration recentExpireAfterWrite,
+                                 final Ticker ticker) {
+        this.tokenPriceBucketRepository = tokenPriceBucketRepository;
+        this.tokenValueMapper = tokenValueMapper;
+        this.recentWindowInDays = recentWindowInDays;
+        this.recentPrices = Caffeine.newBuilder()
+                                    .expireAfterWrite(recentExpireAfterWrite.toMillis(), TimeUnit.MILLISECONDS)
+                                    .ticker(ticker)
+                                    .build(this::loadRecentPrices);
+    }
+
+    @Override
+    @Transactional
+    public void record(final Map<String, TokenPrice> prices) {
+        prices.forEach((symbol, price) -> {
+            final LocalDate day = price.getFetchedAt().atZone(ZoneId.systemDefault()).toLocalDate();
+            final TokenPriceBucket bucket = tokenPriceBucketRepository.findBySymbolAndPriceDate(symbol, day)
+                                                                      .orElseGet(() -> new TokenPriceBucket(symbol, day));
+            bucket.addSample(price.getUsd());
+            tokenPriceBucketRepository.save(bucket);
+            getRecentPrices(symbol).put(day, bucket.getUsdPrice().doubleValue());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Double> getUsdPrice(final String symbol, final LocalDateTime timestamp) {
+        final String key = symbol.toUpperCase();
+        final LocalDate day = timestamp.toLocalDate();
+        final Map.Entry<LocalDate, Double> recent = getRecentPrices(key).floorEntry(day);
+        if (recent != null) {
+            return Optional.of(recent.getValue());
+        }
+        // before the first bucket there is no historical price, today's price would misvalue it
+        return tokenPriceBucketRepository.findFirstBySymbolAndPriceDateLessThanEqualOrderByPriceDateDesc(key, day)
+                                         .map(TokenPriceBucket::getUsdPrice)
+                                         .map(BigDecimal::doubleValue);
+    }
+
+    @Override
+    public double getUsdValue(final TokenValueDto tokenValue, final LocalDateTime timestamp) {
+        if (tokenValue == null || StringUtils.isBlank(tokenValue.getTokenSymbol())) {
+            return 0;
+        }
+        return getUsdPrice(tokenValue.getTokenSymbol(), timestamp).map(price -> tokenValue.getTotalAmount().multiply(BigDecimal.valueOf(price)).doubleValue())
+                                                                  .orElse(0D);
+    }
+
+    @Override
+    public double getUsdValue(final Fund fund) {
+        return getUsdValue(map(fund.getTokenValue()), fund.getTimestamp());
+    }
+
+    @Override
+    public double getUsdValue(final Claim claim) {
+        return getUsdValue(map(claim.getTokenValue()), claim.getTimestamp());
+    }
+
+    private TokenValueDto map(final TokenValue tokenValue) {
+        return tokenValue == null ? null : tokenValueMapper.map(tokenValue.getTokenAddress(), tokenValue.getAmountInWei());
+    }
+
+    private NavigableMap<LocalDate, Double> getRecentPrices(final String symbol) {
+        return recentPrices.get(symbol);
+    }
+
+    private NavigableMap<LocalDate, Double> loadRecentPrices(final String symbol) {
+        final NavigableMap<LocalDate, Double> prices = new ConcurrentSkipListMap<>();
+        tokenPriceBucketRepository.findBySymbolAndPriceDateGreaterThanEqual(symbol, LocalDate.now().minusDays(recentWindowInDays))
+                                  .forEach(bucket -> prices.put(bucket.getPriceDate(), bucket.getUsdPrice().doubleValue()));
+        return prices;
+    }
+}
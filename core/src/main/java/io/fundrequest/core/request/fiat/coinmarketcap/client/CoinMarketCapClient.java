@@ -1,5 +1,6 @@
 package io.fundrequest.core.request.fiat.coinmarketcap.client;
 
+import io.fundrequest.core.request.fiat.PricingFeignConfiguration;
 import io.fundrequest.core.request.fiat.coinmarketcap.dto.listing.CmcListingsResult;
 import io.fundrequest.core.request.fiat.coinmarketcap.dto.ticker.CmcTickerResult;
 import org.springframework.cloud.netflix.feign.FeignClient;
@@ -9,7 +10,8 @@ import org.springframework.web.bind.annotation.RequestMethod;
 
 @FeignClient(
         name = "coinmarketcap-client",
-        url = "https://api.coinmarketcap.com/v2"
+        url = "https://api.coinmarketcap.com/v2",
+        configuration = PricingFeignConfiguration.class
 )
 public interface CoinMarketCapClient {
 
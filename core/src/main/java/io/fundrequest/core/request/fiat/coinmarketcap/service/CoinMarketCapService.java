@@ -2,12 +2,16 @@ package io.fundrequest.core.request.fiat.coinmarketcap.service;
 
 import io.fundrequest.core.request.fiat.coinmarketcap.client.CoinMarketCapClient;
 import io.fundrequest.core.request.fiat.coinmarketcap.dto.listing.CmcListing;
+import io.fundrequest.core.request.fiat.coinmarketcap.dto.ticker.CmcTickerResult;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class CoinMarketCapService {
@@ -20,29 +24,40 @@ public class CoinMarketCapService {
         this.cacheManager = cacheManager;
     }
 
-    @Cacheable(value = "cmc_token_price", key = "#symbol")
-    public Optional<Double> getCurrentPriceInUsd(final String symbol) {
-        return getListing(symbol)
-                .map(CmcListing::getId)
-                .map(id -> client.getTickerById(id))
-                .map(t -> t.getData().getQuotes().getUsd().getPrice());
+    public Map<String, Double> getCurrentPricesInUsd(final Collection<String> symbols) {
+        final Map<String, Long> index = getListingIndex();
+        final Map<Long, List<String>> symbolsById = symbols.stream()
+                                                           .map(String::toUpperCase)
+                                                           .filter(index::containsKey)
+                                                           .collect(Collectors.groupingBy(index::get));
+        final Map<String, Double> prices = new HashMap<>();
+        symbolsById.forEach((id, symbolsForId) -> getPrice(id).ifPresent(price -> symbolsForId.forEach(symbol -> prices.put(symbol, price))));
+        return prices;
     }
 
-    private Optional<CmcListing> getListing(String symbol) {
-        return getListings()
-                .stream()
-                .filter(l -> symbol.equalsIgnoreCase(l.getSymbol()))
-                .findFirst();
-
+    private Optional<Double> getPrice(final Long id) {
+        return Optional.ofNullable(client.getTickerById(id))
+                       .map(CmcTickerResult::getData)
+                       .map(t -> t.getQuotes().getUsd().getPrice());
     }
 
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> getListingIndex() {
+        Map<String, Long> index = cacheManager.getCache("cmc_listings").get("index", Map.class);
+        if (index == null) {
+            index = buildIndex(client.getListings().getListings());
+            cacheManager.getCache("cmc_listings").put("index", index);
+        }
+        return index;
+    }
 
-    private List<CmcListing> getListings() {
-        List listings = cacheManager.getCache("cmc_listings").get("all", List.class);
-        if (listings == null) {
-            listings = client.getListings().getListings();
-            cacheManager.getCache("cmc_listings").put("all", listings);
+    private Map<String, Long> buildIndex(final List<CmcListing> listings) {
+        final Map<String, Long> index = new HashMap<>(listings.size() * 2);
+        for (final CmcListing listing : listings) {
+            if (listing.getSymbol() != null) {
+                index.putIfAbsent(listing.getSymbol().toUpperCase(), listing.getId());
+            }
         }
-        return listings;
+        return index;
     }
 }
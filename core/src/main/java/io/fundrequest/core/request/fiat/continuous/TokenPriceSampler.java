@@ -0,0 +1,49 @@
+package io.fundrequest.core.request.fiat.continuous;
+
+import io.fundrequest.core.request.fiat.PriceOracle;
+import io.fundrequest.core.request.fiat.TokenPrice;
+import io.fundrequest.core.request.fiat.TokenPriceHistoryService;
+import io.fundrequest.core.token.infrastructure.TokenInfoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "io.fundrequest.token-price-sampler.enabled", havingValue = "true")
+public class TokenPriceSampler {
+
+    private final PriceOracle priceOracle;
+    private final TokenInfoRepository tokenInfoRepository;
+    private final TokenPriceHistoryService tokenPriceHistoryService;
+    private final Map<String, Instant> sampledAt = new HashMap<>();
+
+    public TokenPriceSampler(final PriceOracle priceOracle, final TokenInfoRepository tokenInfoRepository, final TokenPriceHistoryService tokenPriceHistoryService) {
+        this.priceOracle = priceOracle;
+        this.tokenInfoRepository = tokenInfoRepository;
+        this.tokenPriceHistoryService = tokenPriceHistoryService;
+    }
+
+    @Scheduled(fixedDelayString = "${io.fundrequest.token-price-sampler.interval-ms:900000}")
+    public void sample() {
+        try {
+            final Map<String, TokenPrice> observations = new HashMap<>();
+            tokenInfoRepository.findAllSymbols()
+                               .stream()
+                               .map(String::toUpperCase)
+                               .distinct()
+                               .forEach(symbol -> priceOracle.getPrice(symbol)
+                                                             .filter(price -> !price.getFetchedAt().equals(sampledAt.get(symbol)))
+                                                             .ifPresent(price -> observations.put(symbol, price)));
+            tokenPriceHistoryService.record(observations);
+            observations.forEach((symbol, price) -> sampledAt.put(symbol, price.getFetchedAt()));
+        } catch (final Exception ex) {
+            log.error("Unable to record token prices: {}", ex.getMessage());
+        }
+    }
+}
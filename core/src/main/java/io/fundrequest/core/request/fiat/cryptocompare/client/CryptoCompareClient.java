@@ -1,18 +1,25 @@
 package io.fundrequest.core.request.fiat.cryptocompare.client;
 
+import io.fundrequest.core.request.fiat.PricingFeignConfiguration;
 import io.fundrequest.core.request.fiat.cryptocompare.dto.PriceResultDto;
 import org.springframework.cloud.netflix.feign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 
+import java.util.Map;
+
 @FeignClient(
         name = "cryptocompare-client",
-        url = "https://min-api.cryptocompare.com"
+        url = "https://min-api.cryptocompare.com",
+        configuration = PricingFeignConfiguration.class
 )
 public interface CryptoCompareClient {
 
     @RequestMapping(value = "/data/price?fsym={symbol}&tsyms=USD", method = RequestMethod.GET)
     PriceResultDto getPrice(final @PathVariable("symbol") String symbol);
 
+    @RequestMapping(value = "/data/pricemulti?fsyms={symbols}&tsyms=USD", method = RequestMethod.GET)
+    Map<String, Map<String, Double>> getPrices(final @PathVariable("symbols") String symbols);
+
 }
@@ -1,23 +1,33 @@
 package io.fundrequest.core.request.fiat.cryptocompare.service;
 
 import io.fundrequest.core.request.fiat.cryptocompare.client.CryptoCompareClient;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 public class CryptoCompareService {
 
+    private static final String USD = "USD";
+
     private final CryptoCompareClient client;
 
     public CryptoCompareService(CryptoCompareClient client) {
         this.client = client;
     }
 
-    @Cacheable(value = "token_price", key = "#symbol")
-    public Optional<Double> getCurrentPriceInUsd(final String symbol) {
-        String price = client.getPrice(symbol).getUSD();
-        return price == null ? Optional.empty() : Optional.of(Double.valueOf(price));
+    public Map<String, Double> getCurrentPricesInUsd(final Collection<String> symbols) {
+        final Map<String, Double> prices = new HashMap<>();
+        if (symbols.isEmpty()) {
+            return prices;
+        }
+        client.getPrices(String.join(",", symbols)).forEach((symbol, quotes) -> {
+            if (quotes != null && quotes.get(USD) != null) {
+                prices.put(symbol.toUpperCase(), quotes.get(USD));
+            }
+        });
+        return prices;
     }
 }
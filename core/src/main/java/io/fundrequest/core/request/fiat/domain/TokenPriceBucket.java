@@ -0,0 +1,50 @@
+package io.fundrequest.core.request.fiat.domain;
+
+import io.fundrequest.db.infrastructure.AbstractEntity;
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+
+@Table(name = "token_price_bucket")
+@Entity
+@Getter
+public class TokenPriceBucket extends AbstractEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "symbol")
+    private String symbol;
+
+    @Column(name = "price_date")
+    private LocalDate priceDate;
+
+    @Column(name = "usd_price")
+    private BigDecimal usdPrice = BigDecimal.ZERO;
+
+    @Column(name = "sample_count")
+    private int sampleCount;
+
+    protected TokenPriceBucket() {
+    }
+
+    public TokenPriceBucket(final String symbol, final LocalDate priceDate) {
+        this.symbol = symbol;
+        this.priceDate = priceDate;
+    }
+
+    public void addSample(final double usd) {
+        final BigDecimal total = usdPrice.multiply(BigDecimal.valueOf(sampleCount)).add(BigDecimal.valueOf(usd));
+        sampleCount++;
+        usdPrice = total.divide(BigDecimal.valueOf(sampleCount), MathContext.DECIMAL64);
+    }
+}
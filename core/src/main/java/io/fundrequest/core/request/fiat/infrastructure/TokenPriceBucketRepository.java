@@ -0,0 +1,17 @@
+package io.fundrequest.core.request.fiat.infrastructure;
+
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+import io.fundrequest.core.request.fiat.domain.TokenPriceBucket;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface TokenPriceBucketRepository extends JpaRepository<TokenPriceBucket, Long> {
+
+    Optional<TokenPriceBucket> findBySymbolAndPriceDate(String symbol, LocalDate priceDate);
+
+    Optional<TokenPriceBucket> findFirstBySymbolAndPriceDateLessThanEqualOrderByPriceDateDesc(String symbol, LocalDate priceDate);
+
+    List<TokenPriceBucket> findBySymbolAndPriceDateGreaterThanEqual(String symbol, LocalDate priceDate);
+}
@@ -0,0 +1,16 @@
+package io.fundrequest.core.request.fund;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+
+public interface FundLedgerService {
+
+    Map<String, BigDecimal> getBalancesByToken(Long requestId);
+
+    Map<String, BigDecimal> getClaimedByToken(Long requestId);
+
+    Map<Long, Map<String, BigDecimal>> getBalancesByToken(Collection<Long> requestIds);
+
+    Map<Long, Map<String, BigDecimal>> getClaimedByToken(Collection<Long> requestIds);
+}
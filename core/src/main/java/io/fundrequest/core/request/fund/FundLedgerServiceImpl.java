@@ -0,0 +1,80 @@
+package io.fundrequest.core.request.fund;
+
+import io.fundrequest.core.request.claim.infrastructure.ClaimRepository;
+import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.fund.infrastructure.RefundRepository;
+import io.fundrequest.core.request.fund.infrastructure.RequestTokenAmountDto;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+class FundLedgerServiceImpl implements FundLedgerService {
+
+    private final FundRepository fundRepository;
+    private final RefundRepository refundRepository;
+    private final ClaimRepository claimRepository;
+
+    public FundLedgerServiceImpl(final FundRepository fundRepository, final RefundRepository refundRepository, final ClaimRepository claimRepository) {
+        this.fundRepository = fundRepository;
+        this.refundRepository = refundRepository;
+        this.claimRepository = claimRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, BigDecimal> getBalancesByToken(final Long requestId) {
+        final Map<String, BigDecimal> balances = new LinkedHashMap<>();
+        addAll(balances, fundRepository.getAmountPerTokenForRequest(requestId), false);
+        addAll(balances, refundRepository.getAmountPerTokenForRequest(requestId), true);
+        addAll(balances, claimRepository.getAmountPerTokenForRequest(requestId), true);
+        return balances;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, BigDecimal> getClaimedByToken(final Long requestId) {
+        final Map<String, BigDecimal> claimed = new LinkedHashMap<>();
+        addAll(claimed, claimRepository.getAmountPerTokenForRequest(requestId), false);
+        return claimed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, BigDecimal>> getBalancesByToken(final Collection<Long> requestIds) {
+        final Map<Long, Map<String, BigDecimal>> balances = new HashMap<>();
+        addAllPerRequest(balances, fundRepository.getAmountPerTokenForRequests(requestIds), false);
+        addAllPerRequest(balances, refundRepository.getAmountPerTokenForRequests(requestIds), true);
+        addAllPerRequest(balances, claimRepository.getAmountPerTokenForRequests(requestIds), true);
+        return balances;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, BigDecimal>> getClaimedByToken(final Collection<Long> requestIds) {
+        final Map<Long, Map<String, BigDecimal>> claimed = new HashMap<>();
+        addAllPerRequest(claimed, claimRepository.getAmountPerTokenForRequests(requestIds), false);
+        return claimed;
+    }
+
+    private void addAllPerRequest(final Map<Long, Map<String, BigDecimal>> totals, final List<RequestTokenAmountDto> tokenAmounts, final boolean subtract) {
+        for (final RequestTokenAmountDto tokenAmount : tokenAmounts) {
+            addAll(totals.computeIfAbsent(tokenAmount.getRequestId(), requestId -> new LinkedHashMap<>()), Collections.singletonList(tokenAmount), subtract);
+        }
+    }
+
+    private void addAll(final Map<String, BigDecimal> totals, final List<? extends TokenAmountDto> tokenAmounts, final boolean subtract) {
+        for (final TokenAmountDto tokenAmount : tokenAmounts) {
+            final BigDecimal amount = subtract ? tokenAmount.getTotalAmount().negate() : tokenAmount.getTotalAmount();
+            totals.merge(tokenAmount.getTokenAddress().toLowerCase(), amount, BigDecimal::add);
+        }
+    }
+}
@@ -5,8 +5,11 @@ import io.fundrequest.core.request.fund.dto.FundDto;
 import io.fundrequest.core.request.fund.dto.FundsForRequestDto;
 import io.fundrequest.core.token.dto.TokenValueDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface FundService {
     List<FundDto> findAll();
@@ -17,6 +20,8 @@ public interface FundService {
 
     List<TokenValueDto> getTotalFundsForRequest(Long requestId);
 
+    Map<Long, List<TokenValueDto>> getTotalFundsForRequests(Collection<Long> requestIds);
+
     FundsForRequestDto getFundsForRequestGroupedByFunder(Long requestId);
 
     void clearTotalFundsCache(Long requestId);
@@ -24,4 +29,6 @@ public interface FundService {
     void addFunds(FundsAddedCommand command);
 
     Optional<TokenValueDto> getFundsFor(Long requestId, String funderAddress, String tokenAddress);
+
+    CompletableFuture<Optional<TokenValueDto>> getFundsForAsync(Long requestId, String funderAddress, String tokenAddress);
 }
@@ -10,16 +10,12 @@ import io.fundrequest.core.request.fiat.FiatService;
 import io.fundrequest.core.request.fund.command.FundsAddedCommand;
 import io.fundrequest.core.request.fund.domain.Fund;
 import io.fundrequest.core.request.fund.domain.PendingFund;
-import io.fundrequest.core.request.fund.domain.Refund;
 import io.fundrequest.core.request.fund.dto.FundDto;
-import io.fundrequest.core.request.fund.dto.FundFundsByFunderAggregator;
-import io.fundrequest.core.request.fund.dto.FundsAndRefundsAggregator;
 import io.fundrequest.core.request.fund.dto.FundsForRequestDto;
-import io.fundrequest.core.request.fund.dto.RefundFundsByFunderAggregator;
+import io.fundrequest.core.request.fund.dto.UserFundsAggregator;
 import io.fundrequest.core.request.fund.event.RequestFundedEvent;
 import io.fundrequest.core.request.fund.infrastructure.FundRepository;
 import io.fundrequest.core.request.fund.infrastructure.PendingFundRepository;
-import io.fundrequest.core.request.fund.infrastructure.RefundRepository;
 import io.fundrequest.core.request.infrastructure.RequestRepository;
 import io.fundrequest.core.token.dto.TokenValueDto;
 import io.fundrequest.core.token.mapper.TokenValueMapper;
@@ -33,15 +29,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.LongStream;
-import java.util.stream.Stream;
 
 import static java.math.BigDecimal.ZERO;
 
@@ -49,46 +46,40 @@ import static java.math.BigDecimal.ZERO;
 class FundServiceImpl implements FundService {
 
     private final FundRepository fundRepository;
-    private final RefundRepository refundRepository;
     private final PendingFundRepository pendingFundRepository;
     private final RequestRepository requestRepository;
     private final Mappers mappers;
     private final ApplicationEventPublisher eventPublisher;
     private final CacheManager cacheManager;
     private final FundRequestContractsService fundRequestContractsService;
+    private final FundLedgerService fundLedgerService;
     private final FiatService fiatService;
     private final TokenValueMapper tokenValueMapper;
-    private final FundFundsByFunderAggregator fundFundsByFunderAggregator;
-    private final RefundFundsByFunderAggregator refundFundsByFunderAggregator;
-    private final FundsAndRefundsAggregator fundsAndRefundsAggregator;
+    private final UserFundsAggregator userFundsAggregator;
 
     @Autowired
     public FundServiceImpl(final FundRepository fundRepository,
-                           final RefundRepository refundRepository,
                            final PendingFundRepository pendingFundRepository,
                            final RequestRepository requestRepository,
                            final Mappers mappers,
                            final ApplicationEventPublisher eventPublisher,
                            final CacheManager cacheManager,
                            final FundRequestContractsService fundRequestContractsService,
+                           final FundLedgerService fundLedgerService,
                            final FiatService fiatService,
                            final TokenValueMapper tokenValueMapper,
-                           final FundFundsByFunderAggregator fundFundsByFunderAggregator,
-                           final RefundFundsByFunderAggregator refundFundsByFunderAggregator,
-                           final FundsAndRefundsAggregator fundsAndRefundsAggregator) {
+                           final UserFundsAggregator userFundsAggregator) {
         this.fundRepository = fundRepository;
-        this.refundRepository = refundRepository;
         this.pendingFundRepository = pendingFundRepository;
         this.requestRepository = requestRepository;
         this.mappers = mappers;
         this.eventPublisher = eventPublisher;
         this.cacheManager = cacheManager;
         this.fundRequestContractsService = fundRequestContractsService;
+        this.fundLedgerService = fundLedgerService;
         this.fiatService = fiatService;
         this.tokenValueMapper = tokenValueMapper;
-        this.fundFundsByFunderAggregator = fundFundsByFunderAggregator;
-        this.refundFundsByFunderAggregator = refundFundsByFunderAggregator;
-        this.fundsAndRefundsAggregator = fundsAndRefundsAggregator;
+        this.userFundsAggregator = userFundsAggregator;
     }
 
     @Transactional(readOnly = true)
@@ -117,52 +108,53 @@ class FundServiceImpl implements FundService {
 
         final Optional<Request> one = requestRepository.findOne(requestId);
         if (one.isPresent()) {
-            try {
-                if (one.get().getStatus() == RequestStatus.CLAIMED) {
-                    return getFromClaimRepository(one.get());
-                } else {
-                    return getFromFundRepository(one.get());
-                }
-            } catch (final Exception ex) {
-                return Collections.emptyList();
+            if (one.get().getStatus() == RequestStatus.CLAIMED) {
+                return toTokenValues(fundLedgerService.getClaimedByToken(requestId));
+            } else {
+                return toTokenValues(fundLedgerService.getBalancesByToken(requestId));
             }
         } else {
             return Collections.emptyList();
         }
     }
 
-    private List<TokenValueDto> getFromClaimRepository(final Request request) {
-        final Long tokenCount = fundRequestContractsService.claimRepository()
-                                                           .getTokenCount(request.getIssueInformation().getPlatform().name(),
-                                                                          request.getIssueInformation().getPlatformId());
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<TokenValueDto>> getTotalFundsForRequests(final Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<Boolean, List<Long>> idsByClaimed = requestRepository.findAll(requestIds)
+                                                                       .stream()
+                                                                       .collect(Collectors.partitioningBy(request -> request.getStatus() == RequestStatus.CLAIMED,
+                                                                                                          Collectors.mapping(Request::getId, Collectors.toList())));
+        final Map<Long, List<TokenValueDto>> totalFunds = new HashMap<>();
+        addTotalFunds(totalFunds, idsByClaimed.get(false), fundLedgerService::getBalancesByToken);
+        addTotalFunds(totalFunds, idsByClaimed.get(true), fundLedgerService::getClaimedByToken);
+        return totalFunds;
+    }
 
-        return LongStream.range(0, tokenCount)
-                         .mapToObj(x -> fundRequestContractsService.claimRepository()
-                                                                   .getTokenByIndex(request.getIssueInformation().getPlatform().name(),
-                                                                                    request.getIssueInformation().getPlatformId(),
-                                                                                    x))
-                         .filter(Optional::isPresent)
-                         .map(Optional::get)
-                         .map(getTotalClaimFundDto(request)).collect(Collectors.toList());
+    private void addTotalFunds(final Map<Long, List<TokenValueDto>> totalFunds,
+                               final List<Long> requestIds,
+                               final Function<Collection<Long>, Map<Long, Map<String, BigDecimal>>> ledger) {
+        if (requestIds.isEmpty()) {
+            return;
+        }
+        final Map<Long, Map<String, BigDecimal>> amountsByRequest = ledger.apply(requestIds);
+        requestIds.forEach(requestId -> totalFunds.put(requestId, toTokenValues(amountsByRequest.getOrDefault(requestId, Collections.emptyMap()))));
     }
 
-    private List<TokenValueDto> getFromFundRepository(final Request request) {
-        final Long fundedTokenCount = fundRequestContractsService.fundRepository()
-                                                                 .getFundedTokenCount(request.getIssueInformation().getPlatform().name(),
-                                                                                      request.getIssueInformation().getPlatformId());
-        return LongStream.range(0, fundedTokenCount)
-                         .mapToObj(x -> fundRequestContractsService.fundRepository()
-                                                                   .getFundedToken(request.getIssueInformation().getPlatform().name(),
-                                                                                   request.getIssueInformation().getPlatformId(),
-                                                                                   x)).filter(Optional::isPresent)
-                         .map(Optional::get)
-                         .map(getTotalFundDto(request)).collect(Collectors.toList());
+    private List<TokenValueDto> toTokenValues(final Map<String, BigDecimal> amountsByToken) {
+        return amountsByToken.entrySet()
+                             .stream()
+                             .map(amount -> tokenValueMapper.map(amount.getKey(), amount.getValue()))
+                             .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public FundsForRequestDto getFundsForRequestGroupedByFunder(final Long requestId) {
-        final List<UserFundsDto> userFunds = getFundsAndRefundsFor(requestId);
+        final List<UserFundsDto> userFunds = userFundsAggregator.aggregate(fundRepository.getAmountPerFunderAndTokenForRequest(requestId));
         enrichFundsWithZeroValues(userFunds);
         final TokenValueDto fndFunds = totalFunds(userFunds, UserFundsDto::getFndFunds, UserFundsDto::getFndRefunds);
         final TokenValueDto otherFunds = totalFunds(userFunds, UserFundsDto::getOtherFunds, UserFundsDto::getOtherRefunds);
@@ -170,18 +162,10 @@ class FundServiceImpl implements FundService {
                                  .userFunds(userFunds)
                                  .fndFunds(fndFunds)
                                  .otherFunds(otherFunds)
-                                 .usdFunds(fiatService.getUsdPrice(fndFunds, otherFunds))
+                                 .usdFunds(fiatService.getUsdPrice(fndFunds, otherFunds).orElse(null))
                                  .build();
     }
 
-    private List<UserFundsDto> getFundsAndRefundsFor(final Long requestId) {
-        final List<Fund> fundsForRequest = fundRepository.findAllByRequestId(requestId);
-        final List<Refund> refundsForRequest = refundRepository.findAllByRequestId(requestId);
-        return fundsAndRefundsAggregator.aggregate(Stream.concat(fundFundsByFunderAggregator.aggregate(fundsForRequest).stream(),
-                                                                 refundFundsByFunderAggregator.aggregate(refundsForRequest).stream())
-                                                         .collect(Collectors.toList()));
-    }
-
     private void enrichFundsWithZeroValues(final List<UserFundsDto> userFunds) {
         TokenValueDto fndFundTemplate = null;
         TokenValueDto otherFundTemplate = null;
@@ -265,26 +249,6 @@ class FundServiceImpl implements FundService {
         // Intentionally blank
     }
 
-    private Function<String, TokenValueDto> getTotalClaimFundDto(final Request request) {
-        return tokenAddress -> {
-            final BigDecimal rawBalance = new BigDecimal(fundRequestContractsService.claimRepository()
-                                                                                    .getAmountByToken(request.getIssueInformation().getPlatform().name(),
-                                                                                                      request.getIssueInformation().getPlatformId(),
-                                                                                                      tokenAddress));
-            return tokenValueMapper.map(tokenAddress, rawBalance);
-        };
-    }
-
-    private Function<String, TokenValueDto> getTotalFundDto(final Request request) {
-        return tokenAddress -> {
-            final BigDecimal rawBalance = new BigDecimal(fundRequestContractsService.fundRepository()
-                                                                                    .balance(request.getIssueInformation().getPlatform().name(),
-                                                                                             request.getIssueInformation().getPlatformId(),
-                                                                                             tokenAddress));
-            return tokenValueMapper.map(tokenAddress, rawBalance);
-        };
-    }
-
     @Override
     @Transactional
     public void addFunds(final FundsAddedCommand command) {
@@ -313,20 +277,23 @@ class FundServiceImpl implements FundService {
 
     @Override
     public Optional<TokenValueDto> getFundsFor(final Long requestId, final String funderAddress, final String tokenAddress) {
+        return getFundsForAsync(requestId, funderAddress, tokenAddress).join();
+    }
+
+    @Override
+    public CompletableFuture<Optional<TokenValueDto>> getFundsForAsync(final Long requestId, final String funderAddress, final String tokenAddress) {
         return requestRepository.findOne(requestId)
                                 .map(request -> {
-                                    try {
-                                        final IssueInformation issueInformation = request.getIssueInformation();
-                                        final BigInteger amountFunded = fundRequestContractsService.fundRepository()
-                                                                                                   .amountFunded(issueInformation.getPlatform().name(),
-                                                                                                                 issueInformation.getPlatformId(),
-                                                                                                                 funderAddress,
-                                                                                                                 tokenAddress)
-                                                                                                   .send();
-                                        return tokenValueMapper.map(tokenAddress, new BigDecimal(amountFunded));
-                                    } catch (Exception e) {
-                                        return null;
-                                    }
-                                });
+                                    final IssueInformation issueInformation = request.getIssueInformation();
+                                    return fundRequestContractsService.fundRepositoryAsync()
+                                                                      .thenCompose(fundRepository -> fundRepository.amountFunded(issueInformation.getPlatform().name(),
+                                                                                                                                 issueInformation.getPlatformId(),
+                                                                                                                                 funderAddress,
+                                                                                                                                 tokenAddress,
+                                                                                                                                 fundRequestContractsService.getCallTimeout()))
+                                                                      .thenApply(amountFunded -> Optional.ofNullable(tokenValueMapper.map(tokenAddress, new BigDecimal(amountFunded))))
+                                                                      .exceptionally(e -> Optional.empty());
+                                })
+                                .orElse(CompletableFuture.completedFuture(Optional.empty()));
     }
 }
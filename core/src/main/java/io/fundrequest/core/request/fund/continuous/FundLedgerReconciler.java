@@ -0,0 +1,73 @@
+package io.fundrequest.core.request.fund.continuous;
+
+import io.fundrequest.core.contract.service.FundRequestContractsService;
+import io.fundrequest.core.request.domain.IssueInformation;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.fund.FundLedgerService;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "io.fundrequest.fund-ledger-reconciler.enabled", havingValue = "true")
+public class FundLedgerReconciler {
+
+    private final RequestRepository requestRepository;
+    private final FundLedgerService fundLedgerService;
+    private final FundRequestContractsService fundRequestContractsService;
+
+    public FundLedgerReconciler(final RequestRepository requestRepository,
+                                final FundLedgerService fundLedgerService,
+                                final FundRequestContractsService fundRequestContractsService) {
+        this.requestRepository = requestRepository;
+        this.fundLedgerService = fundLedgerService;
+        this.fundRequestContractsService = fundRequestContractsService;
+    }
+
+    @Scheduled(fixedDelayString = "${io.fundrequest.fund-ledger-reconciler.interval-ms:3600000}")
+    public void reconcile() {
+        requestRepository.findByStatusIn(Collections.singletonList(RequestStatus.FUNDED)).forEach(request -> {
+            try {
+                reconcile(request);
+            } catch (final Exception ex) {
+                log.error("Unable to reconcile fund ledger for request {}: {}", request.getId(), ex.getMessage());
+            }
+        });
+    }
+
+    private void reconcile(final Request request) {
+        final IssueInformation issueInformation = request.getIssueInformation();
+        final Map<String, BigInteger> onChainBalances = fundRequestContractsService.fundRepository()
+                                                                                   .getBalancesByToken(issueInformation.getPlatform().name(), issueInformation.getPlatformId());
+        if (onChainBalances.isEmpty()) {
+            log.debug("No on-chain balances available for request {}, skipping reconciliation", request.getId());
+            return;
+        }
+        final Map<String, BigDecimal> ledgerBalances = fundLedgerService.getBalancesByToken(request.getId());
+        final Set<String> tokens = new HashSet<>(ledgerBalances.keySet());
+        onChainBalances.keySet().forEach(token -> tokens.add(token.toLowerCase()));
+        for (final String token : tokens) {
+            final BigDecimal ledgerBalance = ledgerBalances.getOrDefault(token, BigDecimal.ZERO);
+            final BigDecimal onChainBalance = onChainBalances.entrySet()
+                                                             .stream()
+                                                             .filter(balance -> balance.getKey().equalsIgnoreCase(token))
+                                                             .map(balance -> new BigDecimal(balance.getValue()))
+                                                             .findFirst()
+                                                             .orElse(BigDecimal.ZERO);
+            if (ledgerBalance.compareTo(onChainBalance) != 0) {
+                log.error("Fund ledger drift for request {} and token {}: ledger {} vs on-chain {}", request.getId(), token, ledgerBalance, onChainBalance);
+            }
+        }
+    }
+}
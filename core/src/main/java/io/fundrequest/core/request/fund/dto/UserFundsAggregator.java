@@ -0,0 +1,66 @@
+package io.fundrequest.core.request.fund.dto;
+
+import io.fundrequest.core.request.fund.UserFundsDto;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.mapper.TokenValueDtoMapper;
+import io.fundrequest.core.token.model.TokenValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class UserFundsAggregator {
+
+    private final String fndTokenHash;
+    private final TokenValueDtoMapper tokenValueDtoMapper;
+
+    public UserFundsAggregator(@Value("${io.fundrequest.contract.token.address}") final String fndTokenHash, final TokenValueDtoMapper tokenValueDtoMapper) {
+        this.fndTokenHash = fndTokenHash;
+        this.tokenValueDtoMapper = tokenValueDtoMapper;
+    }
+
+    public List<UserFundsDto> aggregate(final List<Object[]> amountsPerFunderAndToken) {
+        final Map<String, UserFundsDto> userFunds = new LinkedHashMap<>();
+        for (final Object[] amounts : amountsPerFunderAndToken) {
+            final String funderAddress = (String) amounts[0];
+            final String funderUserId = (String) amounts[1];
+            final String tokenAddress = (String) amounts[2];
+            final UserFundsDto userFund = userFunds.computeIfAbsent(funderAddress.toLowerCase() + funderUserId,
+                                                                    key -> UserFundsDto.builder().funderAddress(funderAddress).funderUserId(funderUserId).build());
+            final boolean isFndToken = fndTokenHash.equalsIgnoreCase(tokenAddress);
+            if (toLong(amounts[3]) > 0) {
+                final TokenValueDto funds = toTokenValue(tokenAddress, amounts[4]);
+                if (isFndToken) {
+                    userFund.setFndFunds(TokenValueDto.sum(userFund.getFndFunds(), funds));
+                } else {
+                    userFund.setOtherFunds(TokenValueDto.sum(userFund.getOtherFunds(), funds));
+                }
+            }
+            if (toLong(amounts[5]) > 0) {
+                final TokenValueDto refunds = toTokenValue(tokenAddress, amounts[6]);
+                if (isFndToken) {
+                    userFund.setFndRefunds(TokenValueDto.sum(userFund.getFndRefunds(), refunds));
+                } else {
+                    userFund.setOtherRefunds(TokenValueDto.sum(userFund.getOtherRefunds(), refunds));
+                }
+            }
+        }
+        return new ArrayList<>(userFunds.values());
+    }
+
+    private TokenValueDto toTokenValue(final String tokenAddress, final Object amountInWei) {
+        return tokenValueDtoMapper.map(TokenValue.builder()
+                                                 .tokenAddress(tokenAddress)
+                                                 .amountInWei(new BigDecimal(amountInWei.toString()))
+                                                 .build());
+    }
+
+    private long toLong(final Object count) {
+        return ((Number) count).longValue();
+    }
+}
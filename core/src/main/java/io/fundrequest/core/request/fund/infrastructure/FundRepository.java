@@ -3,7 +3,9 @@ package io.fundrequest.core.request.fund.infrastructure;
 import io.fundrequest.core.infrastructure.repository.JpaRepository;
 import io.fundrequest.core.request.fund.domain.Fund;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface FundRepository extends JpaRepository<Fund, Long> {
@@ -12,6 +14,49 @@ public interface FundRepository extends JpaRepository<Fund, Long> {
 
     List<Fund> findAllByRequestIdIn(List<Long> requestIds);
 
+    @Query("SELECT DISTINCT f.requestId FROM Fund f")
+    List<Long> findFundedRequestIds();
+
+    @Query("SELECT COUNT(DISTINCT f.funderAddress) FROM Fund f WHERE f.requestId = :requestId")
+    long countFundersForRequest(@Param("requestId") Long requestId);
+
+    @Query(""
+           + "SELECT new io.fundrequest.core.request.fund.infrastructure.TokenAmountDto(f.tokenValue.tokenAddress, SUM(f.tokenValue.amountInWei)) "
+           + "FROM Fund f "
+           + "WHERE f.requestId = :requestId "
+           + "GROUP BY f.tokenValue.tokenAddress")
+    List<TokenAmountDto> getAmountPerTokenForRequest(@Param("requestId") Long requestId);
+
+    @Query(""
+           + "SELECT new io.fundrequest.core.request.fund.infrastructure.RequestTokenAmountDto(f.requestId, f.tokenValue.tokenAddress, SUM(f.tokenValue.amountInWei)) "
+           + "FROM Fund f "
+           + "WHERE f.requestId IN :requestIds "
+           + "GROUP BY f.requestId, f.tokenValue.tokenAddress")
+    List<RequestTokenAmountDto> getAmountPerTokenForRequests(@Param("requestIds") Collection<Long> requestIds);
+
+    @Query(value = "SELECT "
+                   + "  MIN(a.funder_address), "
+                   + "  a.funder_user_id, "
+                   + "  a.token_hash, "
+                   + "  SUM(a.fund_count), "
+                   + "  SUM(a.fund_amount), "
+                   + "  SUM(a.refund_count), "
+                   + "  SUM(a.refund_amount) "
+                   + "FROM ("
+                   + "  SELECT f.funder_address, lower(f.funder_address) AS funder_key, f.funder_user_id, lower(f.token_hash) AS token_hash, "
+                   + "         1 AS fund_count, f.amount_in_wei AS fund_amount, 0 AS refund_count, 0 AS refund_amount "
+                   + "  FROM fund f "
+                   + "  WHERE f.request_id = :requestId "
+                   + "  UNION ALL "
+                   + "  SELECT r.funder_address, lower(r.funder_address), r.requested_by, lower(r.token_hash), "
+                   + "         0, 0, 1, -r.amount_in_wei "
+                   + "  FROM refund r "
+                   + "  WHERE r.request_id = :requestId"
+                   + ") a "
+                   + "GROUP BY a.funder_key, a.funder_user_id, a.token_hash",
+           nativeQuery = true)
+    List<Object[]> getAmountPerFunderAndTokenForRequest(@Param("requestId") Long requestId);
+
     @Query(""
            + "SELECT new io.fundrequest.core.request.fund.infrastructure.TokenAmountDto(f.tokenValue.tokenAddress, SUM(f.tokenValue.amountInWei)) "
            + "FROM Fund f, Request r "
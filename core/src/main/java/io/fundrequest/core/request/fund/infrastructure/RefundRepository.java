@@ -2,10 +2,27 @@ package io.fundrequest.core.request.fund.infrastructure;
 
 import io.fundrequest.core.infrastructure.repository.JpaRepository;
 import io.fundrequest.core.request.fund.domain.Refund;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface RefundRepository extends JpaRepository<Refund, Long> {
 
     List<Refund> findAllByRequestId(long requestId);
+
+    @Query(""
+           + "SELECT new io.fundrequest.core.request.fund.infrastructure.TokenAmountDto(r.tokenValue.tokenAddress, SUM(r.tokenValue.amountInWei)) "
+           + "FROM Refund r "
+           + "WHERE r.requestId = :requestId "
+           + "GROUP BY r.tokenValue.tokenAddress")
+    List<TokenAmountDto> getAmountPerTokenForRequest(@Param("requestId") Long requestId);
+
+    @Query(""
+           + "SELECT new io.fundrequest.core.request.fund.infrastructure.RequestTokenAmountDto(r.requestId, r.tokenValue.tokenAddress, SUM(r.tokenValue.amountInWei)) "
+           + "FROM Refund r "
+           + "WHERE r.requestId IN :requestIds "
+           + "GROUP BY r.requestId, r.tokenValue.tokenAddress")
+    List<RequestTokenAmountDto> getAmountPerTokenForRequests(@Param("requestIds") Collection<Long> requestIds);
 }
@@ -4,7 +4,9 @@ import io.fundrequest.core.infrastructure.repository.JpaRepository;
 import io.fundrequest.core.request.fund.domain.RefundRequest;
 import io.fundrequest.core.request.fund.domain.RefundRequestStatus;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +21,7 @@ public interface RefundRequestRepository extends JpaRepository<RefundRequest, Lo
     List<RefundRequest> findAllByRequestIdAndFunderAddressAndStatus(long requestId, String funderAddress, RefundRequestStatus status);
 
     Optional<RefundRequest> findByTransactionHash(String transactionHash);
+
+    @Query("SELECT MAX(r.lastModifiedDate) FROM RefundRequest r WHERE r.requestId = ?1")
+    Optional<LocalDateTime> findLastModifiedDate(long requestId);
 }
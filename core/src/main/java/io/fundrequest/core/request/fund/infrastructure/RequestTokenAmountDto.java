@@ -0,0 +1,17 @@
+package io.fundrequest.core.request.fund.infrastructure;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class RequestTokenAmountDto extends TokenAmountDto {
+    private final Long requestId;
+
+    public RequestTokenAmountDto(Long requestId, String tokenAddress, BigDecimal totalAmount) {
+        super(tokenAddress, totalAmount);
+        this.requestId = requestId;
+    }
+}
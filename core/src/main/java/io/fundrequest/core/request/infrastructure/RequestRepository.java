@@ -4,16 +4,51 @@ import io.fundrequest.core.infrastructure.repository.JpaRepository;
 import io.fundrequest.core.request.domain.Platform;
 import io.fundrequest.core.request.domain.Request;
 import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.view.RequestVersionDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 public interface RequestRepository extends JpaRepository<Request, Long> {
+
+    String POSITIVE_SUMMARY = "(s.fndAmountInWei > 0 OR s.otherAmountInWei > 0) ";
+
+    String FUNDED = "(EXISTS (SELECT s.requestId FROM RequestSummary s WHERE s.requestId = r.id AND " + POSITIVE_SUMMARY + ") "
+                    + "OR (NOT EXISTS (SELECT s.requestId FROM RequestSummary s WHERE s.requestId = r.id) "
+                    + "AND (SELECT COALESCE(SUM(f.tokenValue.amountInWei), 0) FROM Fund f WHERE f.requestId = r.id) "
+                    + "> (SELECT COALESCE(SUM(rf.tokenValue.amountInWei), 0) FROM Refund rf WHERE rf.requestId = r.id))) ";
+
+    String FILTER = "r.status IN :statuses "
+                    + "AND (:project IS NULL OR lower(r.issueInformation.owner) = lower(:project)) "
+                    + "AND (:technologyCount = 0L OR :technologyCount = (SELECT COUNT(t.technology) FROM Request tr JOIN tr.technologies t "
+                    + "WHERE tr.id = r.id AND lower(t.technology) IN :technologies)) "
+                    + "AND ((:search IS NULL AND :searchNumber IS NULL) OR lower(r.issueInformation.title) LIKE :search "
+                    + "OR r.issueInformation.number = :searchNumber OR str(r.id) = :searchNumber) ";
+
+    String FUNDED_REQUESTS = "SELECT r FROM Request r WHERE " + FILTER + "AND " + FUNDED;
+
+    String FUNDED_REQUESTS_BY_USD_VALUE = "SELECT r, s.usdValue FROM Request r, RequestSummary s WHERE s.requestId = r.id AND " + FILTER + "AND " + POSITIVE_SUMMARY;
+
     @Query("SELECT r FROM Request r where r.issueInformation.platform = ?1 and r.issueInformation.platformId = ?2")
     Optional<Request> findByPlatformAndPlatformId(Platform platform, String platformId);
 
+    @Query("SELECT new io.fundrequest.core.request.view.RequestVersionDto(r.id, r.lastModifiedDate) FROM Request r where r.id = ?1")
+    Optional<RequestVersionDto> findVersion(Long id);
+
+    @Query("SELECT new io.fundrequest.core.request.view.RequestVersionDto(r.id, r.lastModifiedDate) FROM Request r "
+           + "where r.issueInformation.platform = ?1 and r.issueInformation.platformId = ?2")
+    Optional<RequestVersionDto> findVersion(Platform platform, String platformId);
+
+    @Query("SELECT MAX(r.lastModifiedDate) FROM Request r")
+    LocalDateTime findLastModifiedDate();
+
     @Query("SELECT distinct r FROM Request r where ?1 member of r.watchers")
     List<Request> findRequestsUserIsWatching(String user);
 
@@ -22,10 +57,61 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
 
     List<Request> findByStatusIn(List<RequestStatus> status);
 
+    @Query("SELECT r.issueInformation.platform, MIN(r.issueInformation.platformId) FROM Request r WHERE r.status IN ?1 "
+           + "GROUP BY r.issueInformation.platform, r.issueInformation.owner, r.issueInformation.repo")
+    List<Object[]> findRepositoriesWithStatusIn(Collection<RequestStatus> statuses);
+
     @Query(value = "SELECT DISTINCT technology FROM request_technology", nativeQuery = true)
     Set<String> findAllTechnologies();
 
     @Query(value = "SELECT DISTINCT r.issueInformation.owner FROM Request r")
     Set<String> findAllProjects();
 
+    @Query(FUNDED_REQUESTS + "ORDER BY r.lastModifiedDate DESC, r.id DESC")
+    List<Request> findFunded(@Param("statuses") Collection<RequestStatus> statuses,
+                             @Param("project") String project,
+                             @Param("technologies") Collection<String> technologies,
+                             @Param("technologyCount") long technologyCount,
+                             @Param("search") String search,
+                             @Param("searchNumber") String searchNumber,
+                             Pageable pageable);
+
+    @Query(FUNDED_REQUESTS
+           + "AND (r.lastModifiedDate < :lastModifiedDate OR (r.lastModifiedDate = :lastModifiedDate AND r.id < :id)) "
+           + "ORDER BY r.lastModifiedDate DESC, r.id DESC")
+    List<Request> findFundedAfter(@Param("statuses") Collection<RequestStatus> statuses,
+                                  @Param("project") String project,
+                                  @Param("technologies") Collection<String> technologies,
+                                  @Param("technologyCount") long technologyCount,
+                                  @Param("search") String search,
+                                  @Param("searchNumber") String searchNumber,
+                                  @Param("lastModifiedDate") LocalDateTime lastModifiedDate,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+
+    @Query(FUNDED_REQUESTS_BY_USD_VALUE + "ORDER BY s.usdValue DESC, s.requestId DESC")
+    List<Object[]> findFundedByUsdValue(@Param("statuses") Collection<RequestStatus> statuses,
+                                        @Param("project") String project,
+                                        @Param("technologies") Collection<String> technologies,
+                                        @Param("technologyCount") long technologyCount,
+                                        @Param("search") String search,
+                                        @Param("searchNumber") String searchNumber,
+                                        Pageable pageable);
+
+    @Query(FUNDED_REQUESTS_BY_USD_VALUE
+           + "AND (s.usdValue < :usdValue OR (s.usdValue = :usdValue AND s.requestId < :id)) "
+           + "ORDER BY s.usdValue DESC, s.requestId DESC")
+    List<Object[]> findFundedByUsdValueAfter(@Param("statuses") Collection<RequestStatus> statuses,
+                                             @Param("project") String project,
+                                             @Param("technologies") Collection<String> technologies,
+                                             @Param("technologyCount") long technologyCount,
+                                             @Param("search") String search,
+                                             @Param("searchNumber") String searchNumber,
+                                             @Param("usdValue") BigDecimal usdValue,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    @Query("SELECT r.status, COUNT(r) FROM Request r WHERE " + FUNDED + "GROUP BY r.status")
+    List<Object[]> countFundedPerStatus();
+
 }
@@ -3,7 +3,10 @@ package io.fundrequest.core.request.mapper;
 import io.fundrequest.core.infrastructure.SecurityContextService;
 import io.fundrequest.core.request.domain.Request;
 import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.fiat.TokenPrice;
 import io.fundrequest.core.request.fund.FundService;
+import io.fundrequest.core.request.summary.RequestSummaryDto;
+import io.fundrequest.core.request.summary.RequestSummaryService;
 import io.fundrequest.core.request.view.AllFundsDto;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.request.view.RequestDtoMapper;
@@ -15,9 +18,14 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.core.Authentication;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public abstract class RequestDtoMapperDecorator implements RequestDtoMapper {
@@ -36,36 +44,88 @@ public abstract class RequestDtoMapperDecorator implements RequestDtoMapper {
     @Autowired
     private FiatService fiatService;
 
+    @Autowired
+    @Lazy
+    private RequestSummaryService requestSummaryService;
+
     @Autowired
     private SecurityContextService securityContextService;
 
     public RequestDto map(Request request) {
-        return map(request, fundService.getTotalFundsForRequest(request.getId()));
+        if (request == null) {
+            return null;
+        }
+        final Optional<RequestSummaryDto> summary = requestSummaryService.findByRequestId(request.getId());
+        final List<TokenValueDto> totalFunds = summary.isPresent() ? null : fundService.getTotalFundsForRequest(request.getId());
+        return map(request,
+                   securityContextService.getLoggedInUser(),
+                   summary.orElse(null),
+                   totalFunds,
+                   fiatService.getPrices(symbolsOf(Collections.singleton(totalFunds))),
+                   new HashMap<>());
+    }
+
+    @Override
+    public List<RequestDto> mapToList(final Collection<? extends Request> requests) {
+        final Optional<Authentication> currentAuth = securityContextService.getLoggedInUser();
+        final Set<Long> requestIds = requests.stream().filter(Objects::nonNull).map(Request::getId).collect(Collectors.toSet());
+        final Map<Long, RequestSummaryDto> summaries = requestSummaryService.findByRequestIds(requestIds);
+        final Map<Long, List<TokenValueDto>> totalFunds = fundService.getTotalFundsForRequests(requestIds.stream()
+                                                                                                       .filter(requestId -> !summaries.containsKey(requestId))
+                                                                                                       .collect(Collectors.toSet()));
+        final Map<String, TokenPrice> prices = fiatService.getPrices(symbolsOf(totalFunds.values()));
+        final Map<String, Optional<String>> watcherEmails = new HashMap<>();
+        return requests.stream()
+                       .map(request -> request == null
+                                       ? null
+                                       : map(request, currentAuth, summaries.get(request.getId()), totalFunds.get(request.getId()), prices, watcherEmails))
+                       .collect(Collectors.toList());
     }
 
-    private RequestDto map(Request request, List<TokenValueDto> totalFunds) {
+    private RequestDto map(Request request,
+                           Optional<Authentication> currentAuth,
+                           RequestSummaryDto summary,
+                           List<TokenValueDto> totalFunds,
+                           Map<String, TokenPrice> prices,
+                           Map<String, Optional<String>> watcherEmails) {
         RequestDto result = delegate.map(request);
-        Optional<Authentication> currentAuth = securityContextService.getLoggedInUser();
-        if (result != null && currentAuth.isPresent()) {
+        if (result == null) {
+            return null;
+        }
+        if (currentAuth.isPresent()) {
             result.setLoggedInUserIsWatcher(request.getWatchers().contains(currentAuth.get().getName()));
-            result.setWatchers(request.getWatchers().stream().map(this::getUser).filter(Objects::nonNull).collect(Collectors.toSet()));
+            result.setWatchers(request.getWatchers()
+                                      .stream()
+                                      .map(watcher -> watcherEmails.computeIfAbsent(watcher, this::getUser))
+                                      .filter(Optional::isPresent)
+                                      .map(Optional::get)
+                                      .collect(Collectors.toSet()));
         }
-        if (result != null && totalFunds != null) {
-            mapFunds(totalFunds, result);
+        if (summary != null) {
+            result.setFunds(summary.getFunds());
+        } else if (totalFunds != null) {
+            mapFunds(totalFunds, prices, result);
         }
-
         return result;
     }
 
-    private void mapFunds(List<TokenValueDto> totalFunds, RequestDto result) {
+    private void mapFunds(List<TokenValueDto> totalFunds, Map<String, TokenPrice> prices, RequestDto result) {
         AllFundsDto funds = result.getFunds();
         funds.setFndFunds(totalFunds.stream().filter(f -> "FND".equalsIgnoreCase(f.getTokenSymbol())).findFirst().orElse(null));
         funds.setOtherFunds(totalFunds.stream().filter(f -> !"FND".equalsIgnoreCase(f.getTokenSymbol())).findFirst().orElse(null));
-        funds.setUsdFunds(fiatService.getUsdPrice(funds.getFndFunds(), funds.getOtherFunds()));
+        funds.setUsdFunds(fiatService.getUsdPrice(prices, funds.getFndFunds(), funds.getOtherFunds()).orElse(null));
+    }
+
+    private static Set<String> symbolsOf(Collection<List<TokenValueDto>> totalFunds) {
+        return totalFunds.stream()
+                         .filter(Objects::nonNull)
+                         .flatMap(List::stream)
+                         .map(TokenValueDto::getTokenSymbol)
+                         .collect(Collectors.toSet());
     }
 
-    private String getUser(String x) {
+    private Optional<String> getUser(String x) {
         UserDto user = userService.getUser(x);
-        return user == null ? null : user.getEmail();
+        return Optional.ofNullable(user).map(UserDto::getEmail);
     }
 }
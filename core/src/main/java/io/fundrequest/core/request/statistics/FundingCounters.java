@@ -0,0 +1,89 @@
+package io.fundrequest.core.request.statistics;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+class FundingCounters {
+
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private final Map<String, BigDecimal> weiByToken = new HashMap<>();
+    private final Map<String, Map<String, BigDecimal>> weiByTokenPerProject = new HashMap<>();
+    private final Map<String, Map<String, BigDecimal>> weiByTokenPerTechnology = new HashMap<>();
+    private boolean initialized;
+
+    synchronized boolean isInitialized() {
+        return initialized;
+    }
+
+    synchronized void reset(final Map<Long, Contribution> contributions) {
+        this.contributions.clear();
+        weiByToken.clear();
+        weiByTokenPerProject.clear();
+        weiByTokenPerTechnology.clear();
+        contributions.forEach(this::apply);
+        initialized = true;
+    }
+
+    synchronized void apply(final Long requestId, final Contribution contribution) {
+        final Contribution previous = contributions.remove(requestId);
+        if (previous != null) {
+            count(previous, false);
+        }
+        if (contribution != null) {
+            contributions.put(requestId, contribution);
+            count(contribution, true);
+        }
+    }
+
+    synchronized Map<String, BigDecimal> getWeiByToken() {
+        return new HashMap<>(weiByToken);
+    }
+
+    synchronized Map<String, Map<String, BigDecimal>> getWeiByTokenPerProject() {
+        return copy(weiByTokenPerProject);
+    }
+
+    synchronized Map<String, Map<String, BigDecimal>> getWeiByTokenPerTechnology() {
+        return copy(weiByTokenPerTechnology);
+    }
+
+    private void count(final Contribution contribution, final boolean add) {
+        contribution.getWeiByToken().forEach((token, wei) -> {
+            final BigDecimal delta = add ? wei : wei.negate();
+            count(weiByToken, token, delta);
+            count(weiByTokenPerProject, contribution.getProject(), token, delta);
+            contribution.getTechnologies().forEach(technology -> count(weiByTokenPerTechnology, technology, token, delta));
+        });
+    }
+
+    private static void count(final Map<String, Map<String, BigDecimal>> counters, final String key, final String token, final BigDecimal delta) {
+        final Map<String, BigDecimal> keyCounters = counters.computeIfAbsent(key, k -> new HashMap<>());
+        count(keyCounters, token, delta);
+        if (keyCounters.isEmpty()) {
+            counters.remove(key);
+        }
+    }
+
+    private static void count(final Map<String, BigDecimal> counters, final String token, final BigDecimal delta) {
+        if (counters.merge(token, delta, BigDecimal::add).signum() == 0) {
+            counters.remove(token);
+        }
+    }
+
+    private static Map<String, Map<String, BigDecimal>> copy(final Map<String, Map<String, BigDecimal>> counters) {
+        final Map<String, Map<String, BigDecimal>> copy = new HashMap<>();
+        counters.forEach((key, keyCounters) -> copy.put(key, new HashMap<>(keyCounters)));
+        return copy;
+    }
+
+    @Value
+    static class Contribution {
+        private final String project;
+        private final Set<String> technologies;
+        private final Map<String, BigDecimal> weiByToken;
+    }
+}
@@ -4,4 +4,6 @@ import io.fundrequest.core.request.statistics.dto.StatisticsDto;
 
 public interface StatisticsService {
     StatisticsDto getStatistics();
+
+    void reconcile();
 }
@@ -1,101 +1,136 @@
 package io.fundrequest.core.request.statistics;
 
-import io.fundrequest.core.request.claim.event.RequestClaimedEvent;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestStatus;
 import io.fundrequest.core.request.fiat.FiatService;
-import io.fundrequest.core.request.fund.event.RequestFundedEvent;
-import io.fundrequest.core.request.fund.infrastructure.FundRepository;
-import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
 import io.fundrequest.core.request.statistics.dto.StatisticsDto;
-import io.fundrequest.core.token.TokenInfoService;
-import io.fundrequest.core.token.dto.TokenInfoDto;
+import io.fundrequest.core.request.summary.RequestSummaryUpdatedEvent;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
 import io.fundrequest.core.token.dto.TokenValueDto;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
+import io.fundrequest.core.token.mapper.TokenValueMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
-import java.util.Comparator;
-import java.util.List;
+import java.math.RoundingMode;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static io.fundrequest.core.web3j.EthUtil.fromWei;
 import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
 import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
 
 @Service
+@Slf4j
 class StatisticsServiceImpl implements StatisticsService {
 
-    private FundRepository fundRepository;
-    private TokenInfoService tokenInfoService;
-    private FiatService fiatService;
-    private CacheManager cacheManager;
+    private final RequestSummaryRepository requestSummaryRepository;
+    private final RequestRepository requestRepository;
+    private final TokenValueMapper tokenValueMapper;
+    private final FiatService fiatService;
+    private final FundingCounters counters = new FundingCounters();
+    private final Map<String, Double> lastKnownUsdPerWei = new ConcurrentHashMap<>();
 
-    public StatisticsServiceImpl(FundRepository fundRepository,
-                                 TokenInfoService tokenInfoService,
-                                 FiatService fiatService, CacheManager cacheManager) {
-        this.fundRepository = fundRepository;
-        this.tokenInfoService = tokenInfoService;
+    public StatisticsServiceImpl(final RequestSummaryRepository requestSummaryRepository,
+                                 final RequestRepository requestRepository,
+                                 final TokenValueMapper tokenValueMapper,
+                                 final FiatService fiatService) {
+        this.requestSummaryRepository = requestSummaryRepository;
+        this.requestRepository = requestRepository;
+        this.tokenValueMapper = tokenValueMapper;
         this.fiatService = fiatService;
-        this.cacheManager = cacheManager;
     }
 
     @Transactional(readOnly = true)
     @Override
-    @Cacheable(value = "statistics", key = "'all'")
     public StatisticsDto getStatistics() {
-        double totalAvailableFunding = fundRepository.getAmountPerTokenWhereRequestHasStatusFunded()
-                                                     .stream()
-                                                     .mapToDouble(this::mapToUsd)
-                                                     .sum();
-
-        String mostFundedProject = getMostFunded(fundRepository.getAmountPerTokenPerProjectWhereRequestHasStatusFunded());
-        String mostFundedTechnology = getMostFunded(fundRepository.getAmountPerTokenPerTechnologyWhereRequestHasStatusFunded());
+        if (!counters.isInitialized()) {
+            reconcile();
+        }
+        final Map<String, BigDecimal> weiByToken = counters.getWeiByToken();
+        final Map<String, Double> usdPerWei = getUsdPerWei(weiByToken);
         return StatisticsDto.builder()
-                            .totalAvailableFunding(totalAvailableFunding)
-                            .mostFundedProject(mostFundedProject)
-                            .mostFundedTechnology(mostFundedTechnology)
+                            .totalAvailableFunding(BigDecimal.valueOf(toUsd(weiByToken, usdPerWei)).setScale(2, RoundingMode.HALF_UP).doubleValue())
+                            .mostFundedProject(getMostFunded(counters.getWeiByTokenPerProject(), usdPerWei))
+                            .mostFundedTechnology(getMostFunded(counters.getWeiByTokenPerTechnology(), usdPerWei))
                             .build();
     }
 
-    private String getMostFunded(List<Object[]> objects) {
-        return objects
-                .stream()
-                .collect(Collectors.groupingBy(o -> (String) o[0],
-                                               Collectors.reducing(0.0,
-                                                                   o -> mapToUsd(new TokenAmountDto((String) o[1], (BigDecimal) o[2])),
-                                                                   (a, b) -> a + b)
-                                              )
-                        )
-                .entrySet().stream().max(Comparator.comparing(Map.Entry::getValue))
-                .map(Map.Entry::getKey).orElse("");
+    private Map<String, Double> getUsdPerWei(final Map<String, BigDecimal> weiByToken) {
+        final Map<String, Double> usdPerWei = new HashMap<>();
+        weiByToken.forEach((token, wei) -> {
+            if (wei.signum() <= 0) {
+                return;
+            }
+            try {
+                final TokenValueDto tokenValue = tokenValueMapper.map(token, wei);
+                if (tokenValue != null) {
+                    fiatService.getUsdPrice(tokenValue).ifPresent(usd -> lastKnownUsdPerWei.put(token, usd / wei.doubleValue()));
+                }
+            } catch (final Exception e) {
+                log.warn("Unable to price token {} for statistics, using last known price: {}", token, e.getMessage());
+            }
+            usdPerWei.put(token, lastKnownUsdPerWei.getOrDefault(token, 0D));
+        });
+        return usdPerWei;
     }
 
-    @TransactionalEventListener(phase = AFTER_COMMIT)
-    @Transactional(propagation = REQUIRES_NEW, readOnly = true)
-    public void onFunded(RequestFundedEvent fundedEvent) {
-        refreshCache();
+    private String getMostFunded(final Map<String, Map<String, BigDecimal>> weiByTokenPerKey, final Map<String, Double> usdPerWei) {
+        String mostFunded = "";
+        double mostFundedUsd = 0;
+        for (final Map.Entry<String, Map<String, BigDecimal>> weiByToken : weiByTokenPerKey.entrySet()) {
+            final double usd = toUsd(weiByToken.getValue(), usdPerWei);
+            if (usd > mostFundedUsd) {
+                mostFunded = weiByToken.getKey();
+                mostFundedUsd = usd;
+            }
+        }
+        return mostFunded;
     }
 
-    @TransactionalEventListener(phase = AFTER_COMMIT)
-    @Transactional(propagation = REQUIRES_NEW, readOnly = true)
-    public void onClaimed(RequestClaimedEvent claimedEvent) {
-        refreshCache();
+    private double toUsd(final Map<String, BigDecimal> weiByToken, final Map<String, Double> usdPerWei) {
+        return weiByToken.entrySet()
+                         .stream()
+                         .mapToDouble(wei -> wei.getValue().doubleValue() * usdPerWei.getOrDefault(wei.getKey(), 0D))
+                         .sum();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        final Map<Long, FundingCounters.Contribution> contributions = new HashMap<>();
+        for (final Object[] summaryAndRequest : requestSummaryRepository.findAllWithRequestForStatus(RequestStatus.FUNDED)) {
+            final RequestSummary summary = (RequestSummary) summaryAndRequest[0];
+            contributions.put(summary.getRequestId(), toContribution(summary, (Request) summaryAndRequest[1]));
+        }
+        counters.reset(contributions);
     }
 
-    private void refreshCache() {
-        cacheManager.getCache("statistics").put("all", getStatistics());
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = REQUIRES_NEW, readOnly = true)
+    public void onSummaryUpdated(final RequestSummaryUpdatedEvent summaryUpdatedEvent) {
+        if (!counters.isInitialized()) {
+            return;
+        }
+        final Long requestId = summaryUpdatedEvent.getRequestId();
+        counters.apply(requestId, requestRepository.findOne(requestId)
+                                                   .filter(request -> request.getStatus() == RequestStatus.FUNDED)
+                                                   .flatMap(request -> requestSummaryRepository.findOne(requestId).map(summary -> toContribution(summary, request)))
+                                                   .orElse(null));
     }
 
-    private double mapToUsd(TokenAmountDto f) {
-        TokenInfoDto tokenInfo = tokenInfoService.getTokenInfo(f.getTokenAddress());
-        TokenValueDto dto = TokenValueDto.builder()
-                                         .totalAmount(fromWei(f.getTotalAmount(), tokenInfo.getDecimals()))
-                                         .tokenAddress(f.getTokenAddress())
-                                         .tokenSymbol(tokenInfo.getSymbol())
-                                         .build();
-        return fiatService.getUsdPrice(dto);
+    private FundingCounters.Contribution toContribution(final RequestSummary summary, final Request request) {
+        final Map<String, BigDecimal> weiByToken = new HashMap<>();
+        if (summary.getFndTokenAddress() != null && summary.getFndAmountInWei() != null) {
+            weiByToken.put(summary.getFndTokenAddress().toLowerCase(), summary.getFndAmountInWei());
+        }
+        if (summary.getOtherTokenAddress() != null && summary.getOtherAmountInWei() != null) {
+            weiByToken.merge(summary.getOtherTokenAddress().toLowerCase(), summary.getOtherAmountInWei(), BigDecimal::add);
+        }
+        return new FundingCounters.Contribution(request.getIssueInformation().getOwner(), request.getTechnologies(), weiByToken);
     }
 }
@@ -0,0 +1,22 @@
+package io.fundrequest.core.request.statistics.continuous;
+
+import io.fundrequest.core.request.statistics.StatisticsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(value = "io.fundrequest.statistics-reconciler.enabled", havingValue = "true")
+public class StatisticsReconciler {
+
+    private final StatisticsService statisticsService;
+
+    public StatisticsReconciler(final StatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
+    }
+
+    @Scheduled(fixedDelayString = "${io.fundrequest.statistics-reconciler.interval-ms:900000}")
+    public void reconcile() {
+        statisticsService.reconcile();
+    }
+}
@@ -0,0 +1,36 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.core.request.claim.event.RequestClaimedEvent;
+import io.fundrequest.core.request.fund.RefundProcessedEvent;
+import io.fundrequest.core.request.fund.event.RequestFundedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Component
+public class RefreshRequestSummaryHandler {
+
+    private final RequestSummaryService requestSummaryService;
+
+    public RefreshRequestSummaryHandler(final RequestSummaryService requestSummaryService) {
+        this.requestSummaryService = requestSummaryService;
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onFunded(final RequestFundedEvent event) {
+        requestSummaryService.refresh(event.getRequestId(), event.getTimestamp());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onClaimed(final RequestClaimedEvent event) {
+        requestSummaryService.refresh(event.getRequestDto().getId(), event.getTimestamp());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onRefundProcessed(final RefundProcessedEvent event) {
+        requestSummaryService.refresh(event.getRefund().getRequestId(), LocalDateTime.now());
+    }
+}
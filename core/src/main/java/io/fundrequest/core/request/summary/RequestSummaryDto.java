@@ -0,0 +1,31 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.view.AllFundsDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestSummaryDto {
+
+    private Long requestId;
+
+    private RequestPhase phase;
+
+    private AllFundsDto funds;
+
+    private double fndUsdValue;
+
+    private double otherUsdValue;
+
+    private int funderCount;
+
+    private LocalDateTime lastActivityDate;
+}
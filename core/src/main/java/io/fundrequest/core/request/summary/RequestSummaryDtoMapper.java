@@ -0,0 +1,41 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.common.infrastructure.mapping.BaseMapper;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.view.AllFundsDto;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.mapper.TokenValueMapper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+@Component
+public class RequestSummaryDtoMapper implements BaseMapper<RequestSummary, RequestSummaryDto> {
+
+    private final TokenValueMapper tokenValueMapper;
+
+    public RequestSummaryDtoMapper(final TokenValueMapper tokenValueMapper) {
+        this.tokenValueMapper = tokenValueMapper;
+    }
+
+    @Override
+    public RequestSummaryDto map(final RequestSummary summary) {
+        return summary == null ? null : RequestSummaryDto.builder()
+                                                         .requestId(summary.getRequestId())
+                                                         .phase(summary.getPhase())
+                                                         .funds(AllFundsDto.builder()
+                                                                           .fndFunds(toTokenValue(summary.getFndTokenAddress(), summary.getFndAmountInWei()))
+                                                                           .otherFunds(toTokenValue(summary.getOtherTokenAddress(), summary.getOtherAmountInWei()))
+                                                                           .usdFunds(summary.getUsdValue().doubleValue())
+                                                                           .build())
+                                                         .fndUsdValue(summary.getFndUsdValue().doubleValue())
+                                                         .otherUsdValue(summary.getOtherUsdValue().doubleValue())
+                                                         .funderCount(summary.getFunderCount())
+                                                         .lastActivityDate(summary.getLastActivityDate())
+                                                         .build();
+    }
+
+    private TokenValueDto toTokenValue(final String tokenAddress, final BigDecimal amountInWei) {
+        return tokenAddress == null ? null : tokenValueMapper.map(tokenAddress, amountInWei);
+    }
+}
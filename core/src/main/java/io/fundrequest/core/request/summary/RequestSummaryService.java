@@ -0,0 +1,15 @@
+package io.fundrequest.core.request.summary;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface RequestSummaryService {
+
+    Optional<RequestSummaryDto> findByRequestId(Long requestId);
+
+    Map<Long, RequestSummaryDto> findByRequestIds(Collection<Long> requestIds);
+
+    void refresh(Long requestId, LocalDateTime activityDate);
+}
@@ -0,0 +1,136 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.common.infrastructure.mapping.Mappers;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.fund.FundLedgerService;
+import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.mapper.TokenValueMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+@Service
+@Slf4j
+class RequestSummaryServiceImpl implements RequestSummaryService {
+
+    private static final String FND_TOKEN_SYMBOL = "FND";
+
+    private final RequestSummaryRepository requestSummaryRepository;
+    private final RequestRepository requestRepository;
+    private final FundRepository fundRepository;
+    private final FundLedgerService fundLedgerService;
+    private final TokenValueMapper tokenValueMapper;
+    private final FiatService fiatService;
+    private final Mappers mappers;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RequestSummaryServiceImpl(final RequestSummaryRepository requestSummaryRepository,
+                                     final RequestRepository requestRepository,
+                                     final FundRepository fundRepository,
+                                     final FundLedgerService fundLedgerService,
+                                     final TokenValueMapper tokenValueMapper,
+                                     final FiatService fiatService,
+                                     final Mappers mappers,
+                                     final ApplicationEventPublisher eventPublisher) {
+        this.requestSummaryRepository = requestSummaryRepository;
+        this.requestRepository = requestRepository;
+        this.fundRepository = fundRepository;
+        this.fundLedgerService = fundLedgerService;
+        this.tokenValueMapper = tokenValueMapper;
+        this.fiatService = fiatService;
+        this.mappers = mappers;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RequestSummaryDto> findByRequestId(final Long requestId) {
+        return requestSummaryRepository.findOne(requestId)
+                                       .map(summary -> mappers.map(RequestSummary.class, RequestSummaryDto.class, summary));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, RequestSummaryDto> findByRequestIds(final Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return mappers.mapList(RequestSummary.class, RequestSummaryDto.class, requestSummaryRepository.findAll(requestIds))
+                      .stream()
+                      .collect(Collectors.toMap(RequestSummaryDto::getRequestId, Function.identity()));
+    }
+
+    @Override
+    @Transactional(propagation = REQUIRES_NEW)
+    public void refresh(final Long requestId, final LocalDateTime activityDate) {
+        final Optional<Request> request = requestRepository.findOne(requestId);
+        if (!request.isPresent()) {
+            return;
+        }
+        final RequestStatus status = request.get().getStatus();
+        final Map<String, BigDecimal> amountsByToken = status == RequestStatus.CLAIMED
+                                                       ? fundLedgerService.getClaimedByToken(requestId)
+                                                       : fundLedgerService.getBalancesByToken(requestId);
+        final RequestSummary summary = requestSummaryRepository.findOne(requestId).orElseGet(() -> new RequestSummary(requestId));
+        summary.setPhase(status.getPhase());
+        summary.setFndFunds(null, null);
+        summary.setOtherFunds(null, null);
+        TokenValueDto fndFunds = null;
+        TokenValueDto otherFunds = null;
+        for (final Map.Entry<String, BigDecimal> amount : amountsByToken.entrySet()) {
+            final TokenValueDto tokenValue = tokenValueMapper.map(amount.getKey(), amount.getValue());
+            if (tokenValue == null) {
+                continue;
+            }
+            if (FND_TOKEN_SYMBOL.equalsIgnoreCase(tokenValue.getTokenSymbol()) && fndFunds == null) {
+                fndFunds = tokenValue;
+                summary.setFndFunds(amount.getKey(), amount.getValue());
+            } else if (!FND_TOKEN_SYMBOL.equalsIgnoreCase(tokenValue.getTokenSymbol()) && otherFunds == null) {
+                otherFunds = tokenValue;
+                summary.setOtherFunds(amount.getKey(), amount.getValue());
+            }
+        }
+        summary.setUsdValues(toUsd(requestId, fndFunds, summary.getFndUsdValue()), toUsd(requestId, otherFunds, summary.getOtherUsdValue()));
+        summary.setFunderCount((int) fundRepository.countFundersForRequest(requestId));
+        if (activityDate != null && (summary.getLastActivityDate() == null || activityDate.isAfter(summary.getLastActivityDate()))) {
+            summary.setLastActivityDate(activityDate);
+        }
+        requestSummaryRepository.saveAndFlush(summary);
+        eventPublisher.publishEvent(new RequestSummaryUpdatedEvent(requestId));
+    }
+
+    private BigDecimal toUsd(final Long requestId, final TokenValueDto funds, final BigDecimal previousValue) {
+        if (funds == null) {
+            return BigDecimal.ZERO;
+        }
+        try {
+            final Optional<Double> usd = fiatService.getUsdPrice(funds);
+            if (usd.isPresent()) {
+                return BigDecimal.valueOf(usd.get()).setScale(2, RoundingMode.HALF_UP);
+            }
+            log.warn("No price for {} in request summary {}, keeping previous value", funds.getTokenSymbol(), requestId);
+        } catch (final Exception e) {
+            log.warn("Unable to price {} for request summary {}, keeping previous value: {}", funds.getTokenSymbol(), requestId, e.getMessage());
+        }
+        return previousValue;
+    }
+}
@@ -0,0 +1,12 @@
+package io.fundrequest.core.request.summary;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+public class RequestSummaryUpdatedEvent {
+    private final Long requestId;
+}
@@ -0,0 +1,33 @@
+package io.fundrequest.core.request.summary.continuous;
+
+import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.summary.RequestSummaryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "io.fundrequest.request-summary-reconciler.enabled", havingValue = "true")
+public class RequestSummaryReconciler {
+
+    private final FundRepository fundRepository;
+    private final RequestSummaryService requestSummaryService;
+
+    public RequestSummaryReconciler(final FundRepository fundRepository, final RequestSummaryService requestSummaryService) {
+        this.fundRepository = fundRepository;
+        this.requestSummaryService = requestSummaryService;
+    }
+
+    @Scheduled(fixedDelayString = "${io.fundrequest.request-summary-reconciler.interval-ms:900000}")
+    public void reconcile() {
+        fundRepository.findFundedRequestIds().forEach(requestId -> {
+            try {
+                requestSummaryService.refresh(requestId, null);
+            } catch (final Exception ex) {
+                log.error("Unable to refresh request summary for request {}: {}", requestId, ex.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package io.fundrequest.core.request.summary.domain;
+
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.db.infrastructure.AbstractEntity;
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Table(name = "request_summary")
+@Entity
+@Getter
+public class RequestSummary extends AbstractEntity {
+
+    @Id
+    @Column(name = "request_id")
+    private Long requestId;
+
+    @Column(name = "phase")
+    @Enumerated(EnumType.STRING)
+    private RequestPhase phase;
+
+    @Column(name = "fnd_token_address")
+    private String fndTokenAddress;
+
+    @Column(name = "fnd_amount_in_wei")
+    private BigDecimal fndAmountInWei;
+
+    @Column(name = "fnd_usd_value")
+    private BigDecimal fndUsdValue = BigDecimal.ZERO;
+
+    @Column(name = "other_token_address")
+    private String otherTokenAddress;
+
+    @Column(name = "other_amount_in_wei")
+    private BigDecimal otherAmountInWei;
+
+    @Column(name = "other_usd_value")
+    private BigDecimal otherUsdValue = BigDecimal.ZERO;
+
+    @Column(name = "usd_value")
+    private BigDecimal usdValue = BigDecimal.ZERO;
+
+    @Column(name = "funder_count")
+    private int funderCount;
+
+    @Column(name = "last_activity_date")
+    private LocalDateTime lastActivityDate;
+
+    protected RequestSummary() {
+    }
+
+    public RequestSummary(final Long requestId) {
+        this.requestId = requestId;
+    }
+
+    public void setPhase(final RequestPhase phase) {
+        this.phase = phase;
+    }
+
+    public void setFndFunds(final String tokenAddress, final BigDecimal amountInWei) {
+        this.fndTokenAddress = tokenAddress;
+        this.fndAmountInWei = amountInWei;
+    }
+
+    public void setOtherFunds(final String tokenAddress, final BigDecimal amountInWei) {
+        this.otherTokenAddress = tokenAddress;
+        this.otherAmountInWei = amountInWei;
+    }
+
+    public void setUsdValues(final BigDecimal fndUsdValue, final BigDecimal otherUsdValue) {
+        this.fndUsdValue = fndUsdValue;
+        this.otherUsdValue = otherUsdValue;
+        this.usdValue = fndUsdValue.add(otherUsdValue);
+    }
+
+    public void setFunderCount(final int funderCount) {
+        this.funderCount = funderCount;
+    }
+
+    public void setLastActivityDate(final LocalDateTime lastActivityDate) {
+        this.lastActivityDate = lastActivityDate;
+    }
+}
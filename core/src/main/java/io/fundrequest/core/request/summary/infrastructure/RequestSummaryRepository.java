@@ -0,0 +1,23 @@
+package io.fundrequest.core.request.summary.infrastructure;
+
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RequestSummaryRepository extends JpaRepository<RequestSummary, Long> {
+
+    @Query("SELECT s, r FROM RequestSummary s, Request r WHERE s.requestId = r.id AND r.status = :status")
+    List<Object[]> findAllWithRequestForStatus(@Param("status") RequestStatus status);
+
+    @Query("SELECT s.lastModifiedDate FROM RequestSummary s WHERE s.requestId = ?1")
+    Optional<LocalDateTime> findLastModifiedDate(Long requestId);
+
+    @Query("SELECT MAX(s.lastModifiedDate) FROM RequestSummary s")
+    LocalDateTime findLastModifiedDate();
+}
@@ -50,7 +50,7 @@ public abstract class PendingFundDtoMapperDecorator implements PendingFundDtoMap
         } else {
             funds.setOtherFunds(totalFund);
         }
-        funds.setUsdFunds(fiatService.getUsdPrice(funds.getFndFunds(), funds.getOtherFunds()));
+        funds.setUsdFunds(fiatService.getUsdPrice(funds.getFndFunds(), funds.getOtherFunds()).orElse(null));
     }
 
 }
@@ -0,0 +1,32 @@
+package io.fundrequest.core.request.view;
+
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.domain.RequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestFilterDto {
+
+    private RequestPhase phase;
+
+    private RequestStatus status;
+
+    private String project;
+
+    private String search;
+
+    @Builder.Default
+    private RequestSort sort = RequestSort.LAST_MODIFIED;
+
+    @Builder.Default
+    private Set<String> technologies = new HashSet<>();
+}
@@ -0,0 +1,21 @@
+package io.fundrequest.core.request.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestPageDto {
+
+    @Builder.Default
+    private List<RequestDto> requests = new ArrayList<>();
+
+    private String nextCursor;
+}
@@ -0,0 +1,6 @@
+package io.fundrequest.core.request.view;
+
+public enum RequestSort {
+    LAST_MODIFIED,
+    USD_VALUE
+}
@@ -0,0 +1,17 @@
+package io.fundrequest.core.request.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestVersionDto {
+
+    private Long requestId;
+
+    private LocalDateTime lastModifiedDate;
+}
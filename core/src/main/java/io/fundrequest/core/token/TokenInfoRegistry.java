@@ -0,0 +1,53 @@
+package io.fundrequest.core.token;
+
+import io.fundrequest.core.token.domain.TokenInfo;
+import io.fundrequest.core.token.dto.TokenInfoDto;
+import io.fundrequest.core.token.infrastructure.TokenInfoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+@Component
+@Slf4j
+public class TokenInfoRegistry {
+
+    private final TokenInfoRepository tokenInfoRepository;
+    private final ConcurrentMap<String, TokenInfo> tokens = new ConcurrentHashMap<>();
+
+    public TokenInfoRegistry(final TokenInfoRepository tokenInfoRepository) {
+        this.tokenInfoRepository = tokenInfoRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        tokenInfoRepository.findAll().forEach(tokenInfo -> tokens.put(tokenInfo.getAddress(), tokenInfo));
+        log.info("Loaded {} known tokens into the token registry", tokens.size());
+    }
+
+    public Optional<TokenInfo> find(final String tokenAddress) {
+        return Optional.ofNullable(tokens.get(tokenAddress.toLowerCase()));
+    }
+
+    @Transactional(propagation = REQUIRES_NEW)
+    public TokenInfo register(final TokenInfoDto tokenInfoDto) {
+        final String address = tokenInfoDto.getAddress().toLowerCase();
+        final TokenInfo tokenInfo = tokenInfoRepository.findOne(address)
+                                                       .orElseGet(() -> tokenInfoRepository.saveAndFlush(TokenInfo.builder()
+                                                                                                                  .address(address)
+                                                                                                                  .symbol(tokenInfoDto.getSymbol())
+                                                                                                                  .name(tokenInfoDto.getName())
+                                                                                                                  .decimals(tokenInfoDto.getDecimals())
+                                                                                                                  .build()));
+        tokens.put(address, tokenInfo);
+        return tokenInfo;
+    }
+}
@@ -1,23 +1,40 @@
 package io.fundrequest.core.token;
 
 import io.fundrequest.core.erc20.service.ERC20Service;
+import io.fundrequest.core.token.domain.TokenInfo;
 import io.fundrequest.core.token.dto.TokenInfoDto;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Service
+@Slf4j
 public class TokenInfoServiceImpl implements TokenInfoService {
 
+    private final ERC20Service erc20Service;
+    private final TokenInfoRegistry tokenInfoRegistry;
 
-    private ERC20Service erc20Service;
-
-    public TokenInfoServiceImpl(final ERC20Service erc20Service) {
+    public TokenInfoServiceImpl(final ERC20Service erc20Service, final TokenInfoRegistry tokenInfoRegistry) {
         this.erc20Service = erc20Service;
+        this.tokenInfoRegistry = tokenInfoRegistry;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TokenInfoDto getTokenInfo(final String tokenAddress) {
+        final Optional<TokenInfo> known = tokenInfoRegistry.find(tokenAddress);
+        if (known.isPresent()) {
+            return toDto(tokenAddress, known.get());
+        }
+        final Optional<TokenInfoDto> fetched = erc20Service.tokenInfo(tokenAddress);
+        if (fetched.isPresent()) {
+            try {
+                return toDto(tokenAddress, tokenInfoRegistry.register(fetched.get()));
+            } catch (final Exception ex) {
+                log.debug("Unable to register token {}", tokenAddress, ex);
+                return fetched.get();
+            }
+        }
         return TokenInfoDto.builder()
                            .address(tokenAddress)
                            .decimals(erc20Service.decimals(tokenAddress))
@@ -25,4 +42,13 @@ public class TokenInfoServiceImpl implements TokenInfoService {
                            .symbol(erc20Service.symbol(tokenAddress))
                            .build();
     }
+
+    private TokenInfoDto toDto(final String tokenAddress, final TokenInfo tokenInfo) {
+        return TokenInfoDto.builder()
+                           .address(tokenAddress)
+                           .decimals(tokenInfo.getDecimals())
+                           .name(tokenInfo.getName())
+                           .symbol(tokenInfo.getSymbol())
+                           .build();
+    }
 }
@@ -0,0 +1,40 @@
+package io.fundrequest.core.token.domain;
+
+import io.fundrequest.db.infrastructure.AbstractEntity;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Table(name = "token_info")
+@Entity
+@Getter
+public class TokenInfo extends AbstractEntity {
+
+    @Id
+    @Column(name = "address")
+    private String address;
+
+    @Column(name = "symbol")
+    private String symbol;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "decimals")
+    private int decimals;
+
+    protected TokenInfo() {
+    }
+
+    @Builder
+    TokenInfo(final String address, final String symbol, final String name, final int decimals) {
+        this.address = address == null ? null : address.toLowerCase();
+        this.symbol = symbol;
+        this.name = name;
+        this.decimals = decimals;
+    }
+}
@@ -0,0 +1,13 @@
+package io.fundrequest.core.token.infrastructure;
+
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+import io.fundrequest.core.token.domain.TokenInfo;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Set;
+
+public interface TokenInfoRepository extends JpaRepository<TokenInfo, String> {
+
+    @Query("SELECT DISTINCT t.symbol FROM TokenInfo t")
+    Set<String> findAllSymbols();
+}
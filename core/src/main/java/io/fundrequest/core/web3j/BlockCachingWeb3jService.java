@@ -0,0 +1,134 @@
+package io.fundrequest.core.web3j;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+public class BlockCachingWeb3jService implements Web3jService {
+
+    private final Web3jService delegate;
+    private final EthCallCache ethCallCache;
+    private final ConcurrentMap<EthCallKey, InFlightCall> inFlight = new ConcurrentHashMap<>();
+
+    public BlockCachingWeb3jService(final Web3jService delegate, final EthCallCache ethCallCache) {
+        this.delegate = delegate;
+        this.ethCallCache = ethCallCache;
+    }
+
+    @Override
+    public <T extends Response> T send(final Request request, final Class<T> responseType) throws IOException {
+        if (isCacheable(request, responseType)) {
+            return Futures.await(sendAsync(request, responseType));
+        }
+        return delegate.send(request, responseType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Response> CompletableFuture<T> sendAsync(final Request request, final Class<T> responseType) {
+        final Optional<EthCallKey> key = isCacheable(request, responseType) ? ethCallCache.keyFor((Transaction) request.getParams().get(0)) : Optional.empty();
+        if (!key.isPresent()) {
+            return delegate.sendAsync(request, responseType);
+        }
+        final Optional<EthCall> cached = ethCallCache.get(key.get());
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture((T) cached.get());
+        }
+        return (CompletableFuture<T>) callAtBlock(key.get());
+    }
+
+    private CompletableFuture<EthCall> callAtBlock(final EthCallKey key) {
+        while (true) {
+            final InFlightCall candidate = new InFlightCall();
+            final InFlightCall existing = inFlight.putIfAbsent(key, candidate);
+            final InFlightCall call = existing == null ? candidate : existing;
+            final Optional<CompletableFuture<EthCall>> waiter = call.join();
+            if (existing == null) {
+                send(key, candidate);
+            }
+            if (waiter.isPresent()) {
+                return waiter.get();
+            }
+            inFlight.remove(key, call);
+        }
+    }
+
+    private void send(final EthCallKey key, final InFlightCall call) {
+        final List<Object> params = Arrays.asList(Transaction.createEthCallTransaction(key.getFrom(), key.getContractAddress(), key.getData()),
+                                                  DefaultBlockParameter.valueOf(key.getBlockNumber()));
+        final CompletableFuture<EthCall> upstream = delegate.sendAsync(new Request<>("eth_call", params, delegate, EthCall.class), EthCall.class);
+        upstream.whenComplete((ethCall, throwable) -> {
+            inFlight.remove(key, call);
+            if (throwable != null) {
+                call.result.completeExceptionally(throwable);
+            } else {
+                ethCallCache.put(key, ethCall);
+                call.result.complete(ethCall);
+            }
+        });
+        call.start(upstream);
+    }
+
+    private boolean isCacheable(final Request<?, ?> request, final Class<?> responseType) {
+        return "eth_call".equals(request.getMethod())
+               && EthCall.class.equals(responseType)
+               && request.getParams().size() == 2
+               && request.getParams().get(0) instanceof Transaction
+               && isLatest(request.getParams().get(1));
+    }
+
+    private boolean isLatest(final Object blockParameter) {
+        return blockParameter == DefaultBlockParameterName.LATEST || DefaultBlockParameterName.LATEST.getValue().equals(blockParameter);
+    }
+
+    private static class InFlightCall {
+        private final CompletableFuture<EthCall> result = new CompletableFuture<>();
+        private CompletableFuture<EthCall> upstream;
+        private int waiters;
+        private boolean abandoned;
+
+        private synchronized Optional<CompletableFuture<EthCall>> join() {
+            if (abandoned) {
+                return Optional.empty();
+            }
+            waiters++;
+            final CompletableFuture<EthCall> waiter = result.thenApply(Function.identity());
+            waiter.whenComplete((ethCall, throwable) -> {
+                if (waiter.isCancelled()) {
+                    leave();
+                }
+            });
+            return Optional.of(waiter);
+        }
+
+        private synchronized void start(final CompletableFuture<EthCall> upstream) {
+            this.upstream = upstream;
+            if (abandoned) {
+                upstream.cancel(true);
+            }
+        }
+
+        private synchronized void leave() {
+            waiters--;
+            if (waiters == 0 && !result.isDone()) {
+                abandoned = true;
+                if (upstream != null) {
+                    upstream.cancel(true);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.fundrequest.core.web3j;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class CoalescingHttpService implements Web3jService {
+
+    private final JsonRpcBatchClient batchClient;
+    private final long windowInMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService executor;
+    private final ExecutorService callbackExecutor;
+
+    private final Object lock = new Object();
+    private List<PendingCall<?>> pendingCalls = new ArrayList<>();
+
+    public CoalescingHttpService(final JsonRpcBatchClient batchClient, final long windowInMillis, final int maxBatchSize, final int dispatcherThreads) {
+        this.batchClient = batchClient;
+        this.windowInMillis = windowInMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = new ScheduledThreadPoolExecutor(dispatcherThreads, daemonThreads("web3j-batch-"));
+        // Callers may block on another call from inside a callback, so callbacks never run on the dispatcher threads and
+        // the callback pool grows instead of queueing: a nested call needs a free callback thread to complete.
+        this.callbackExecutor = Executors.newCachedThreadPool(daemonThreads("web3j-callback-"));
+    }
+
+    private static ThreadFactory daemonThreads(final String prefix) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public <T extends Response> T send(final Request request, final Class<T> responseType) throws IOException {
+        return Futures.await(sendAsync(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(final Request request, final Class<T> responseType) {
+        final PendingCall<T> pendingCall = new PendingCall<>(request, responseType);
+        synchronized (lock) {
+            pendingCalls.add(pendingCall);
+            if (pendingCalls.size() >= maxBatchSize) {
+                executor.execute(this::flush);
+            } else if (pendingCalls.size() == 1) {
+                executor.schedule(this::flush, windowInMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return pendingCall.future;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+        callbackExecutor.shutdown();
+    }
+
+    private void flush() {
+        final List<PendingCall<?>> batch;
+        synchronized (lock) {
+            if (pendingCalls.isEmpty()) {
+                return;
+            }
+            batch = pendingCalls.stream().filter(pendingCall -> !pendingCall.future.isDone()).collect(Collectors.toList());
+            pendingCalls = new ArrayList<>();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            final List<JsonNode> responses = batchClient.sendRaw(batch.stream().map(pendingCall -> pendingCall.request).collect(Collectors.toList()));
+            for (int i = 0; i < batch.size(); i++) {
+                final PendingCall<?> pendingCall = batch.get(i);
+                final JsonNode response = responses.get(i);
+                callbackExecutor.execute(() -> pendingCall.complete(response));
+            }
+        } catch (final Exception e) {
+            log.debug("JSON-RPC batch of {} calls failed", batch.size(), e);
+            batch.forEach(pendingCall -> callbackExecutor.execute(() -> pendingCall.future.completeExceptionally(e)));
+        }
+    }
+
+    private class PendingCall<T extends Response> {
+        private final Request<?, ?> request;
+        private final Class<T> responseType;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private PendingCall(final Request<?, ?> request, final Class<T> responseType) {
+            this.request = request;
+            this.responseType = responseType;
+        }
+
+        private void complete(final JsonNode response) {
+            try {
+                future.complete(batchClient.readResponse(response, responseType));
+            } catch (final IOException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
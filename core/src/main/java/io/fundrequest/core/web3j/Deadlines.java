@@ -0,0 +1,41 @@
+package io.fundrequest.core.web3j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public final class Deadlines {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "web3j-deadlines");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Deadlines() {
+    }
+
+    public static <T> CompletableFuture<T> withDeadline(final CompletableFuture<T> future, final Duration timeout) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final ScheduledFuture<?> deadline = SCHEDULER.schedule(() -> expire(result, future, timeout), timeout.toMillis(), TimeUnit.MILLISECONDS);
+        future.whenComplete((value, throwable) -> {
+            deadline.cancel(false);
+            if (throwable == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(throwable);
+            }
+        });
+        return result;
+    }
+
+    private static void expire(final CompletableFuture<?> result, final CompletableFuture<?> future, final Duration timeout) {
+        if (result.completeExceptionally(new TimeoutException("No result within " + timeout.toMillis() + "ms"))) {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.fundrequest.core.web3j;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+class EndpointStats {
+
+    private static final long ERROR_PENALTY_IN_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final long[] latenciesInNanos;
+    private final boolean[] failures;
+    private int size;
+    private int position;
+
+    EndpointStats(final int windowSize) {
+        this.latenciesInNanos = new long[windowSize];
+        this.failures = new boolean[windowSize];
+    }
+
+    synchronized void record(final long latencyInNanos, final boolean success) {
+        latenciesInNanos[position] = latencyInNanos;
+        failures[position] = !success;
+        position = (position + 1) % latenciesInNanos.length;
+        size = Math.min(size + 1, latenciesInNanos.length);
+    }
+
+    synchronized long p95InNanos() {
+        if (size == 0) {
+            return 0;
+        }
+        final long[] sorted = Arrays.copyOf(latenciesInNanos, size);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(0.95 * size) - 1];
+    }
+
+    synchronized double errorRate() {
+        if (size == 0) {
+            return 0;
+        }
+        int failureCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (failures[i]) {
+                failureCount++;
+            }
+        }
+        return (double) failureCount / size;
+    }
+
+    double score() {
+        return p95InNanos() + errorRate() * ERROR_PENALTY_IN_NANOS;
+    }
+}
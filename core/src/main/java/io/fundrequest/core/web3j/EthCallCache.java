@@ -0,0 +1,59 @@
+package io.fundrequest.core.web3j;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+
+import java.math.BigInteger;
+import java.util.Optional;
+
+@Component
+public class EthCallCache {
+
+    private static final String CACHE_NAME = "eth_call";
+
+    private final CacheManager cacheManager;
+    private volatile BigInteger head;
+
+    public EthCallCache(final CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public Optional<BigInteger> head() {
+        return Optional.ofNullable(head);
+    }
+
+    public synchronized void advanceTo(final BigInteger blockNumber) {
+        if (head == null || blockNumber.compareTo(head) > 0) {
+            head = blockNumber;
+            cache().clear();
+        }
+    }
+
+    public Optional<EthCallKey> keyFor(final Transaction transaction) {
+        return head().map(blockNumber -> new EthCallKey(lowerCase(transaction.getFrom()),
+                                                        lowerCase(transaction.getTo()),
+                                                        transaction.getData(),
+                                                        blockNumber));
+    }
+
+    public Optional<EthCall> get(final EthCallKey key) {
+        return Optional.ofNullable(cache().get(key, EthCall.class));
+    }
+
+    public void put(final EthCallKey key, final EthCall ethCall) {
+        if (!ethCall.hasError()) {
+            cache().put(key, ethCall);
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    private static String lowerCase(final String address) {
+        return address == null ? null : address.toLowerCase();
+    }
+}
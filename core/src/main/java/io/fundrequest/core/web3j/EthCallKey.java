@@ -0,0 +1,13 @@
+package io.fundrequest.core.web3j;
+
+import lombok.Value;
+
+import java.math.BigInteger;
+
+@Value
+public class EthCallKey {
+    private final String from;
+    private final String contractAddress;
+    private final String data;
+    private final BigInteger blockNumber;
+}
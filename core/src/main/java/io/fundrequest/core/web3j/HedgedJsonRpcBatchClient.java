@@ -0,0 +1,26 @@
+package io.fundrequest.core.web3j;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.web3j.protocol.core.Request;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+public class HedgedJsonRpcBatchClient extends JsonRpcBatchClient {
+
+    private final HedgingWeb3jService hedgingService;
+
+    public HedgedJsonRpcBatchClient(final HedgingWeb3jService hedgingService, final EthCallCache ethCallCache) {
+        super(ethCallCache);
+        this.hedgingService = hedgingService;
+    }
+
+    @Override
+    public List<JsonNode> sendRaw(final List<? extends Request<?, ?>> requests) throws IOException {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return hedgingService.sendBatch(requests);
+    }
+}
@@ -0,0 +1,218 @@
+package io.fundrequest.core.web3j;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class HedgingWeb3jService implements Web3jService {
+
+    private final List<Web3jEndpoint> endpoints;
+    private final long minHedgeDelayInNanos;
+    private final ScheduledExecutorService scheduler;
+
+    public HedgingWeb3jService(final List<Web3jEndpoint> endpoints, final Duration minHedgeDelay, final Duration probeInterval) {
+        this.endpoints = new ArrayList<>(endpoints);
+        this.minHedgeDelayInNanos = minHedgeDelay.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "web3j-hedging");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::probe, probeInterval.toMillis(), probeInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public <T extends Response> T send(final Request request, final Class<T> responseType) throws IOException {
+        return Futures.await(sendAsync(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(final Request request, final Class<T> responseType) {
+        final List<Web3jEndpoint> ranked = eligibleEndpoints(pinnedBlock(request));
+        if (!isHedgeable(request) || ranked.size() == 1) {
+            return new HedgedCall<>(request, responseType, Collections.singletonList(ranked.get(0))).start();
+        }
+        final HedgedCall<T> call = new HedgedCall<>(request, responseType, ranked);
+        final long hedgeDelayInNanos = Math.max(minHedgeDelayInNanos, ranked.get(0).getStats().p95InNanos());
+        scheduler.schedule(call::attempt, hedgeDelayInNanos, TimeUnit.NANOSECONDS);
+        return call.start();
+    }
+
+    public List<JsonNode> sendBatch(final List<? extends Request<?, ?>> requests) throws IOException {
+        final Optional<BigInteger> pinnedBlock = requests.stream()
+                                                         .map(HedgingWeb3jService::pinnedBlock)
+                                                         .filter(Optional::isPresent)
+                                                         .map(Optional::get)
+                                                         .max(Comparator.naturalOrder());
+        IOException failure = null;
+        for (final Web3jEndpoint endpoint : eligibleEndpoints(pinnedBlock)) {
+            if (endpoint.getBatchClient() == null) {
+                continue;
+            }
+            final long start = System.nanoTime();
+            try {
+                final List<JsonNode> responses = endpoint.getBatchClient().sendRaw(requests);
+                endpoint.getStats().record(System.nanoTime() - start, true);
+                return responses;
+            } catch (final IOException e) {
+                endpoint.getStats().record(System.nanoTime() - start, false);
+                log.debug("Batch on Ethereum endpoint {} failed, failing over", endpoint.getName(), e);
+                failure = e;
+            }
+        }
+        throw failure != null ? failure : new IOException("No Ethereum endpoint accepts JSON-RPC batches");
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    List<Web3jEndpoint> rankedEndpoints() {
+        final List<Web3jEndpoint> ranked = new ArrayList<>(endpoints);
+        ranked.sort(Comparator.comparingDouble(endpoint -> endpoint.getStats().score()));
+        return ranked;
+    }
+
+    private List<Web3jEndpoint> eligibleEndpoints(final Optional<BigInteger> pinnedBlock) {
+        final List<Web3jEndpoint> ranked = rankedEndpoints();
+        if (!pinnedBlock.isPresent()) {
+            return ranked;
+        }
+        final List<Web3jEndpoint> synced = ranked.stream().filter(endpoint -> endpoint.hasReached(pinnedBlock.get())).collect(Collectors.toList());
+        return synced.isEmpty() ? ranked : synced;
+    }
+
+    private static Optional<BigInteger> pinnedBlock(final Request<?, ?> request) {
+        if ("eth_call".equals(request.getMethod()) && request.getParams().size() == 2 && request.getParams().get(1) instanceof DefaultBlockParameterNumber) {
+            return Optional.of(((DefaultBlockParameterNumber) request.getParams().get(1)).getBlockNumber());
+        }
+        return Optional.empty();
+    }
+
+    private static void observeHead(final Web3jEndpoint endpoint, final Response<?> response) {
+        if (response instanceof EthBlockNumber && !response.hasError() && response.getResult() != null) {
+            endpoint.advanceHead(((EthBlockNumber) response).getBlockNumber());
+        }
+    }
+
+    private void probe() {
+        endpoints.forEach(endpoint -> {
+            final long start = System.nanoTime();
+            endpoint.getService()
+                    .sendAsync(new Request<>("eth_blockNumber", Collections.emptyList(), endpoint.getService(), EthBlockNumber.class), EthBlockNumber.class)
+                    .whenComplete((response, throwable) -> {
+                        endpoint.getStats().record(System.nanoTime() - start, throwable == null && !response.hasError());
+                        observeHead(endpoint, response);
+                        if (throwable != null) {
+                            log.debug("Probe of Ethereum endpoint {} failed", endpoint.getName(), throwable);
+                        }
+                    });
+        });
+    }
+
+    private boolean isHedgeable(final Request<?, ?> request) {
+        return !request.getMethod().startsWith("eth_send") && !request.getMethod().startsWith("personal_");
+    }
+
+    private static class HedgedCall<T extends Response> {
+        private final Request<?, ?> request;
+        private final Class<T> responseType;
+        private final List<Web3jEndpoint> endpoints;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<T>> attempts = new ArrayList<>();
+        private T errorResponse;
+        private int next;
+        private int pending;
+
+        private HedgedCall(final Request<?, ?> request, final Class<T> responseType, final List<Web3jEndpoint> endpoints) {
+            this.request = request;
+            this.responseType = responseType;
+            this.endpoints = endpoints;
+        }
+
+        private CompletableFuture<T> start() {
+            result.whenComplete((response, throwable) -> {
+                if (result.isCancelled()) {
+                    cancelAttempts();
+                }
+            });
+            attempt();
+            return result;
+        }
+
+        private void attempt() {
+            final Web3jEndpoint endpoint;
+            synchronized (this) {
+                if (result.isDone() || next >= endpoints.size()) {
+                    return;
+                }
+                endpoint = endpoints.get(next++);
+                pending++;
+            }
+            final long start = System.nanoTime();
+            final CompletableFuture<T> attempt = endpoint.getService().sendAsync(request, responseType);
+            synchronized (this) {
+                attempts.add(attempt);
+                if (result.isCancelled()) {
+                    attempt.cancel(true);
+                }
+            }
+            attempt.whenComplete((response, throwable) -> {
+                if (attempt.isCancelled()) {
+                    return;
+                }
+                final boolean success = throwable == null && !response.hasError();
+                endpoint.getStats().record(System.nanoTime() - start, success);
+                observeHead(endpoint, response);
+                if (success) {
+                    result.complete(response);
+                } else {
+                    onFailure(response, throwable);
+                }
+            });
+        }
+
+        private synchronized void cancelAttempts() {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+
+        private void onFailure(final T response, final Throwable throwable) {
+            final boolean exhausted;
+            final T lastErrorResponse;
+            synchronized (this) {
+                pending--;
+                exhausted = pending == 0 && next >= endpoints.size();
+                if (response != null) {
+                    errorResponse = response;
+                }
+                lastErrorResponse = errorResponse;
+            }
+            if (!exhausted) {
+                attempt();
+            } else if (lastErrorResponse != null) {
+                result.complete(lastErrorResponse);
+            } else {
+                result.completeExceptionally(throwable);
+            }
+        }
+    }
+}
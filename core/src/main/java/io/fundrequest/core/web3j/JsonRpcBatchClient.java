@@ -0,0 +1,134 @@
+package io.fundrequest.core.web3j;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class JsonRpcBatchClient {
+
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json; charset=utf-8");
+
+    private final String endpoint;
+    private final OkHttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final EthCallCache ethCallCache;
+
+    public JsonRpcBatchClient(final String endpoint, final OkHttpClient httpClient) {
+        this(endpoint, httpClient, null);
+    }
+
+    public JsonRpcBatchClient(final String endpoint, final OkHttpClient httpClient, final EthCallCache ethCallCache) {
+        this.endpoint = endpoint;
+        this.httpClient = httpClient;
+        this.objectMapper = ObjectMapperFactory.getObjectMapper();
+        this.ethCallCache = ethCallCache;
+    }
+
+    protected JsonRpcBatchClient(final EthCallCache ethCallCache) {
+        this(null, null, ethCallCache);
+    }
+
+    public List<List<Type>> executeCalls(final String from, final String contractAddress, final List<Function> functions) throws IOException {
+        final EthCall[] ethCalls = new EthCall[functions.size()];
+        final List<Request<?, EthCall>> misses = new ArrayList<>();
+        final List<Integer> missIndexes = new ArrayList<>();
+        final List<Optional<EthCallKey>> missKeys = new ArrayList<>();
+        for (int i = 0; i < functions.size(); i++) {
+            final Transaction transaction = Transaction.createEthCallTransaction(from, contractAddress, FunctionEncoder.encode(functions.get(i)));
+            final Optional<EthCallKey> key = ethCallCache == null ? Optional.empty() : ethCallCache.keyFor(transaction);
+            final Optional<EthCall> cached = key.flatMap(k -> ethCallCache.get(k));
+            if (cached.isPresent()) {
+                ethCalls[i] = cached.get();
+            } else {
+                final DefaultBlockParameter block = key.<DefaultBlockParameter>map(k -> DefaultBlockParameter.valueOf(k.getBlockNumber()))
+                                                       .orElse(DefaultBlockParameterName.LATEST);
+                misses.add(new Request<>("eth_call", Arrays.asList(transaction, block), null, EthCall.class));
+                missIndexes.add(i);
+                missKeys.add(key);
+            }
+        }
+        final List<EthCall> responses = send(misses, EthCall.class);
+        for (int i = 0; i < responses.size(); i++) {
+            final EthCall response = responses.get(i);
+            ethCalls[missIndexes.get(i)] = response;
+            missKeys.get(i).ifPresent(key -> ethCallCache.put(key, response));
+        }
+        final List<List<Type>> results = new ArrayList<>(ethCalls.length);
+        for (int i = 0; i < ethCalls.length; i++) {
+            final EthCall ethCall = ethCalls[i];
+            results.add(ethCall.hasError() ? Collections.emptyList() : FunctionReturnDecoder.decode(ethCall.getValue(), functions.get(i).getOutputParameters()));
+        }
+        return results;
+    }
+
+    public <T extends Response> List<T> send(final List<? extends Request<?, ?>> requests, final Class<T> responseType) throws IOException {
+        final List<T> responses = new ArrayList<>(requests.size());
+        for (final JsonNode node : sendRaw(requests)) {
+            responses.add(readResponse(node, responseType));
+        }
+        return responses;
+    }
+
+    public List<JsonNode> sendRaw(final List<? extends Request<?, ?>> requests) throws IOException {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<Long, JsonNode> responsesById = new HashMap<>();
+        for (final JsonNode node : post(objectMapper.writeValueAsString(requests))) {
+            responsesById.put(node.path("id").asLong(), node);
+        }
+        final List<JsonNode> responses = new ArrayList<>(requests.size());
+        for (final Request<?, ?> request : requests) {
+            final JsonNode response = responsesById.get(request.getId());
+            if (response == null) {
+                throw new IOException("No response for JSON-RPC request " + request.getId() + " in batch");
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    public <T extends Response> T readResponse(final JsonNode node, final Class<T> responseType) throws IOException {
+        return objectMapper.treeToValue(node, responseType);
+    }
+
+    private JsonNode post(final String payload) throws IOException {
+        final okhttp3.Request httpRequest = new okhttp3.Request.Builder().url(endpoint)
+                                                                         .post(RequestBody.create(JSON_MEDIA_TYPE, payload))
+                                                                         .build();
+        try (okhttp3.Response httpResponse = httpClient.newCall(httpRequest).execute()) {
+            final ResponseBody body = httpResponse.body();
+            if (!httpResponse.isSuccessful() || body == null) {
+                throw new IOException("JSON-RPC batch failed with status " + httpResponse.code());
+            }
+            final JsonNode result = objectMapper.readTree(body.byteStream());
+            if (!result.isArray()) {
+                throw new IOException("JSON-RPC endpoint did not answer with a batch response");
+            }
+            return result;
+        }
+    }
+}
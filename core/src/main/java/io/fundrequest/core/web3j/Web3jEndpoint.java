@@ -0,0 +1,39 @@
+package io.fundrequest.core.web3j;
+
+import lombok.Getter;
+import org.web3j.protocol.Web3jService;
+
+import java.math.BigInteger;
+
+@Getter
+public class Web3jEndpoint {
+
+    private static final int STATS_WINDOW_SIZE = 100;
+
+    private final String name;
+    private final Web3jService service;
+    private final JsonRpcBatchClient batchClient;
+    private final EndpointStats stats = new EndpointStats(STATS_WINDOW_SIZE);
+    private volatile BigInteger head;
+
+    public Web3jEndpoint(final String name, final Web3jService service) {
+        this(name, service, null);
+    }
+
+    public Web3jEndpoint(final String name, final Web3jService service, final JsonRpcBatchClient batchClient) {
+        this.name = name;
+        this.service = service;
+        this.batchClient = batchClient;
+    }
+
+    synchronized void advanceHead(final BigInteger blockNumber) {
+        if (head == null || blockNumber.compareTo(head) > 0) {
+            head = blockNumber;
+        }
+    }
+
+    boolean hasReached(final BigInteger blockNumber) {
+        final BigInteger knownHead = head;
+        return knownHead != null && knownHead.compareTo(blockNumber) >= 0;
+    }
+}
@@ -1,5 +1,6 @@
 package io.fundrequest.core.web3j;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,6 +10,7 @@ import org.web3j.protocol.Web3j;
 import javax.annotation.PostConstruct;
 
 @Component
+@Slf4j
 public class Web3jGateway {
 
     @Autowired
@@ -16,29 +18,24 @@ public class Web3jGateway {
     @Autowired
     @Qualifier("local")
     private Web3j secondary;
-
-    private Web3j currentProvider;
+    @Autowired
+    private EthCallCache ethCallCache;
 
     @PostConstruct
-    @Scheduled(fixedDelay = 20000)
+    @Scheduled(fixedDelayString = "${io.fundrequest.ethereum.head-poll-interval-ms:5000}")
     private void init() {
-        currentProvider = updateCurrentProvider();
+        try {
+            ethCallCache.advanceTo(primary.ethBlockNumber().send().getBlockNumber());
+        } catch (final Exception ex) {
+            log.debug("Unable to fetch the latest block number, keeping the last known head", ex);
+        }
     }
 
     public Web3j web3j() {
-        return currentProvider;
+        return primary;
     }
 
     public Web3j secondary() {
         return secondary;
     }
-
-    private Web3j updateCurrentProvider() {
-        try {
-            primary.ethBlockNumber().send();
-            return primary;
-        } catch (final Exception ex) {
-            return secondary;
-        }
-    }
 }
@@ -1,62 +1,119 @@
 package io.fundrequest.core.contract.service;
 
+import io.fundrequest.core.contract.domain.ContractAddress;
+import io.fundrequest.core.contract.domain.FundRepositoryContract;
 import io.fundrequest.core.contract.domain.FundRequestContract;
-import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
+import io.fundrequest.core.contract.infrastructure.ContractAddressRepository;
 import io.fundrequest.core.infrastructure.exception.ResourceNotFoundException;
-import io.fundrequest.core.token.TokenInfoService;
 import io.fundrequest.core.token.dto.TokenInfoDto;
+import io.fundrequest.core.web3j.JsonRpcBatchClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.web3j.protocol.Web3j;
 
-import java.math.BigInteger;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class FundRequestContractsServiceTest {
 
+    private static final String FUND_REQUEST_ADDRESS = "0x0000000000000000000000000000000000000001";
+    private static final String FUND_REPOSITORY_ADDRESS = "0x0000000000000000000000000000000000000002";
+    private static final String CLAIM_REPOSITORY_ADDRESS = "0x0000000000000000000000000000000000000003";
+
     private FundRequestContractsService fundRequestContractsService;
-    private TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract;
-    private TokenInfoService tokenInfoService;
+    private FundRequestContract fundRequestContract;
+    private TokenWhitelistIndex tokenWhitelistIndex;
+    private ContractAddressRepository contractAddressRepository;
 
     @BeforeEach
     void setUp() {
-        tokenWhitelistPreconditionContract = mock(TokenWhitelistPreconditionContract.class, RETURNS_DEEP_STUBS);
-        tokenInfoService = mock(TokenInfoService.class);
+        fundRequestContract = mock(FundRequestContract.class);
+        tokenWhitelistIndex = mock(TokenWhitelistIndex.class);
+        contractAddressRepository = mock(ContractAddressRepository.class);
+        when(fundRequestContract.getContractAddress()).thenReturn(FUND_REQUEST_ADDRESS);
+        when(contractAddressRepository.findOne(any(ContractAddress.Key.class))).thenReturn(Optional.empty());
         fundRequestContractsService = new FundRequestContractsService(
-                mock(FundRequestContract.class),
-                tokenWhitelistPreconditionContract,
+                fundRequestContract,
+                tokenWhitelistIndex,
                 mock(Web3j.class),
-                tokenInfoService
+                mock(JsonRpcBatchClient.class),
+                contractAddressRepository,
+                Runnable::run,
+                5000L
         );
     }
 
     @Test
-    void testNoDuplicates() throws Exception {
-        String platform = "GITHUB";
-        String platformId = "FundRequest|FR|area51|FR|3";
+    void init_resolvesAndStoresAddresses() {
+        when(fundRequestContract.fundRepository(any(Duration.class))).thenReturn(completedFuture(FUND_REPOSITORY_ADDRESS));
+        when(fundRequestContract.claimRepository(any(Duration.class))).thenReturn(completedFuture(CLAIM_REPOSITORY_ADDRESS));
+
+        fundRequestContractsService.init();
+
+        assertThat(fundRequestContractsService.fundRepository().getContractAddress()).isEqualTo(FUND_REPOSITORY_ADDRESS);
+        assertThat(fundRequestContractsService.claimRepository().getContractAddress()).isEqualTo(CLAIM_REPOSITORY_ADDRESS);
+        final ArgumentCaptor<ContractAddress> captor = ArgumentCaptor.forClass(ContractAddress.class);
+        verify(contractAddressRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(ContractAddress::getFundRequestAddress, ContractAddress::getName, ContractAddress::getAddress)
+                                         .containsExactly(tuple(FUND_REQUEST_ADDRESS, FundRequestContractsService.FUND_REPOSITORY, FUND_REPOSITORY_ADDRESS),
+                                                          tuple(FUND_REQUEST_ADDRESS, FundRequestContractsService.CLAIM_REPOSITORY, CLAIM_REPOSITORY_ADDRESS));
+    }
+
+    @Test
+    void init_usesLastKnownAddressesWhileNodeIsUnavailable() {
+        when(contractAddressRepository.findOne(new ContractAddress.Key(FUND_REQUEST_ADDRESS, FundRequestContractsService.FUND_REPOSITORY)))
+                .thenReturn(Optional.of(new ContractAddress(FUND_REQUEST_ADDRESS, FundRequestContractsService.FUND_REPOSITORY, FUND_REPOSITORY_ADDRESS)));
+        when(contractAddressRepository.findOne(new ContractAddress.Key(FUND_REQUEST_ADDRESS, FundRequestContractsService.CLAIM_REPOSITORY)))
+                .thenReturn(Optional.of(new ContractAddress(FUND_REQUEST_ADDRESS, FundRequestContractsService.CLAIM_REPOSITORY, CLAIM_REPOSITORY_ADDRESS)));
+        when(fundRequestContract.fundRepository(any(Duration.class))).thenReturn(new CompletableFuture<>());
+        when(fundRequestContract.claimRepository(any(Duration.class))).thenReturn(new CompletableFuture<>());
+
+        fundRequestContractsService.init();
+
+        assertThat(fundRequestContractsService.fundRepository().getContractAddress()).isEqualTo(FUND_REPOSITORY_ADDRESS);
+        assertThat(fundRequestContractsService.claimRepository().getContractAddress()).isEqualTo(CLAIM_REPOSITORY_ADDRESS);
+        verify(contractAddressRepository, never()).save(any(ContractAddress.class));
+    }
+
+    @Test
+    void fundRepositoryAsync_failsInsteadOfThrowingWhenUnresolved() {
+        final CompletableFuture<String> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new IOException("node down"));
+        when(fundRequestContract.fundRepository(any(Duration.class))).thenReturn(failure);
+        when(fundRequestContract.claimRepository(any(Duration.class))).thenReturn(failure);
+
+        final CompletableFuture<FundRepositoryContract> result = fundRequestContractsService.fundRepositoryAsync();
 
-        when(tokenWhitelistPreconditionContract.amountOftokens().send().intValue()).thenReturn(3);
-        when(tokenWhitelistPreconditionContract.token(BigInteger.valueOf(0))).thenReturn(Optional.of("FND"));
-        when(tokenWhitelistPreconditionContract.token(BigInteger.valueOf(1))).thenReturn(Optional.of("ZRX"));
-        when(tokenWhitelistPreconditionContract.token(BigInteger.valueOf(2))).thenReturn(Optional.of("ZRX"));
-        when(tokenInfoService.getTokenInfo("FND")).thenReturn(TokenInfoDto.builder().symbol("FND").address("FND").build());
-        when(tokenInfoService.getTokenInfo("ZRX")).thenReturn(TokenInfoDto.builder().symbol("ZRX").address("ZRX").build());
-        when(tokenWhitelistPreconditionContract.isValid(platform, platformId, "FND")).thenReturn(true);
-        when(tokenWhitelistPreconditionContract.isValid(platform, platformId, "ZRX")).thenReturn(true);
+        assertThat(result).isCompletedExceptionally();
+    }
 
+    @Test
+    void getAllPossibleTokens() {
+        final String platform = "GITHUB";
+        final String platformId = "FundRequest|FR|area51|FR|3";
+        final List<TokenInfoDto> allowedTokens = Arrays.asList(TokenInfoDto.builder().symbol("FND").address("FND").build(),
+                                                               TokenInfoDto.builder().symbol("ZRX").address("ZRX").build());
 
-        List<TokenInfoDto> possibleTokens = fundRequestContractsService.getAllPossibleTokens(platform, platformId);
+        when(tokenWhitelistIndex.getAllowedTokens(platform, platformId)).thenReturn(allowedTokens);
 
-        assertThat(possibleTokens.stream().map(TokenInfoDto::getSymbol).collect(Collectors.toList())).containsExactly("FND", "ZRX");
+        assertThat(fundRequestContractsService.getAllPossibleTokens(platform, platformId)).isEqualTo(allowedTokens);
     }
 
     @Test
@@ -64,7 +121,7 @@ public class FundRequestContractsServiceTest {
         final String platform = "GITHUB";
         final String platformId = "FundRequest|FR|area51|FR|3";
 
-        when(tokenWhitelistPreconditionContract.token(any(BigInteger.class))).thenReturn(Optional.empty());
+        when(tokenWhitelistIndex.getAllowedTokens(platform, platformId)).thenReturn(Collections.emptyList());
 
         try {
             fundRequestContractsService.getAllPossibleTokens(platform, platformId);
@@ -73,4 +130,4 @@ public class FundRequestContractsServiceTest {
             assertThat(e).isNotNull();
         }
     }
-}
\ No newline at end of file
+}
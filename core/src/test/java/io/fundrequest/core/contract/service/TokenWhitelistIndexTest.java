@@ -0,0 +1,216 @@
+package io.fundrequest.core.contract.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
+import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.token.TokenInfoService;
+import io.fundrequest.core.token.dto.TokenInfoDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenWhitelistIndexTest {
+
+    private static final String PLATFORM = Platform.GITHUB.name();
+    private static final String PLATFORM_ID = "FundRequest|FR|area51|FR|3";
+
+    private TokenWhitelistIndex tokenWhitelistIndex;
+    private TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract;
+    private TokenInfoService tokenInfoService;
+    private RequestRepository requestRepository;
+    private TokenInfoDto fnd;
+    private TokenInfoDto zrx;
+    private FakeTicker ticker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tokenWhitelistPreconditionContract = mock(TokenWhitelistPreconditionContract.class);
+        tokenInfoService = mock(TokenInfoService.class);
+        ticker = new FakeTicker();
+        requestRepository = mock(RequestRepository.class);
+        tokenWhitelistIndex = new TokenWhitelistIndex(tokenWhitelistPreconditionContract,
+                                                      tokenInfoService,
+                                                      requestRepository,
+                                                      Duration.ofHours(1),
+                                                      100,
+                                                      Duration.ofSeconds(1),
+                                                      ticker,
+                                                      Runnable::run);
+        fnd = TokenInfoDto.builder().symbol("FND").address("0xfnd").build();
+        zrx = TokenInfoDto.builder().symbol("ZRX").address("0xzrx").build();
+
+        when(tokenWhitelistPreconditionContract.tokens()).thenReturn(Arrays.asList("0xfnd", "0xzrx"));
+        when(tokenInfoService.getTokenInfo("0xfnd")).thenReturn(fnd);
+        when(tokenInfoService.getTokenInfo("0xzrx")).thenReturn(zrx);
+    }
+
+    @Test
+    void getAllowedTokens_evaluatesAllTokensInOneBatch() throws Exception {
+        final Map<String, Boolean> validity = new LinkedHashMap<>();
+        validity.put("0xfnd", true);
+        validity.put("0xzrx", false);
+        when(tokenWhitelistPreconditionContract.isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"))).thenReturn(validity);
+
+        final List<TokenInfoDto> result = tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID);
+
+        assertThat(result).containsExactly(fnd);
+    }
+
+    @Test
+    void getAllowedTokens_servesOtherIssuesOfSameRepoFromIndex() throws Exception {
+        final Map<String, Boolean> validity = new LinkedHashMap<>();
+        validity.put("0xfnd", true);
+        validity.put("0xzrx", true);
+        when(tokenWhitelistPreconditionContract.isValid(eq(PLATFORM), anyString(), anyListOf(String.class))).thenReturn(validity);
+
+        tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID);
+        final List<TokenInfoDto> result = tokenWhitelistIndex.getAllowedTokens(PLATFORM, "FundRequest|FR|area51|FR|4");
+
+        assertThat(result).containsExactly(fnd, zrx);
+        verify(tokenWhitelistPreconditionContract, times(1)).tokens();
+        verify(tokenWhitelistPreconditionContract, times(1)).isValid(eq(PLATFORM), anyString(), anyListOf(String.class));
+    }
+
+    @Test
+    void refresh_reevaluatesIndexedRepos() throws Exception {
+        final Map<String, Boolean> before = new LinkedHashMap<>();
+        before.put("0xfnd", true);
+        before.put("0xzrx", true);
+        final Map<String, Boolean> after = new LinkedHashMap<>();
+        after.put("0xfnd", true);
+        after.put("0xzrx", false);
+        when(tokenWhitelistPreconditionContract.isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"))).thenReturn(before, after);
+        tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID);
+
+        tokenWhitelistIndex.refresh();
+
+        assertThat(tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID)).containsExactly(fnd);
+    }
+
+    @Test
+    void refresh_skipsReposNotLookedUpRecently() throws Exception {
+        final Map<String, Boolean> validity = new LinkedHashMap<>();
+        validity.put("0xfnd", true);
+        validity.put("0xzrx", true);
+        when(tokenWhitelistPreconditionContract.isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"))).thenReturn(validity);
+        tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID);
+
+        ticker.advance(Duration.ofMinutes(61));
+        tokenWhitelistIndex.refresh();
+
+        verify(tokenWhitelistPreconditionContract, times(1)).isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"));
+    }
+
+    @Test
+    void refresh_doesNotKeepReposAlive() throws Exception {
+        final Map<String, Boolean> validity = new LinkedHashMap<>();
+        validity.put("0xfnd", true);
+        validity.put("0xzrx", true);
+        when(tokenWhitelistPreconditionContract.isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"))).thenReturn(validity);
+        tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID);
+
+        ticker.advance(Duration.ofMinutes(50));
+        tokenWhitelistIndex.refresh();
+        ticker.advance(Duration.ofMinutes(20));
+        tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID);
+
+        verify(tokenWhitelistPreconditionContract, times(3)).isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"));
+    }
+
+    @Test
+    void getAllowedTokens_doesNotIndexFailures() throws Exception {
+        when(tokenWhitelistPreconditionContract.isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"))).thenThrow(new IOException("node down"));
+
+        assertThat(tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID)).isEmpty();
+        assertThat(tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID)).isEmpty();
+
+        verify(tokenWhitelistPreconditionContract, times(2)).isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"));
+    }
+
+    @Test
+    void getAllowedTokens_doesNotIndexBatchesWithFailedCalls() throws Exception {
+        final Map<String, Boolean> validity = new LinkedHashMap<>();
+        validity.put("0xfnd", true);
+        when(tokenWhitelistPreconditionContract.isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"))).thenReturn(validity);
+
+        assertThat(tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID)).isEmpty();
+        assertThat(tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID)).isEmpty();
+
+        verify(tokenWhitelistPreconditionContract, times(2)).isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"));
+    }
+
+    @Test
+    void getAllowedTokens_doesNotCallTheContractOnTheCallerThread() throws Exception {
+        tokenWhitelistIndex = new TokenWhitelistIndex(tokenWhitelistPreconditionContract,
+                                                      tokenInfoService,
+                                                      requestRepository,
+                                                      Duration.ofHours(1),
+                                                      100,
+                                                      Duration.ofMillis(10),
+                                                      ticker,
+                                                      command -> {});
+
+        assertThat(tokenWhitelistIndex.getAllowedTokens(PLATFORM, PLATFORM_ID)).isEmpty();
+
+        verify(tokenWhitelistPreconditionContract, never()).isValid(anyString(), anyString(), anyListOf(String.class));
+    }
+
+    @Test
+    void warmUp_indexesReposWithOpenRequests() throws Exception {
+        final Map<String, Boolean> validity = new LinkedHashMap<>();
+        validity.put("0xfnd", true);
+        validity.put("0xzrx", false);
+        when(requestRepository.findRepositoriesWithStatusIn(anyListOf(RequestStatus.class))).thenReturn(Collections.singletonList(new Object[] {Platform.GITHUB, PLATFORM_ID}));
+        when(tokenWhitelistPreconditionContract.isValid(PLATFORM, PLATFORM_ID, Arrays.asList("0xfnd", "0xzrx"))).thenReturn(validity);
+
+        tokenWhitelistIndex.warmUp();
+
+        assertThat(tokenWhitelistIndex.getAllowedTokens(PLATFORM, "FundRequest|FR|area51|FR|4")).containsExactly(fnd);
+        verify(tokenWhitelistPreconditionContract, times(1)).isValid(eq(PLATFORM), anyString(), anyListOf(String.class));
+    }
+
+    @Test
+    void key_GitHub() {
+        assertThat(TokenWhitelistIndex.key(PLATFORM, "sgfgs|FR|szgff|FR|435")).isEqualTo(PLATFORM + "-sgfgs-szgff");
+    }
+
+    @Test
+    void key_OtherPlatform() {
+        final String platform = Platform.STACK_OVERFLOW.name();
+
+        assertThat(TokenWhitelistIndex.key(platform, "sgfgasfdgshd5")).isEqualTo(platform + "-sgfgasfdgshd5");
+    }
+
+    private static class FakeTicker implements Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(final Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+}
@@ -2,6 +2,8 @@ package io.fundrequest.core.request;
 
 import io.fundrequest.common.infrastructure.mapping.Mappers;
 import io.fundrequest.core.PrincipalMother;
+import io.fundrequest.core.infrastructure.exception.InvalidCursorException;
+import io.fundrequest.core.infrastructure.exception.ResourceNotFoundException;
 import io.fundrequest.core.request.claim.SignedClaim;
 import io.fundrequest.core.request.claim.UserClaimRequest;
 import io.fundrequest.core.request.claim.command.RequestClaimedCommand;
@@ -19,16 +21,23 @@ import io.fundrequest.core.request.domain.IssueInformationMother;
 import io.fundrequest.core.request.domain.Platform;
 import io.fundrequest.core.request.domain.Request;
 import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestPhase;
 import io.fundrequest.core.request.domain.RequestStatus;
 import io.fundrequest.core.request.domain.RequestType;
 import io.fundrequest.core.request.erc67.Erc67Generator;
 import io.fundrequest.core.request.fund.domain.CreateERC67FundRequest;
 import io.fundrequest.core.request.fund.dto.CommentDto;
+import io.fundrequest.core.request.fund.infrastructure.RefundRequestRepository;
 import io.fundrequest.core.request.infrastructure.RequestRepository;
 import io.fundrequest.core.request.infrastructure.github.parser.GithubPlatformIdParser;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
 import io.fundrequest.core.request.view.ClaimDtoMother;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.request.view.RequestDtoMother;
+import io.fundrequest.core.request.view.RequestFilterDto;
+import io.fundrequest.core.request.view.RequestPageDto;
+import io.fundrequest.core.request.view.RequestSort;
+import io.fundrequest.core.request.view.RequestVersionDto;
 import io.fundrequest.platform.github.GithubGateway;
 import io.fundrequest.platform.github.parser.GithubIssueCommentsResult;
 import io.fundrequest.platform.profile.profile.ProfileService;
@@ -38,6 +47,7 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.security.Principal;
@@ -46,6 +56,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -67,6 +78,8 @@ public class RequestServiceImplTest {
 
     private RequestServiceImpl requestService;
     private RequestRepository requestRepository;
+    private RequestSummaryRepository requestSummaryRepository;
+    private RefundRequestRepository refundRequestRepository;
     private Mappers mappers;
     private GithubPlatformIdParser githubLinkParser;
     private ClaimRepository claimRepository;
@@ -80,6 +93,8 @@ public class RequestServiceImplTest {
     @Before
     public void setUp() {
         requestRepository = mock(RequestRepository.class);
+        requestSummaryRepository = mock(RequestSummaryRepository.class);
+        refundRequestRepository = mock(RefundRequestRepository.class);
         mappers = mock(Mappers.class);
         githubLinkParser = mock(GithubPlatformIdParser.class);
         profileService = mock(ProfileService.class, RETURNS_DEEP_STUBS);
@@ -91,6 +106,8 @@ public class RequestServiceImplTest {
         environment = mock(Environment.class);
         requestService = new RequestServiceImpl(
                 requestRepository,
+                requestSummaryRepository,
+                refundRequestRepository,
                 mappers,
                 githubLinkParser,
                 profileService,
@@ -110,6 +127,113 @@ public class RequestServiceImplTest {
         assertThat(result).isEqualTo(expectedRequests);
     }
 
+    @Test
+    public void findFunded_firstPage() {
+        final Request first = RequestMother.freeCodeCampNoUserStories().withId(3L).withLastModifiedDate(LocalDateTime.of(2018, 7, 3, 10, 0)).build();
+        final Request second = RequestMother.fundRequestArea51().withId(2L).withLastModifiedDate(LocalDateTime.of(2018, 7, 2, 10, 0)).build();
+        final Request third = RequestMother.fundRequestArea51().withId(1L).withLastModifiedDate(LocalDateTime.of(2018, 7, 1, 10, 0)).build();
+        final List<RequestDto> expectedRequests = Arrays.asList(RequestDtoMother.freeCodeCampNoUserStories(), RequestDtoMother.fundRequestArea51());
+        when(requestRepository.findFunded(Arrays.asList(OPEN, FUNDED, RequestStatus.IN_PROGRESS, RequestStatus.UNRESOLVED),
+                                          "FundRequest",
+                                          Collections.singleton("java"),
+                                          1L,
+                                          null,
+                                          null,
+                                          new PageRequest(0, 3))).thenReturn(Arrays.asList(first, second, third));
+        when(mappers.mapList(Request.class, RequestDto.class, Arrays.asList(first, second))).thenReturn(expectedRequests);
+
+        final RequestPageDto result = requestService.findFunded(RequestFilterDto.builder()
+                                                                                .phase(RequestPhase.OPEN)
+                                                                                .project(" FundRequest ")
+                                                                                .technologies(Collections.singleton("Java"))
+                                                                                .build(), null, 2);
+
+        assertThat(result.getRequests()).isEqualTo(expectedRequests);
+        assertThat(result.getNextCursor()).isEqualTo(RequestCursor.of(second).encode());
+    }
+
+    @Test
+    public void findFunded_afterCursor() {
+        final LocalDateTime lastModifiedDate = LocalDateTime.of(2018, 7, 2, 10, 0);
+        final Request request = RequestMother.fundRequestArea51().withId(1L).withLastModifiedDate(LocalDateTime.of(2018, 7, 1, 10, 0)).build();
+        final List<RequestDto> expectedRequests = singletonList(RequestDtoMother.fundRequestArea51());
+        when(requestRepository.findFundedAfter(singletonList(RequestStatus.CLAIMED),
+                                               null,
+                                               Collections.singleton(""),
+                                               0L,
+                                               null,
+                                               null,
+                                               lastModifiedDate,
+                                               2L,
+                                               new PageRequest(0, 3))).thenReturn(singletonList(request));
+        when(mappers.mapList(Request.class, RequestDto.class, singletonList(request))).thenReturn(expectedRequests);
+
+        final RequestPageDto result = requestService.findFunded(RequestFilterDto.builder().status(RequestStatus.CLAIMED).build(),
+                                                                new RequestCursor(lastModifiedDate, null, 2L).encode(),
+                                                                2);
+
+        assertThat(result.getRequests()).isEqualTo(expectedRequests);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void findFunded_byUsdValue() {
+        final Request first = RequestMother.freeCodeCampNoUserStories().withId(3L).build();
+        final Request second = RequestMother.fundRequestArea51().withId(2L).build();
+        final List<RequestDto> expectedRequests = singletonList(RequestDtoMother.freeCodeCampNoUserStories());
+        when(requestRepository.findFundedByUsdValueAfter(Arrays.asList(RequestStatus.values()),
+                                                         null,
+                                                         Collections.singleton(""),
+                                                         0L,
+                                                         "%bounty%",
+                                                         null,
+                                                         new BigDecimal("100.00"),
+                                                         4L,
+                                                         new PageRequest(0, 2))).thenReturn(Arrays.asList(new Object[] {first, new BigDecimal("50.00")},
+                                                                                                          new Object[] {second, new BigDecimal("20.00")}));
+        when(mappers.mapList(Request.class, RequestDto.class, singletonList(first))).thenReturn(expectedRequests);
+
+        final RequestPageDto result = requestService.findFunded(RequestFilterDto.builder().search(" Bounty ").sort(RequestSort.USD_VALUE).build(),
+                                                                RequestCursor.of(new BigDecimal("100.00"), 4L).encode(),
+                                                                1);
+
+        assertThat(result.getRequests()).isEqualTo(expectedRequests);
+        assertThat(result.getNextCursor()).isEqualTo(RequestCursor.of(new BigDecimal("50.00"), 3L).encode());
+    }
+
+    @Test
+    public void findFunded_searchOnNumber() {
+        requestService.findFunded(RequestFilterDto.builder().search("43").build(), null, 2);
+
+        verify(requestRepository).findFunded(Arrays.asList(RequestStatus.values()), null, Collections.singleton(""), 0L, null, "43", new PageRequest(0, 3));
+    }
+
+    @Test(expected = InvalidCursorException.class)
+    public void findFunded_invalidCursor() {
+        requestService.findFunded(RequestFilterDto.builder().build(), "not-a-cursor", 2);
+    }
+
+    @Test
+    public void findFunded_statusOutsidePhase() {
+        final RequestPageDto result = requestService.findFunded(RequestFilterDto.builder().phase(RequestPhase.OPEN).status(RequestStatus.CLAIMED).build(), null, 2);
+
+        assertThat(result.getRequests()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void countFundedPerPhase() {
+        when(requestRepository.countFundedPerStatus()).thenReturn(Arrays.asList(new Object[] {OPEN, 2L},
+                                                                                new Object[] {FUNDED, 3L},
+                                                                                new Object[] {RequestStatus.CLAIMED, 1L}));
+
+        final Map<RequestPhase, Long> result = requestService.countFundedPerPhase();
+
+        assertThat(result).containsEntry(RequestPhase.OPEN, 5L)
+                          .containsEntry(RequestPhase.CLOSED, 1L)
+                          .doesNotContainKey(RequestPhase.RESOLVED);
+    }
+
     @Test
     public void generateERC67() {
         when(environment.getProperty("io.fundrequest.payments.erc67.gas", "200000"))
@@ -159,6 +283,61 @@ public class RequestServiceImplTest {
         assertThat(result).isEqualTo(expectedRequest);
     }
 
+    @Test
+    public void findVersion_summaryModifiedLater() {
+        final LocalDateTime requestLastModified = LocalDateTime.now().minusDays(1);
+        final LocalDateTime summaryLastModified = LocalDateTime.now();
+        when(requestRepository.findVersion(1L)).thenReturn(Optional.of(new RequestVersionDto(1L, requestLastModified)));
+        when(requestSummaryRepository.findLastModifiedDate(1L)).thenReturn(Optional.of(summaryLastModified));
+        when(refundRequestRepository.findLastModifiedDate(1L)).thenReturn(Optional.empty());
+
+        final RequestVersionDto result = requestService.findVersion(1L);
+
+        assertThat(result).isEqualTo(new RequestVersionDto(1L, summaryLastModified));
+    }
+
+    @Test
+    public void findVersion_refundRequestedLater() {
+        final LocalDateTime requestLastModified = LocalDateTime.now().minusDays(2);
+        final LocalDateTime summaryLastModified = LocalDateTime.now().minusDays(1);
+        final LocalDateTime refundLastModified = LocalDateTime.now();
+        when(requestRepository.findVersion(1L)).thenReturn(Optional.of(new RequestVersionDto(1L, requestLastModified)));
+        when(requestSummaryRepository.findLastModifiedDate(1L)).thenReturn(Optional.of(summaryLastModified));
+        when(refundRequestRepository.findLastModifiedDate(1L)).thenReturn(Optional.of(refundLastModified));
+
+        final RequestVersionDto result = requestService.findVersion(1L);
+
+        assertThat(result).isEqualTo(new RequestVersionDto(1L, refundLastModified));
+    }
+
+    @Test
+    public void findVersion_withoutSummary() {
+        final LocalDateTime requestLastModified = LocalDateTime.now();
+        when(requestRepository.findVersion(Platform.GITHUB, "1")).thenReturn(Optional.of(new RequestVersionDto(1L, requestLastModified)));
+        when(requestSummaryRepository.findLastModifiedDate(1L)).thenReturn(Optional.empty());
+        when(refundRequestRepository.findLastModifiedDate(1L)).thenReturn(Optional.empty());
+
+        final RequestVersionDto result = requestService.findVersion(Platform.GITHUB, "1");
+
+        assertThat(result).isEqualTo(new RequestVersionDto(1L, requestLastModified));
+    }
+
+    @Test(expected = ResourceNotFoundException.class)
+    public void findVersion_unknownRequest() {
+        when(requestRepository.findVersion(1L)).thenReturn(Optional.empty());
+
+        requestService.findVersion(1L);
+    }
+
+    @Test
+    public void findLastModifiedDate() {
+        final LocalDateTime requestLastModified = LocalDateTime.now();
+        when(requestRepository.findLastModifiedDate()).thenReturn(requestLastModified);
+        when(requestSummaryRepository.findLastModifiedDate()).thenReturn(requestLastModified.minusHours(1));
+
+        assertThat(requestService.findLastModifiedDate()).isEqualTo(requestLastModified);
+    }
+
     @Test
     public void findRequestsForUser() {
         Principal user = mock(Principal.class, RETURNS_DEEP_STUBS);
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Optional;
 
 import static io.fundrequest.core.token.dto.TokenValueDtoMother.FND;
 import static io.fundrequest.core.token.dto.TokenValueDtoMother.ZRX;
@@ -66,7 +67,7 @@ class ClaimDtoAggregatorTest {
                                                                                     .build();
         final double expectedUSD = 3456.3D;
 
-        when(fiatService.getUsdPrice(fndTotal, zrxTotal)).thenReturn(expectedUSD);
+        when(fiatService.getUsdPrice(fndTotal, zrxTotal)).thenReturn(Optional.of(expectedUSD));
 
         final ClaimsByTransactionAggregate claims = claimDtoAggregator.aggregateClaims(Arrays.asList(claim1, claim2, claim3, claim4));
 
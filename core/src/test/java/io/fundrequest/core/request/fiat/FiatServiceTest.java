@@ -1,81 +1,95 @@
 package io.fundrequest.core.request.fiat;
 
-import io.fundrequest.core.request.fiat.coinmarketcap.service.CoinMarketCapService;
-import io.fundrequest.core.request.fiat.cryptocompare.service.CryptoCompareService;
 import io.fundrequest.core.token.dto.TokenValueDto;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class FiatServiceTest {
 
-    private CryptoCompareService cryptoCompareService;
-    private CoinMarketCapService coinMarketCapService;
+    private PriceOracle priceOracle;
     private FiatService fiatService;
 
     @Before
     public void setUp() {
-        cryptoCompareService = mock(CryptoCompareService.class);
-        coinMarketCapService = mock(CoinMarketCapService.class);
-        fiatService = new FiatService(cryptoCompareService, coinMarketCapService);
+        priceOracle = mock(PriceOracle.class);
+        fiatService = new FiatService(priceOracle);
     }
 
-
     @Test
-    public void getUsdPriceOneCryptoCompare() {
+    public void getUsdPriceOne() {
         TokenValueDto totalFund = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
-        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.empty());
-        when(cryptoCompareService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
+        when(priceOracle.getPrice("FND")).thenReturn(Optional.of(new TokenPrice(0.56, Instant.now())));
 
-        double result = fiatService.getUsdPrice(totalFund);
+        Optional<Double> result = fiatService.getUsdPrice(totalFund);
 
-        assertThat(result).isEqualTo(5.6);
+        assertThat(result).contains(5.6);
     }
 
     @Test
-    public void getUsdPriceMultipleCryptoCompare() {
+    public void getUsdPriceMultiple() {
         TokenValueDto totalFund1 = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(new BigDecimal("8457.858")).build();
         TokenValueDto totalFund2 = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("ZRX").totalAmount(new BigDecimal("123.464")).build();
-        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.empty());
-        when(coinMarketCapService.getCurrentPriceInUsd("ZRX")).thenReturn(Optional.empty());
-        when(cryptoCompareService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
-        when(cryptoCompareService.getCurrentPriceInUsd("ZRX")).thenReturn(Optional.of(0.98));
+        when(priceOracle.getPrice("FND")).thenReturn(Optional.of(new TokenPrice(0.56, Instant.now())));
+        when(priceOracle.getPrice("ZRX")).thenReturn(Optional.of(new TokenPrice(0.98, Instant.now())));
 
-        double result = fiatService.getUsdPrice(totalFund1, totalFund2);
+        Optional<Double> result = fiatService.getUsdPrice(totalFund1, totalFund2);
 
-        assertThat(result).isEqualTo(4857.3952);
+        assertThat(result).contains(4857.3952);
     }
 
     @Test
-    public void coinMarketCapHasPriority() {
-        TokenValueDto totalFund = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
-        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
+    public void getUsdPriceUnknownToken() {
+        TokenValueDto totalFund1 = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
+        TokenValueDto totalFund2 = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("ZRX").totalAmount(BigDecimal.TEN).build();
+        when(priceOracle.getPrice("FND")).thenReturn(Optional.of(new TokenPrice(0.56, Instant.now())));
+        when(priceOracle.getPrice("ZRX")).thenReturn(Optional.empty());
+
+        Optional<Double> result = fiatService.getUsdPrice(totalFund1, totalFund2);
+
+        assertThat(result).isEmpty();
+    }
 
-        double result = fiatService.getUsdPrice(totalFund);
+    @Test
+    public void getPricesLooksUpEachSymbolOnce() {
+        final TokenPrice fndPrice = new TokenPrice(0.56, Instant.now());
+        when(priceOracle.getPrice("FND")).thenReturn(Optional.of(fndPrice));
+        when(priceOracle.getPrice("ZRX")).thenReturn(Optional.empty());
 
-        assertThat(result).isEqualTo(5.6);
+        final Map<String, TokenPrice> result = fiatService.getPrices(Arrays.asList("FND", "ZRX", "FND", null));
 
-        verifyZeroInteractions(cryptoCompareService);
+        assertThat(result).containsOnly(entry("FND", fndPrice));
+        verify(priceOracle, times(1)).getPrice("FND");
     }
 
     @Test
-    public void cryptoCompareIsFallback() {
+    public void getUsdPriceWithPrefetchedPrices() {
         TokenValueDto totalFund = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
-        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.empty());
-        when(cryptoCompareService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
 
-        double result = fiatService.getUsdPrice(totalFund);
+        Optional<Double> result = fiatService.getUsdPrice(Collections.singletonMap("FND", new TokenPrice(0.56, Instant.now())), totalFund);
+
+        assertThat(result).contains(5.6);
+        verifyZeroInteractions(priceOracle);
+    }
+
+    @Test
+    public void getUsdPriceWithoutTokens() {
+        Optional<Double> result = fiatService.getUsdPrice((TokenValueDto) null);
 
-        assertThat(result).isEqualTo(5.6);
-        verify(coinMarketCapService).getCurrentPriceInUsd("FND");
-        verify(cryptoCompareService).getCurrentPriceInUsd("FND");
+        assertThat(result).contains(0D);
     }
-}
\ No newline at end of file
+}
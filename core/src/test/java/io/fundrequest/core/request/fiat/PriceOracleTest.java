@@ -0,0 +1,147 @@
+package io.fundrequest.core.request.fiat;
+
+import io.fundrequest.core.request.fiat.coinmarketcap.service.CoinMarketCapService;
+import io.fundrequest.core.request.fiat.cryptocompare.service.CryptoCompareService;
+import io.fundrequest.core.token.infrastructure.TokenInfoRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class PriceOracleTest {
+
+    private CoinMarketCapService coinMarketCapService;
+    private CryptoCompareService cryptoCompareService;
+    private TokenInfoRepository tokenInfoRepository;
+    private Executor executor;
+    private PriceOracle priceOracle;
+
+    @Before
+    public void setUp() {
+        coinMarketCapService = mock(CoinMarketCapService.class);
+        cryptoCompareService = mock(CryptoCompareService.class);
+        tokenInfoRepository = mock(TokenInfoRepository.class);
+        executor = mock(Executor.class);
+        when(tokenInfoRepository.findAllSymbols()).thenReturn(new HashSet<>(Arrays.asList("fnd", "ZRX")));
+        priceOracle = new PriceOracle(coinMarketCapService, cryptoCompareService, tokenInfoRepository, executor);
+    }
+
+    @Test
+    public void refresh_fetchesSeededSymbols() {
+        priceOracle.seedSymbols();
+        when(coinMarketCapService.getCurrentPricesInUsd(anyCollectionOf(String.class))).thenReturn(prices("FND", 0.56, "ZRX", 0.98));
+
+        priceOracle.refresh();
+
+        assertThat(priceOracle.getPrice("fnd").get().getUsd()).isEqualTo(0.56);
+        assertThat(priceOracle.getPrice("ZRX").get().getUsd()).isEqualTo(0.98);
+        verifyZeroInteractions(executor);
+    }
+
+    @Test
+    public void getPrice_cachedPriceIsServedWithoutFetching() {
+        priceOracle.seedSymbols();
+        when(coinMarketCapService.getCurrentPricesInUsd(anyCollectionOf(String.class))).thenReturn(prices("FND", 0.56, "ZRX", 0.98));
+        priceOracle.refresh();
+
+        priceOracle.getPrice("FND");
+        priceOracle.getPrice("FND");
+
+        verify(coinMarketCapService, times(1)).getCurrentPricesInUsd(anyCollectionOf(String.class));
+        verifyZeroInteractions(executor);
+    }
+
+    @Test
+    public void getPrice_unknownSymbolIsFetchedInTheBackground() {
+        when(coinMarketCapService.getCurrentPricesInUsd(Collections.singletonList("FND"))).thenReturn(prices("FND", 0.56));
+        final List<Runnable> scheduled = new ArrayList<>();
+        priceOracle = new PriceOracle(coinMarketCapService, cryptoCompareService, tokenInfoRepository, scheduled::add);
+
+        assertThat(priceOracle.getPrice("fnd")).isEmpty();
+        verifyZeroInteractions(coinMarketCapService);
+
+        scheduled.forEach(Runnable::run);
+
+        assertThat(priceOracle.getPrice("FND").get().getUsd()).isEqualTo(0.56);
+    }
+
+    @Test
+    public void getPrice_unknownSymbolIsScheduledOnce() {
+        priceOracle.getPrice("FND");
+        priceOracle.getPrice("FND");
+
+        verify(executor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void getPrice_rejectedFetchIsLeftToTheSchedule() {
+        doThrow(new RejectedExecutionException()).when(executor).execute(any(Runnable.class));
+        when(coinMarketCapService.getCurrentPricesInUsd(Collections.singletonList("FND"))).thenReturn(prices("FND", 0.56));
+
+        assertThat(priceOracle.getPrice("FND")).isEmpty();
+        priceOracle.refresh();
+
+        assertThat(priceOracle.getPrice("FND").get().getUsd()).isEqualTo(0.56);
+    }
+
+    @Test
+    public void refresh_cryptoCompareIsFallback() {
+        priceOracle.seedSymbols();
+        when(coinMarketCapService.getCurrentPricesInUsd(anyCollectionOf(String.class))).thenReturn(prices("FND", 0.6));
+        when(cryptoCompareService.getCurrentPricesInUsd(Collections.singletonList("ZRX"))).thenReturn(prices("ZRX", 1.0));
+
+        priceOracle.refresh();
+
+        assertThat(priceOracle.getPrices()).containsOnlyKeys("FND", "ZRX");
+        assertThat(priceOracle.getPrices().get("FND").getUsd()).isEqualTo(0.6);
+        assertThat(priceOracle.getPrices().get("ZRX").getUsd()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void refresh_failureKeepsLastKnownPrice() {
+        priceOracle.seedSymbols();
+        when(coinMarketCapService.getCurrentPricesInUsd(anyCollectionOf(String.class))).thenReturn(prices("FND", 0.56, "ZRX", 0.98));
+        priceOracle.refresh();
+
+        when(coinMarketCapService.getCurrentPricesInUsd(anyCollectionOf(String.class))).thenThrow(new RuntimeException("down"));
+        when(cryptoCompareService.getCurrentPricesInUsd(anyCollectionOf(String.class))).thenThrow(new RuntimeException("down"));
+        priceOracle.refresh();
+
+        assertThat(priceOracle.getPrice("FND").get().getUsd()).isEqualTo(0.56);
+    }
+
+    @Test
+    public void seedSymbols_registryFailureLeavesOracleUsable() {
+        when(tokenInfoRepository.findAllSymbols()).thenThrow(new RuntimeException("db down"));
+
+        priceOracle.seedSymbols();
+
+        assertThat(priceOracle.getPrices()).isEmpty();
+    }
+
+    private Map<String, Double> prices(final Object... symbolsAndPrices) {
+        final Map<String, Double> prices = new HashMap<>();
+        for (int i = 0; i < symbolsAndPrices.length; i += 2) {
+            prices.put((String) symbolsAndPrices[i], (Double) symbolsAndPrices[i + 1]);
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,123 @@
+package io.fundrequest.core.request.fiat;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.fundrequest.core.request.fiat.domain.TokenPriceBucket;
+import io.fundrequest.core.request.fiat.infrastructure.TokenPriceBucketRepository;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.mapper.TokenValueMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenPriceHistoryServiceImplTest {
+
+    private TokenPriceBucketRepository tokenPriceBucketRepository;
+    private FakeTicker ticker;
+    private TokenPriceHistoryServiceImpl tokenPriceHistoryService;
+
+    @Before
+    public void setUp() {
+        tokenPriceBucketRepository = mock(TokenPriceBucketRepository.class);
+        ticker = new FakeTicker();
+        tokenPriceHistoryService = new TokenPriceHistoryServiceImpl(tokenPriceBucketRepository, mock(TokenValueMapper.class), 90, Duration.ofMinutes(15), ticker);
+        when(tokenPriceBucketRepository.findBySymbolAndPriceDateGreaterThanEqual(anyString(), any(LocalDate.class))).thenReturn(Collections.emptyList());
+        when(tokenPriceBucketRepository.findBySymbolAndPriceDate(anyString(), any(LocalDate.class))).thenReturn(Optional.empty());
+        when(tokenPriceBucketRepository.findFirstBySymbolAndPriceDateLessThanEqualOrderByPriceDateDesc(anyString(), any(LocalDate.class))).thenReturn(Optional.empty());
+    }
+
+    @Test
+    public void record_averagesSamplesPerDay() {
+        tokenPriceHistoryService.record(Collections.singletonMap("FND", new TokenPrice(0.5, Instant.now())));
+        final ArgumentCaptor<TokenPriceBucket> captor = ArgumentCaptor.forClass(TokenPriceBucket.class);
+        verify(tokenPriceBucketRepository).save(captor.capture());
+        final TokenPriceBucket bucket = captor.getValue();
+        when(tokenPriceBucketRepository.findBySymbolAndPriceDate("FND", LocalDate.now())).thenReturn(Optional.of(bucket));
+
+        tokenPriceHistoryService.record(Collections.singletonMap("FND", new TokenPrice(0.7, Instant.now())));
+
+        assertThat(bucket.getSampleCount()).isEqualTo(2);
+        assertThat(bucket.getUsdPrice()).isEqualByComparingTo("0.6");
+        assertThat(tokenPriceHistoryService.getUsdPrice("FND", LocalDateTime.now())).contains(0.6);
+    }
+
+    @Test
+    public void getUsdPrice_reloadsRecentPricesAfterExpiry() {
+        final TokenPriceBucket bucket = new TokenPriceBucket("FND", LocalDate.now());
+        bucket.addSample(0.8);
+        assertThat(tokenPriceHistoryService.getUsdPrice("FND", LocalDateTime.now())).isEmpty();
+        when(tokenPriceBucketRepository.findBySymbolAndPriceDateGreaterThanEqual(eq("FND"), any(LocalDate.class))).thenReturn(Collections.singletonList(bucket));
+
+        ticker.advance(Duration.ofMinutes(16));
+
+        assertThat(tokenPriceHistoryService.getUsdPrice("FND", LocalDateTime.now())).contains(0.8);
+    }
+
+    @Test
+    public void getUsdPrice_usesClosestEarlierBucket() {
+        final TokenPriceBucket bucket = new TokenPriceBucket("FND", LocalDate.of(2018, 1, 1));
+        bucket.addSample(0.3);
+        when(tokenPriceBucketRepository.findFirstBySymbolAndPriceDateLessThanEqualOrderByPriceDateDesc("FND", LocalDate.of(2018, 2, 1))).thenReturn(Optional.of(bucket));
+
+        final Optional<Double> result = tokenPriceHistoryService.getUsdPrice("fnd", LocalDateTime.of(2018, 2, 1, 10, 0));
+
+        assertThat(result).contains(0.3);
+    }
+
+    @Test
+    public void getUsdPrice_emptyBeforeFirstBucket() {
+        final Optional<Double> result = tokenPriceHistoryService.getUsdPrice("FND", LocalDateTime.of(2017, 1, 1, 0, 0));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void getUsdValue_zeroBeforeFirstBucket() {
+        final TokenValueDto tokenValue = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
+
+        final double result = tokenPriceHistoryService.getUsdValue(tokenValue, LocalDateTime.of(2017, 1, 1, 0, 0));
+
+        assertThat(result).isZero();
+    }
+
+    @Test
+    public void getUsdValue() {
+        final TokenPriceBucket bucket = new TokenPriceBucket("FND", LocalDate.of(2018, 1, 1));
+        bucket.addSample(0.5);
+        when(tokenPriceBucketRepository.findFirstBySymbolAndPriceDateLessThanEqualOrderByPriceDateDesc("FND", LocalDate.of(2018, 1, 1))).thenReturn(Optional.of(bucket));
+        final TokenValueDto tokenValue = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
+
+        final double result = tokenPriceHistoryService.getUsdValue(tokenValue, LocalDateTime.of(2018, 1, 1, 12, 0));
+
+        assertThat(result).isEqualTo(5.0);
+    }
+
+    private static class FakeTicker implements Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(final Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+}
@@ -12,13 +12,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.cache.CacheManager;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CoinMarketCapServiceTest {
@@ -32,7 +35,7 @@ class CoinMarketCapServiceTest {
         client = mock(CoinMarketCapClient.class);
         cacheManager = mock(CacheManager.class, RETURNS_DEEP_STUBS);
         service = new CoinMarketCapService(client, cacheManager);
-        when(cacheManager.getCache("cmc_listings").get("all", List.class)).thenReturn(null);
+        when(cacheManager.getCache("cmc_listings").get("index", Map.class)).thenReturn(null);
     }
 
     @Test
@@ -56,9 +59,9 @@ class CoinMarketCapServiceTest {
                                                                     .build()
                                                     );
 
-        Optional<Double> result = service.getCurrentPriceInUsd("FND");
+        Map<String, Double> result = service.getCurrentPricesInUsd(Collections.singletonList("FND"));
 
-        assertThat(result).hasValue(1.1);
+        assertThat(result).containsEntry("FND", 1.1);
     }
 
     @Test
@@ -67,8 +70,40 @@ class CoinMarketCapServiceTest {
         listingResult.setListings(new ArrayList<>());
         when(client.getListings()).thenReturn(listingResult);
 
-        Optional<Double> result = service.getCurrentPriceInUsd("FND");
+        Map<String, Double> result = service.getCurrentPricesInUsd(Collections.singletonList("FND"));
 
         assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPricesFetchesEachListingOnce() {
+        CmcListingsResult listingResult = new CmcListingsResult();
+        listingResult.setListings(Arrays.asList(CmcListing.builder().id(2751L).symbol("FND").build(), CmcListing.builder().id(1027L).symbol("ETH").build()));
+        when(client.getListings()).thenReturn(listingResult);
+        when(client.getTickerById(2751L)).thenReturn(ticker(2751L, "FND", 1.1));
+
+        Map<String, Double> result = service.getCurrentPricesInUsd(Arrays.asList("fnd", "FND", "ZRX"));
+
+        assertThat(result).containsOnlyKeys("FND")
+                          .containsEntry("FND", 1.1);
+        verify(client, times(1)).getTickerById(2751L);
+        verify(cacheManager.getCache("cmc_listings")).put("index", listingIndex());
+    }
+
+    private Map<String, Long> listingIndex() {
+        Map<String, Long> index = new HashMap<>();
+        index.put("FND", 2751L);
+        index.put("ETH", 1027L);
+        return index;
+    }
+
+    private CmcTickerResult ticker(Long id, String symbol, Double price) {
+        return CmcTickerResult.builder()
+                              .data(CmcTickerData.builder()
+                                                 .id(id)
+                                                 .symbol(symbol)
+                                                 .quotes(CmcTickerQuotes.builder().usd(CmcTickerQuote.builder().price(price).build()).build())
+                                                 .build())
+                              .build();
+    }
+}
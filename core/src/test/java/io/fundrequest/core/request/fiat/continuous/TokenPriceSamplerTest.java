@@ -0,0 +1,72 @@
+package io.fundrequest.core.request.fiat.continuous;
+
+import io.fundrequest.core.request.fiat.PriceOracle;
+import io.fundrequest.core.request.fiat.TokenPrice;
+import io.fundrequest.core.request.fiat.TokenPriceHistoryService;
+import io.fundrequest.core.token.infrastructure.TokenInfoRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenPriceSamplerTest {
+
+    private PriceOracle priceOracle;
+    private TokenInfoRepository tokenInfoRepository;
+    private TokenPriceHistoryService tokenPriceHistoryService;
+    private TokenPriceSampler sampler;
+
+    @Before
+    public void setUp() {
+        priceOracle = mock(PriceOracle.class);
+        tokenInfoRepository = mock(TokenInfoRepository.class);
+        tokenPriceHistoryService = mock(TokenPriceHistoryService.class);
+        sampler = new TokenPriceSampler(priceOracle, tokenInfoRepository, tokenPriceHistoryService);
+        when(tokenInfoRepository.findAllSymbols()).thenReturn(new HashSet<>(Arrays.asList("FND", "ZRX")));
+    }
+
+    @Test
+    public void sample_skipsObservationsAlreadySampled() {
+        final TokenPrice fnd = new TokenPrice(0.5, Instant.now());
+        final TokenPrice zrx = new TokenPrice(1.0, Instant.now());
+        final TokenPrice refreshedZrx = new TokenPrice(1.1, zrx.getFetchedAt().plusSeconds(60));
+        when(priceOracle.getPrice("FND")).thenReturn(Optional.of(fnd));
+        when(priceOracle.getPrice("ZRX")).thenReturn(Optional.of(zrx), Optional.of(refreshedZrx));
+
+        sampler.sample();
+        sampler.sample();
+
+        verify(tokenPriceHistoryService).record(prices(fnd, zrx));
+        verify(tokenPriceHistoryService).record(Collections.singletonMap("ZRX", refreshedZrx));
+    }
+
+    @Test
+    public void sample_samplesEveryRegisteredToken() {
+        final TokenPrice fnd = new TokenPrice(0.5, Instant.now());
+        when(tokenInfoRepository.findAllSymbols()).thenReturn(new HashSet<>(Arrays.asList("fnd", "ZRX")));
+        when(priceOracle.getPrice("FND")).thenReturn(Optional.of(fnd));
+        when(priceOracle.getPrice("ZRX")).thenReturn(Optional.empty());
+
+        sampler.sample();
+
+        verify(priceOracle).getPrice("ZRX");
+        verify(tokenPriceHistoryService).record(Collections.singletonMap("FND", fnd));
+    }
+
+    private Map<String, TokenPrice> prices(final TokenPrice fnd, final TokenPrice zrx) {
+        final Map<String, TokenPrice> prices = new HashMap<>();
+        prices.put("FND", fnd);
+        prices.put("ZRX", zrx);
+        return prices;
+    }
+}
@@ -0,0 +1,90 @@
+package io.fundrequest.core.request.fund;
+
+import io.fundrequest.core.request.claim.infrastructure.ClaimRepository;
+import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.fund.infrastructure.RefundRepository;
+import io.fundrequest.core.request.fund.infrastructure.RequestTokenAmountDto;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FundLedgerServiceImplTest {
+
+    private static final long REQUEST_ID = 465L;
+    private static final String FND = "0x0d8775f648430679a709e98d2b0cb6250d2887ef";
+    private static final String ZRX = "0xe41d2489571d322189246dafa5ebde1f4699f498";
+
+    private FundLedgerServiceImpl fundLedgerService;
+    private FundRepository fundRepository;
+    private RefundRepository refundRepository;
+    private ClaimRepository claimRepository;
+
+    @Before
+    public void setUp() {
+        fundRepository = mock(FundRepository.class);
+        refundRepository = mock(RefundRepository.class);
+        claimRepository = mock(ClaimRepository.class);
+        fundLedgerService = new FundLedgerServiceImpl(fundRepository, refundRepository, claimRepository);
+    }
+
+    @Test
+    public void getBalancesByToken() {
+        when(fundRepository.getAmountPerTokenForRequest(REQUEST_ID)).thenReturn(Arrays.asList(new TokenAmountDto(FND, new BigDecimal("100")),
+                                                                                              new TokenAmountDto(ZRX.toUpperCase(), new BigDecimal("30"))));
+        when(refundRepository.getAmountPerTokenForRequest(REQUEST_ID)).thenReturn(Collections.singletonList(new TokenAmountDto(FND, new BigDecimal("40"))));
+        when(claimRepository.getAmountPerTokenForRequest(REQUEST_ID)).thenReturn(Collections.singletonList(new TokenAmountDto(ZRX, new BigDecimal("30"))));
+
+        final Map<String, BigDecimal> result = fundLedgerService.getBalancesByToken(REQUEST_ID);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(FND)).isEqualByComparingTo("60");
+        assertThat(result.get(ZRX)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    public void getBalancesByToken_noFunds() {
+        when(fundRepository.getAmountPerTokenForRequest(REQUEST_ID)).thenReturn(Collections.emptyList());
+        when(refundRepository.getAmountPerTokenForRequest(REQUEST_ID)).thenReturn(Collections.emptyList());
+        when(claimRepository.getAmountPerTokenForRequest(REQUEST_ID)).thenReturn(Collections.emptyList());
+
+        assertThat(fundLedgerService.getBalancesByToken(REQUEST_ID)).isEmpty();
+    }
+
+    @Test
+    public void getBalancesByToken_forRequests() {
+        final long otherRequestId = 466L;
+        final List<Long> requestIds = Arrays.asList(REQUEST_ID, otherRequestId);
+        when(fundRepository.getAmountPerTokenForRequests(requestIds)).thenReturn(Arrays.asList(new RequestTokenAmountDto(REQUEST_ID, FND, new BigDecimal("100")),
+                                                                                               new RequestTokenAmountDto(otherRequestId, ZRX, new BigDecimal("30"))));
+        when(refundRepository.getAmountPerTokenForRequests(requestIds)).thenReturn(Collections.singletonList(new RequestTokenAmountDto(REQUEST_ID, FND, new BigDecimal("40"))));
+        when(claimRepository.getAmountPerTokenForRequests(requestIds)).thenReturn(Collections.emptyList());
+
+        final Map<Long, Map<String, BigDecimal>> result = fundLedgerService.getBalancesByToken(requestIds);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(REQUEST_ID).get(FND)).isEqualByComparingTo("60");
+        assertThat(result.get(otherRequestId).get(ZRX)).isEqualByComparingTo("30");
+    }
+
+    @Test
+    public void getClaimedByToken() {
+        when(claimRepository.getAmountPerTokenForRequest(REQUEST_ID)).thenReturn(Arrays.asList(new TokenAmountDto(FND, new BigDecimal("100")),
+                                                                                               new TokenAmountDto(ZRX, new BigDecimal("30"))));
+
+        final Map<String, BigDecimal> result = fundLedgerService.getClaimedByToken(REQUEST_ID);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(FND)).isEqualByComparingTo("100");
+        assertThat(result.get(ZRX)).isEqualByComparingTo("30");
+    }
+}
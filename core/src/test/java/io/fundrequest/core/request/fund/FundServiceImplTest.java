@@ -4,7 +4,6 @@ package io.fundrequest.core.request.fund;
 import io.fundrequest.common.infrastructure.mapping.Mappers;
 import io.fundrequest.core.contract.service.FundRequestContractsService;
 import io.fundrequest.core.request.domain.FundMother;
-import io.fundrequest.core.request.domain.IssueInformation;
 import io.fundrequest.core.request.domain.Request;
 import io.fundrequest.core.request.domain.RequestMother;
 import io.fundrequest.core.request.domain.RequestStatus;
@@ -12,17 +11,12 @@ import io.fundrequest.core.request.fiat.FiatService;
 import io.fundrequest.core.request.fund.command.FundsAddedCommand;
 import io.fundrequest.core.request.fund.domain.Fund;
 import io.fundrequest.core.request.fund.domain.PendingFund;
-import io.fundrequest.core.request.fund.domain.Refund;
 import io.fundrequest.core.request.fund.dto.FundDto;
-import io.fundrequest.core.request.fund.dto.FundFundsByFunderAggregator;
-import io.fundrequest.core.request.fund.dto.FundsAndRefundsAggregator;
-import io.fundrequest.core.request.fund.dto.FundsByFunderDto;
 import io.fundrequest.core.request.fund.dto.FundsForRequestDto;
-import io.fundrequest.core.request.fund.dto.RefundFundsByFunderAggregator;
+import io.fundrequest.core.request.fund.dto.UserFundsAggregator;
 import io.fundrequest.core.request.fund.event.RequestFundedEvent;
 import io.fundrequest.core.request.fund.infrastructure.FundRepository;
 import io.fundrequest.core.request.fund.infrastructure.PendingFundRepository;
-import io.fundrequest.core.request.fund.infrastructure.RefundRepository;
 import io.fundrequest.core.request.infrastructure.RequestRepository;
 import io.fundrequest.core.request.view.FundDtoMother;
 import io.fundrequest.core.request.view.RequestDto;
@@ -44,20 +38,23 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -66,49 +63,43 @@ public class FundServiceImplTest {
     private FundServiceImpl fundService;
 
     private FundRepository fundRepository;
-    private RefundRepository refundRepository;
     private PendingFundRepository pendingFundRepository;
     private RequestRepository requestRepository;
     private Mappers mappers;
     private ApplicationEventPublisher eventPublisher;
     private CacheManager cacheManager;
     private FundRequestContractsService fundRequestContractsService;
+    private FundLedgerService fundLedgerService;
     private FiatService fiatService;
     private TokenValueMapper tokenValueMapper;
-    private FundFundsByFunderAggregator fundFundsByFunderAggregator;
-    private RefundFundsByFunderAggregator refundFundsByFunderAggregator;
-    private FundsAndRefundsAggregator fundsAndRefundsAggregator;
+    private UserFundsAggregator userFundsAggregator;
     private Principal funder;
 
     @Before
     public void setUp() {
         fundRepository = mock(FundRepository.class);
-        refundRepository = mock(RefundRepository.class);
         pendingFundRepository = mock(PendingFundRepository.class);
         requestRepository = mock(RequestRepository.class);
         mappers = mock(Mappers.class);
         eventPublisher = mock(ApplicationEventPublisher.class);
         cacheManager = mock(CacheManager.class, RETURNS_DEEP_STUBS);
         fundRequestContractsService = mock(FundRequestContractsService.class, RETURNS_DEEP_STUBS);
+        fundLedgerService = mock(FundLedgerService.class);
         fiatService = mock(FiatService.class);
         funder = UserProfileMother.davy()::getId;
         tokenValueMapper = mock(TokenValueMapper.class);
-        fundFundsByFunderAggregator = mock(FundFundsByFunderAggregator.class);
-        refundFundsByFunderAggregator = mock(RefundFundsByFunderAggregator.class);
-        fundsAndRefundsAggregator = mock(FundsAndRefundsAggregator.class);
+        userFundsAggregator = mock(UserFundsAggregator.class);
         fundService = new FundServiceImpl(fundRepository,
-                                          refundRepository,
                                           pendingFundRepository,
                                           requestRepository,
                                           mappers,
                                           eventPublisher,
                                           cacheManager,
                                           fundRequestContractsService,
+                                          fundLedgerService,
                                           fiatService,
                                           tokenValueMapper,
-                                          fundFundsByFunderAggregator,
-                                          refundFundsByFunderAggregator,
-                                          fundsAndRefundsAggregator);
+                                          userFundsAggregator);
 
         when(fundRepository.saveAndFlush(any(Fund.class))).then(returnsFirstArg());
     }
@@ -171,8 +162,6 @@ public class FundServiceImplTest {
     @Test
     public void getFundsForRequestGroupedByFunder() {
         final long requestId = 45L;
-        final List<Fund> funds = new ArrayList<>();
-        final List<Refund> refunds = new ArrayList<>();
         final String funder1UserId = "46534-gjh";
         final String funder2UserId = "hgfh-676";
         final String funder1Address = "0x5346547";
@@ -205,14 +194,11 @@ public class FundServiceImplTest {
                                                                        .otherRefunds(TokenValueDtoMother.ZRX().totalAmount(new BigDecimal("-50000000000000000000")).build())
                                                                        .build());
 
-        final List<FundsByFunderDto> fundsByFunder = Arrays.asList(FundsByFunderDto.builder().funderUserId(funder1UserId).build(), FundsByFunderDto.builder().funderUserId(funder2UserId).build());
-        final List<FundsByFunderDto> refundsByFunder = Collections.singletonList(FundsByFunderDto.builder().funderUserId(funder2UserId).build());
+        final List<Object[]> amountsPerFunderAndToken = new ArrayList<>();
 
-        when(fundRepository.findAllByRequestId(requestId)).thenReturn(funds);
-        when(refundRepository.findAllByRequestId(requestId)).thenReturn(refunds);
-        when(fundFundsByFunderAggregator.aggregate(same(funds))).thenReturn(fundsByFunder);
-        when(refundFundsByFunderAggregator.aggregate(same(refunds))).thenReturn(refundsByFunder);
-        when(fundsAndRefundsAggregator.aggregate(Stream.concat(fundsByFunder.stream(), refundsByFunder.stream()).collect(Collectors.toList()))).thenReturn(userFunds);
+        when(fundRepository.getAmountPerFunderAndTokenForRequest(requestId)).thenReturn(amountsPerFunderAndToken);
+        when(userFundsAggregator.aggregate(same(amountsPerFunderAndToken))).thenReturn(userFunds);
+        when(fiatService.getUsdPrice(any(TokenValueDto.class), any(TokenValueDto.class))).thenReturn(Optional.of(1234.56));
 
         final FundsForRequestDto result = fundService.getFundsForRequestGroupedByFunder(requestId);
 
@@ -254,15 +240,13 @@ public class FundServiceImplTest {
         assertThat(result.getOtherFunds().getTokenSymbol()).isEqualTo(TokenValueDtoMother.ZRX().build().getTokenSymbol());
         assertThat(result.getOtherFunds().getTokenAddress()).isEqualTo(TokenValueDtoMother.ZRX().build().getTokenAddress());
         assertThat(result.getOtherFunds().getTotalAmount()).isEqualTo(new BigDecimal("15000000000000000000"));
+        assertThat(result.getUsdFunds()).isEqualTo(1234.56);
     }
 
     @Test
     public void getTotalFundsForRequest() {
         final long requestId = 6457L;
         final Request request = RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED).build();
-        final IssueInformation issueInformation = request.getIssueInformation();
-        final String platform = issueInformation.getPlatform().name();
-        final String platformId = issueInformation.getPlatformId();
         final String tokenAddress1 = "0x64576fg";
         final String tokenAddress2 = "0x654fh987";
         final BigDecimal fndAmount = new BigDecimal("324");
@@ -271,11 +255,10 @@ public class FundServiceImplTest {
         final TokenValueDto zrxTokenValue = TokenValueDtoMother.ZRX().totalAmount(zrxAmount).build();
 
         when(requestRepository.findOne(requestId)).thenReturn(Optional.of(request));
-        when(fundRequestContractsService.fundRepository().getFundedTokenCount(platform, platformId)).thenReturn(2L);
-        when(fundRequestContractsService.fundRepository().getFundedToken(platform, platformId, 0L)).thenReturn(Optional.of(tokenAddress1));
-        when(fundRequestContractsService.fundRepository().getFundedToken(platform, platformId, 1L)).thenReturn(Optional.of(tokenAddress2));
-        when(fundRequestContractsService.fundRepository().balance(platform, platformId, tokenAddress1)).thenReturn(fndAmount.toBigInteger());
-        when(fundRequestContractsService.fundRepository().balance(platform, platformId, tokenAddress2)).thenReturn(zrxAmount.toBigInteger());
+        final Map<String, BigDecimal> balancesByToken = new LinkedHashMap<>();
+        balancesByToken.put(tokenAddress1, fndAmount);
+        balancesByToken.put(tokenAddress2, zrxAmount);
+        when(fundLedgerService.getBalancesByToken(requestId)).thenReturn(balancesByToken);
 
         when(tokenValueMapper.map(tokenAddress1, fndAmount)).thenReturn(fndTokenValue);
         when(tokenValueMapper.map(tokenAddress2, zrxAmount)).thenReturn(zrxTokenValue);
@@ -289,9 +272,6 @@ public class FundServiceImplTest {
     public void getTotalFundsForRequest_CLAIMED() {
         final long requestId = 6457L;
         final Request request = RequestMother.fundRequestArea51().withStatus(RequestStatus.CLAIMED).build();
-        final IssueInformation issueInformation = request.getIssueInformation();
-        final String platform = issueInformation.getPlatform().name();
-        final String platformId = issueInformation.getPlatformId();
         final String tokenAddress1 = "0x64576fg";
         final String tokenAddress2 = "0x654fh987";
         final BigDecimal fndAmount = new BigDecimal("324");
@@ -300,11 +280,10 @@ public class FundServiceImplTest {
         final TokenValueDto zrxTokenValue = TokenValueDtoMother.ZRX().totalAmount(zrxAmount).build();
 
         when(requestRepository.findOne(requestId)).thenReturn(Optional.of(request));
-        when(fundRequestContractsService.claimRepository().getTokenCount(platform, platformId)).thenReturn(2L);
-        when(fundRequestContractsService.claimRepository().getTokenByIndex(platform, platformId, 0L)).thenReturn(Optional.of(tokenAddress1));
-        when(fundRequestContractsService.claimRepository().getTokenByIndex(platform, platformId, 1L)).thenReturn(Optional.of(tokenAddress2));
-        when(fundRequestContractsService.claimRepository().getAmountByToken(platform, platformId, tokenAddress1)).thenReturn(fndAmount.toBigInteger());
-        when(fundRequestContractsService.claimRepository().getAmountByToken(platform, platformId, tokenAddress2)).thenReturn(zrxAmount.toBigInteger());
+        final Map<String, BigDecimal> amountsByToken = new LinkedHashMap<>();
+        amountsByToken.put(tokenAddress1, fndAmount);
+        amountsByToken.put(tokenAddress2, zrxAmount);
+        when(fundLedgerService.getClaimedByToken(requestId)).thenReturn(amountsByToken);
         when(tokenValueMapper.map(tokenAddress1, fndAmount)).thenReturn(fndTokenValue);
         when(tokenValueMapper.map(tokenAddress2, zrxAmount)).thenReturn(zrxTokenValue);
 
@@ -313,6 +292,33 @@ public class FundServiceImplTest {
         assertThat(result).containsExactlyInAnyOrder(fndTokenValue, zrxTokenValue);
     }
 
+    @Test
+    public void getTotalFundsForRequests() {
+        final Request funded = RequestMother.fundRequestArea51().withId(1L).withStatus(RequestStatus.FUNDED).build();
+        final Request claimed = RequestMother.freeCodeCampNoUserStories().withId(2L).withStatus(RequestStatus.CLAIMED).build();
+        final Request unfunded = RequestMother.fundRequestArea51().withId(3L).withStatus(RequestStatus.OPEN).build();
+        final String tokenAddress = "0x64576fg";
+        final BigDecimal fndAmount = new BigDecimal("324");
+        final BigDecimal claimedAmount = new BigDecimal("762");
+        final TokenValueDto fndTokenValue = TokenValueDtoMother.FND().totalAmount(fndAmount).build();
+        final TokenValueDto claimedTokenValue = TokenValueDtoMother.FND().totalAmount(claimedAmount).build();
+        final List<Long> requestIds = Arrays.asList(1L, 2L, 3L);
+
+        when(requestRepository.findAll(requestIds)).thenReturn(Arrays.asList(funded, claimed, unfunded));
+        when(fundLedgerService.getBalancesByToken(Arrays.asList(1L, 3L))).thenReturn(Collections.singletonMap(1L, Collections.singletonMap(tokenAddress, fndAmount)));
+        when(fundLedgerService.getClaimedByToken(Collections.singletonList(2L))).thenReturn(Collections.singletonMap(2L, Collections.singletonMap(tokenAddress, claimedAmount)));
+        when(tokenValueMapper.map(tokenAddress, fndAmount)).thenReturn(fndTokenValue);
+        when(tokenValueMapper.map(tokenAddress, claimedAmount)).thenReturn(claimedTokenValue);
+
+        final Map<Long, List<TokenValueDto>> result = fundService.getTotalFundsForRequests(requestIds);
+
+        assertThat(result).hasSize(3);
+        assertThat(result.get(1L)).containsExactly(fndTokenValue);
+        assertThat(result.get(2L)).containsExactly(claimedTokenValue);
+        assertThat(result.get(3L)).isEmpty();
+        verify(requestRepository, never()).findOne(anyLong());
+    }
+
     private void verifyEventCreated(Long requestId, FundDto fundDto) {
         final ArgumentCaptor<RequestFundedEvent> requestFundedEventArgumentCaptor = ArgumentCaptor.forClass(RequestFundedEvent.class);
 
@@ -0,0 +1,66 @@
+package io.fundrequest.core.request.fund.continuous;
+
+import io.fundrequest.core.contract.service.FundRequestContractsService;
+import io.fundrequest.core.request.domain.IssueInformation;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.fund.FundLedgerService;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FundLedgerReconcilerTest {
+
+    private FundLedgerReconciler fundLedgerReconciler;
+    private RequestRepository requestRepository;
+    private FundLedgerService fundLedgerService;
+    private FundRequestContractsService fundRequestContractsService;
+
+    @Before
+    public void setUp() {
+        requestRepository = mock(RequestRepository.class);
+        fundLedgerService = mock(FundLedgerService.class);
+        fundRequestContractsService = mock(FundRequestContractsService.class, RETURNS_DEEP_STUBS);
+
+        fundLedgerReconciler = new FundLedgerReconciler(requestRepository, fundLedgerService, fundRequestContractsService);
+    }
+
+    @Test
+    public void shouldCompareLedgerWithOnChainBalances() {
+        final Request request = RequestMother.fundRequestArea51().withId(5L).withStatus(RequestStatus.FUNDED).build();
+        final IssueInformation issueInformation = request.getIssueInformation();
+        when(requestRepository.findByStatusIn(Collections.singletonList(RequestStatus.FUNDED))).thenReturn(Collections.singletonList(request));
+        when(fundRequestContractsService.fundRepository().getBalancesByToken(issueInformation.getPlatform().name(), issueInformation.getPlatformId()))
+                .thenReturn(Collections.singletonMap("0xABC", BigInteger.TEN));
+        when(fundLedgerService.getBalancesByToken(5L)).thenReturn(Collections.singletonMap("0xabc", BigDecimal.TEN));
+
+        fundLedgerReconciler.reconcile();
+
+        verify(fundLedgerService).getBalancesByToken(5L);
+    }
+
+    @Test
+    public void shouldSkipWhenOnChainBalancesUnavailable() {
+        final Request request = RequestMother.fundRequestArea51().withId(5L).withStatus(RequestStatus.FUNDED).build();
+        final IssueInformation issueInformation = request.getIssueInformation();
+        when(requestRepository.findByStatusIn(Collections.singletonList(RequestStatus.FUNDED))).thenReturn(Collections.singletonList(request));
+        when(fundRequestContractsService.fundRepository().getBalancesByToken(issueInformation.getPlatform().name(), issueInformation.getPlatformId()))
+                .thenReturn(Collections.emptyMap());
+
+        fundLedgerReconciler.reconcile();
+
+        verify(fundLedgerService, never()).getBalancesByToken(anyLong());
+    }
+}
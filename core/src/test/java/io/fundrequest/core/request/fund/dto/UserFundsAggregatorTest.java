@@ -0,0 +1,65 @@
+package io.fundrequest.core.request.fund.dto;
+
+import io.fundrequest.core.request.fund.UserFundsDto;
+import io.fundrequest.core.token.dto.TokenInfoDtoMother;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.dto.TokenValueDtoMother;
+import io.fundrequest.core.token.mapper.TokenValueDtoMapper;
+import io.fundrequest.core.token.model.TokenValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserFundsAggregatorTest {
+
+    private static final String FND_ADDRESS = TokenInfoDtoMother.fnd().getAddress();
+    private static final String ZRX_ADDRESS = TokenInfoDtoMother.zrx().getAddress();
+
+    private UserFundsAggregator userFundsAggregator;
+    private TokenValueDtoMapper tokenValueDtoMapper;
+
+    @BeforeEach
+    void setUp() {
+        tokenValueDtoMapper = mock(TokenValueDtoMapper.class);
+        userFundsAggregator = new UserFundsAggregator(FND_ADDRESS, tokenValueDtoMapper);
+    }
+
+    @Test
+    void aggregate() {
+        final TokenValueDto fndFunds = mockTokenValue(FND_ADDRESS, "40", TokenValueDtoMother.FND());
+        final TokenValueDto fndRefunds = mockTokenValue(FND_ADDRESS, "-15", TokenValueDtoMother.FND());
+        final TokenValueDto zrxFunds = mockTokenValue(ZRX_ADDRESS, "20", TokenValueDtoMother.ZRX());
+        final TokenValueDto otherFunderFnd = mockTokenValue(FND_ADDRESS, "70", TokenValueDtoMother.FND());
+        final List<Object[]> amounts = Arrays.asList(new Object[] {"0xFHDsad", "dgfhj", FND_ADDRESS, BigInteger.valueOf(2), new BigDecimal("40"), BigInteger.ONE, new BigDecimal("-15")},
+                                                     new Object[] {"0xfhdsad", "dgfhj", ZRX_ADDRESS, BigInteger.ONE, new BigDecimal("20"), BigInteger.ZERO, BigDecimal.ZERO},
+                                                     new Object[] {"0xeytru", null, FND_ADDRESS, 1L, new BigDecimal("70"), 0L, BigDecimal.ZERO});
+
+        final List<UserFundsDto> result = userFundsAggregator.aggregate(amounts);
+
+        assertThat(result).containsExactly(UserFundsDto.builder()
+                                                       .funderAddress("0xFHDsad")
+                                                       .funderUserId("dgfhj")
+                                                       .fndFunds(fndFunds)
+                                                       .otherFunds(zrxFunds)
+                                                       .fndRefunds(fndRefunds)
+                                                       .build(),
+                                           UserFundsDto.builder()
+                                                       .funderAddress("0xeytru")
+                                                       .fndFunds(otherFunderFnd)
+                                                       .build());
+    }
+
+    private TokenValueDto mockTokenValue(final String tokenAddress, final String amountInWei, final TokenValueDto.TokenValueDtoBuilder builder) {
+        final TokenValueDto tokenValue = builder.totalAmount(new BigDecimal(amountInWei)).build();
+        when(tokenValueDtoMapper.map(TokenValue.builder().tokenAddress(tokenAddress).amountInWei(new BigDecimal(amountInWei)).build())).thenReturn(tokenValue);
+        return tokenValue;
+    }
+}
@@ -2,6 +2,7 @@ package io.fundrequest.core.request.fund.infrastructure;
 
 import io.fundrequest.core.infrastructure.AbstractRepositoryTest;
 import io.fundrequest.core.request.domain.FundMother;
+import io.fundrequest.core.request.domain.RefundMother;
 import io.fundrequest.core.request.domain.Request;
 import io.fundrequest.core.request.domain.RequestMother;
 import io.fundrequest.core.request.domain.RequestStatus;
@@ -13,12 +14,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import static io.fundrequest.core.token.dto.TokenInfoDtoMother.fnd;
 import static io.fundrequest.core.token.dto.TokenInfoDtoMother.zrx;
 import static io.fundrequest.core.token.model.TokenValueMother.FND;
 import static io.fundrequest.core.token.model.TokenValueMother.ZRX;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 
 public class FundRepositoryTest extends AbstractRepositoryTest {
@@ -29,6 +32,9 @@ public class FundRepositoryTest extends AbstractRepositoryTest {
     @Autowired
     private RequestRepository requestRepository;
 
+    @Autowired
+    private RefundRepository refundRepository;
+
     @Test
     public void save() throws Exception {
         Request request = requestRepository.saveAndFlush(RequestMother.freeCodeCampNoUserStories().build());
@@ -118,6 +124,64 @@ public class FundRepositoryTest extends AbstractRepositoryTest {
         assertTechProject(result.get(5), "java", fnd().getAddress(), "40");
     }
 
+    @Test
+    public void getAmountPerFunderAndTokenForRequest() {
+        final Request request = requestRepository.saveAndFlush(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED).build());
+        final Request otherRequest = requestRepository.saveAndFlush(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED).build());
+        final String funderAddress = "0xd24400ae8BfEBb18cA49Be86258a3C749cf46853";
+        final String otherFunderAddress = "0x4b76d8e2da4a9c3f0c2d1f3e5a6b7c8d9e0f1a2b";
+
+        fundRepository.save(Arrays.asList(FundMother.fndFundFunderKnown(funderAddress, "user1", "30").requestId(request.getId()).build(),
+                                          FundMother.fndFundFunderKnown(funderAddress.toLowerCase(), "user1", "10").requestId(request.getId()).build(),
+                                          FundMother.zrxFundFunderKnown(funderAddress, "user1", "20").requestId(request.getId()).build(),
+                                          FundMother.fndFundFunderNotKnown(otherFunderAddress, "70").requestId(request.getId()).build(),
+                                          FundMother.fndFundFunderKnown(funderAddress, "user1", "90").requestId(otherRequest.getId()).build()));
+        refundRepository.saveAndFlush(RefundMother.fndRefundRequestedByKnown(funderAddress, "user1", "15").requestId(request.getId()).blockchainEventId(1L).build());
+
+        final List<Object[]> result = fundRepository.getAmountPerFunderAndTokenForRequest(request.getId());
+
+        assertThat(result).hasSize(3);
+        assertFunderAmounts(find(result, "user1", fnd().getAddress()), 2, "40", 1, "-15");
+        assertFunderAmounts(find(result, "user1", zrx().getAddress()), 1, "20", 0, "0");
+        assertFunderAmounts(find(result, null, fnd().getAddress()), 1, "70", 0, "0");
+    }
+
+    @Test
+    public void getAmountPerTokenForRequests() {
+        final Request request = requestRepository.saveAndFlush(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED).build());
+        final Request otherRequest = requestRepository.saveAndFlush(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED).build());
+        final Request notRequested = requestRepository.saveAndFlush(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED).build());
+
+        fundRepository.save(Arrays.asList(FundMother.fndFundFunderKnown().requestId(request.getId()).tokenValue(FND().amountInWei(new BigDecimal("30")).build()).build(),
+                                          FundMother.fndFundFunderKnown().requestId(request.getId()).tokenValue(FND().amountInWei(new BigDecimal("10")).build()).build(),
+                                          FundMother.zrxFundFunderKnown().requestId(otherRequest.getId()).tokenValue(ZRX().amountInWei(new BigDecimal("20")).build()).build(),
+                                          FundMother.fndFundFunderKnown().requestId(notRequested.getId()).tokenValue(FND().amountInWei(new BigDecimal("50")).build()).build()));
+
+        final List<RequestTokenAmountDto> result = fundRepository.getAmountPerTokenForRequests(Arrays.asList(request.getId(), otherRequest.getId()));
+
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(RequestTokenAmountDto::getRequestId, RequestTokenAmountDto::getTokenAddress)
+                          .containsExactlyInAnyOrder(tuple(request.getId(), fnd().getAddress()), tuple(otherRequest.getId(), zrx().getAddress()));
+        assertThat(result).filteredOn(amount -> amount.getRequestId().equals(request.getId()))
+                          .extracting(TokenAmountDto::getTotalAmount)
+                          .usingElementComparator(BigDecimal::compareTo)
+                          .containsExactly(new BigDecimal("40"));
+    }
+
+    private Object[] find(final List<Object[]> result, final String funderUserId, final String token) {
+        return result.stream()
+                     .filter(amounts -> Objects.equals(amounts[1], funderUserId) && token.equalsIgnoreCase((String) amounts[2]))
+                     .findFirst()
+                     .orElseThrow(AssertionError::new);
+    }
+
+    private void assertFunderAmounts(final Object[] amounts, final long fundCount, final String fundAmount, final long refundCount, final String refundAmount) {
+        assertThat(((Number) amounts[3]).longValue()).isEqualTo(fundCount);
+        assertThat(new BigDecimal(amounts[4].toString())).isEqualByComparingTo(new BigDecimal(fundAmount));
+        assertThat(((Number) amounts[5]).longValue()).isEqualTo(refundCount);
+        assertThat(new BigDecimal(amounts[6].toString())).isEqualByComparingTo(new BigDecimal(refundAmount));
+    }
+
     private void assertTechProject(Object[] objects, String techOrProject, String token, String amount) {
         assertThat(objects[0]).isEqualTo(techOrProject);
         assertThat(objects[1]).isEqualTo(token);
@@ -1,18 +1,38 @@
 package io.fundrequest.core.request.infrastructure;
 
 import io.fundrequest.core.infrastructure.AbstractRepositoryTest;
+import io.fundrequest.core.request.domain.FundMother;
 import io.fundrequest.core.request.domain.IssueInformation;
+import io.fundrequest.core.request.domain.IssueInformationMother;
 import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestBuilder;
+import io.fundrequest.core.request.domain.RefundMother;
 import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.fund.infrastructure.RefundRepository;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
+import io.fundrequest.core.request.view.RequestVersionDto;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static io.fundrequest.core.token.model.TokenValueMother.FND;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class RequestRepositoryTest extends AbstractRepositoryTest {
@@ -20,6 +40,18 @@ public class RequestRepositoryTest extends AbstractRepositoryTest {
     @Autowired
     private RequestRepository requestRepository;
 
+    @Autowired
+    private FundRepository fundRepository;
+
+    @Autowired
+    private RefundRepository refundRepository;
+
+    @Autowired
+    private RequestSummaryRepository requestSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     public void findAll() throws Exception {
         requestRepository.findAll();
@@ -47,6 +79,19 @@ public class RequestRepositoryTest extends AbstractRepositoryTest {
                   ).isPresent().contains(request);
     }
 
+    @Test
+    public void findVersion() throws Exception {
+        Request request = RequestMother
+                .freeCodeCampNoUserStories()
+                .build();
+        requestRepository.saveAndFlush(request);
+
+        IssueInformation issueInformation = request.getIssueInformation();
+        assertThat(requestRepository.findVersion(request.getId())).contains(new RequestVersionDto(request.getId(), request.getLastModifiedDate()));
+        assertThat(requestRepository.findVersion(issueInformation.getPlatform(), issueInformation.getPlatformId()))
+                .contains(new RequestVersionDto(request.getId(), request.getLastModifiedDate()));
+    }
+
     @Test
     public void findRequestsForUser() throws Exception {
         Request request = RequestMother
@@ -90,4 +135,207 @@ public class RequestRepositoryTest extends AbstractRepositoryTest {
         assertThat(allTechnologies)
                 .containsExactlyInAnyOrder(request.getIssueInformation().getOwner(), request2.getIssueInformation().getOwner());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void findFunded_pagesThroughFundedRequests() {
+        final LocalDateTime now = LocalDateTime.now();
+        final Request funded1 = saveFunded(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED).withLastModifiedDate(now.minusDays(1)));
+        final Request funded2 = saveFunded(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED).withLastModifiedDate(now));
+        final Request funded3 = saveFunded(RequestMother.freeCodeCampNoUserStories()
+                                                        .withIssueInformation(IssueInformationMother.kazuki43zooApiStub().withPlatformId("kazuki43zoo|FR|api-stub|FR|43").build())
+                                                        .withStatus(RequestStatus.FUNDED)
+                                                        .withLastModifiedDate(now));
+        requestRepository.saveAndFlush(RequestMother.fundRequestArea51()
+                                                    .withIssueInformation(IssueInformationMother.fundRequestArea51().withPlatformId("FundRequest|FR|area51|FR|53").build())
+                                                    .build());
+        final List<RequestStatus> statuses = Arrays.asList(RequestStatus.OPEN, RequestStatus.FUNDED);
+
+        final List<Request> firstPage = requestRepository.findFunded(statuses, null, Collections.singleton(""), 0, null, null, new PageRequest(0, 2));
+        final Request last = firstPage.get(firstPage.size() - 1);
+        final List<Request> secondPage = requestRepository.findFundedAfter(statuses,
+                                                                           null,
+                                                                           Collections.singleton(""),
+                                                                           0,
+                                                                           null,
+                                                                           null,
+                                                                           last.getLastModifiedDate(),
+                                                                           last.getId(),
+                                                                           new PageRequest(0, 2));
+
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(firstPage).doesNotContainAnyElementsOf(secondPage);
+        assertThat(Stream.concat(firstPage.stream(), secondPage.stream()).map(Request::getId)).containsExactlyInAnyOrder(funded1.getId(), funded2.getId(), funded3.getId());
+    }
+
+    @Test
+    public void findFunded_filtersOnProjectAndTechnologies() {
+        final Request freeCodeCamp = saveFunded(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED));
+        final Request area51 = saveFunded(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED));
+        final List<RequestStatus> statuses = Arrays.asList(RequestStatus.values());
+
+        assertThat(requestRepository.findFunded(statuses, "FUNDREQUEST", Collections.singleton(""), 0, null, null, new PageRequest(0, 10))).containsExactly(area51);
+        assertThat(requestRepository.findFunded(statuses, null, new HashSet<>(Arrays.asList("python", "kotlin")), 2, null, null, new PageRequest(0, 10))).containsExactly(area51);
+        assertThat(requestRepository.findFunded(statuses, null, new HashSet<>(Arrays.asList("java", "kotlin")), 2, null, null, new PageRequest(0, 10))).isEmpty();
+        assertThat(requestRepository.findFunded(statuses, null, Collections.singleton("java"), 1, null, null, new PageRequest(0, 10))).containsExactly(freeCodeCamp);
+    }
+
+    @Test
+    public void findFunded_filtersOnSearch() {
+        final Request freeCodeCamp = saveFunded(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED));
+        final Request area51 = saveFunded(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED));
+        final List<RequestStatus> statuses = Arrays.asList(RequestStatus.values());
+        final String title = freeCodeCamp.getIssueInformation().getTitle().toLowerCase();
+
+        assertThat(requestRepository.findFunded(statuses, null, Collections.singleton(""), 0, "%" + title + "%", null, new PageRequest(0, 10))).containsExactly(freeCodeCamp);
+        assertThat(requestRepository.findFunded(statuses, null, Collections.singleton(""), 0, null, area51.getIssueInformation().getNumber(), new PageRequest(0, 10)))
+                .containsExactly(area51);
+        assertThat(requestRepository.findFunded(statuses, null, Collections.singleton(""), 0, null, String.valueOf(area51.getId()), new PageRequest(0, 10)))
+                .containsExactly(area51);
+    }
+
+    @Test
+    public void findFunded_excludesRefundedRequests() {
+        final Request funded = saveFunded(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED));
+        final Request refunded = saveFunded(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED));
+        refundRepository.saveAndFlush(RefundMother.fndRefundRequestedByKnown("0xd24400ae8bfebb18ca49be86258a3c749cf46853", "user1", "30")
+                                                  .requestId(refunded.getId())
+                                                  .blockchainEventId(1L)
+                                                  .build());
+
+        assertThat(requestRepository.findFunded(Arrays.asList(RequestStatus.values()), null, Collections.singleton(""), 0, null, null, new PageRequest(0, 10)))
+                .containsExactly(funded);
+    }
+
+    @Test
+    public void findFunded_usesSummaryBalanceWhenPresent() {
+        final Request funded = saveFunded(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED));
+        final Request refunded = saveFunded(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED));
+        saveSummary(funded, "30", "12.00");
+        saveSummary(refunded, "0", "0.00");
+
+        assertThat(requestRepository.findFunded(Arrays.asList(RequestStatus.values()), null, Collections.singleton(""), 0, null, null, new PageRequest(0, 10)))
+                .containsExactly(funded);
+        assertThat(requestRepository.countFundedPerStatus()).containsExactly(new Object[] {RequestStatus.FUNDED, 1L});
+    }
+
+    @Test
+    public void findFundedByUsdValue_pagesThroughFundedRequests() {
+        final Request cheap = saveFunded(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED));
+        final Request expensive = saveFunded(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED));
+        final Request alsoExpensive = saveFunded(RequestMother.freeCodeCampNoUserStories()
+                                                              .withIssueInformation(IssueInformationMother.kazuki43zooApiStub().withPlatformId("kazuki43zoo|FR|api-stub|FR|43").build())
+                                                              .withStatus(RequestStatus.FUNDED));
+        saveSummary(cheap, "30", "5.00");
+        saveSummary(expensive, "30", "100.00");
+        saveSummary(alsoExpensive, "30", "100.00");
+        final List<RequestStatus> statuses = Arrays.asList(RequestStatus.values());
+
+        final List<Object[]> firstPage = requestRepository.findFundedByUsdValue(statuses, null, Collections.singleton(""), 0, null, null, new PageRequest(0, 2));
+        final Object[] last = firstPage.get(firstPage.size() - 1);
+        final List<Object[]> secondPage = requestRepository.findFundedByUsdValueAfter(statuses,
+                                                                                     null,
+                                                                                     Collections.singleton(""),
+                                                                                     0,
+                                                                                     null,
+                                                                                     null,
+                                                                                     (BigDecimal) last[1],
+                                                                                     ((Request) last[0]).getId(),
+                                                                                     new PageRequest(0, 2));
+
+        assertThat(firstPage.stream().map(row -> row[0])).containsExactly(alsoExpensive, expensive);
+        assertThat(secondPage.stream().map(row -> row[0])).containsExactly(cheap);
+    }
+
+    @Test
+    public void findRepositoriesWithStatusIn() {
+        final Request request = requestRepository.saveAndFlush(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED).build());
+        requestRepository.saveAndFlush(RequestMother.fundRequestArea51()
+                                                    .withIssueInformation(IssueInformationMother.fundRequestArea51().withPlatformId("FundRequest|FR|area51|FR|53").build())
+                                                    .withStatus(RequestStatus.FUNDED)
+                                                    .build());
+        requestRepository.saveAndFlush(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.CLAIMED).build());
+
+        assertThat(requestRepository.findRepositoriesWithStatusIn(Collections.singletonList(RequestStatus.FUNDED)))
+                .containsExactly(new Object[] {request.getIssueInformation().getPlatform(), request.getIssueInformation().getPlatformId()});
+    }
+
+    @Test
+    public void countFundedPerStatus() {
+        saveFunded(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED));
+        saveFunded(RequestMother.fundRequestArea51().withStatus(RequestStatus.CLAIMED));
+
+        assertThat(requestRepository.countFundedPerStatus()).containsExactlyInAnyOrder(new Object[] {RequestStatus.FUNDED, 1L},
+                                                                                       new Object[] {RequestStatus.CLAIMED, 1L});
+    }
+
+    @Test
+    public void findAll_loadsWatchersAndTechnologiesInBatch() {
+        saveRequests(5);
+        final Statistics statistics = statisticsAfterClear();
+
+        final List<Request> requests = requestRepository.findAll();
+        requests.forEach(request -> {
+            request.getWatchers().size();
+            request.getTechnologies().size();
+        });
+
+        assertThat(requests).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void findFunded_loadsWatchersAndTechnologiesInBatch() {
+        saveRequests(5).forEach(request -> fundRepository.saveAndFlush(FundMother.fndFundFunderKnown()
+                                                                                  .requestId(request.getId())
+                                                                                  .tokenValue(FND().amountInWei(new BigDecimal("30")).build())
+                                                                                  .build()));
+        final Statistics statistics = statisticsAfterClear();
+
+        final List<Request> requests = requestRepository.findFunded(Arrays.asList(RequestStatus.values()), null, Collections.singleton(""), 0, null, null, new PageRequest(0, 10));
+        requests.forEach(request -> {
+            request.getWatchers().size();
+            request.getTechnologies().size();
+        });
+
+        assertThat(requests).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private List<Request> saveRequests(final int count) {
+        return Stream.iterate(1, i -> i + 1)
+                     .limit(count)
+                     .map(i -> requestRepository.saveAndFlush(RequestMother.fundRequestArea51()
+                                                                           .withIssueInformation(IssueInformationMother.fundRequestArea51()
+                                                                                                                       .withPlatformId("FundRequest|FR|area51|FR|" + i)
+                                                                                                                       .build())
+                                                                           .build()))
+                     .collect(Collectors.toList());
+    }
+
+    private Statistics statisticsAfterClear() {
+        entityManager.flush();
+        entityManager.clear();
+        final Statistics statistics = entityManager.getEntityManager().unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    private void saveSummary(final Request request, final String fndAmountInWei, final String usdValue) {
+        final RequestSummary summary = new RequestSummary(request.getId());
+        summary.setPhase(request.getStatus().getPhase());
+        summary.setFndFunds(FND().build().getTokenAddress(), new BigDecimal(fndAmountInWei));
+        summary.setUsdValues(new BigDecimal(usdValue), BigDecimal.ZERO);
+        requestSummaryRepository.saveAndFlush(summary);
+    }
+
+    private Request saveFunded(final RequestBuilder requestBuilder) {
+        final Request request = requestRepository.saveAndFlush(requestBuilder.build());
+        fundRepository.saveAndFlush(FundMother.fndFundFunderKnown()
+                                              .requestId(request.getId())
+                                              .tokenValue(FND().amountInWei(new BigDecimal("30")).build())
+                                              .build());
+        return request;
+    }
+}
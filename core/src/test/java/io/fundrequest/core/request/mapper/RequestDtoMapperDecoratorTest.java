@@ -0,0 +1,118 @@
+package io.fundrequest.core.request.mapper;
+
+import io.fundrequest.core.infrastructure.SecurityContextService;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.fiat.TokenPrice;
+import io.fundrequest.core.request.fund.FundService;
+import io.fundrequest.core.request.summary.RequestSummaryDto;
+import io.fundrequest.core.request.summary.RequestSummaryService;
+import io.fundrequest.core.request.view.AllFundsDto;
+import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.request.view.RequestDtoMapper;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.dto.TokenValueDtoMother;
+import io.fundrequest.core.user.UserService;
+import io.fundrequest.core.user.dto.UserDto;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RequestDtoMapperDecoratorTest {
+
+    private RequestDtoMapperDecorator decorator;
+    private RequestDtoMapper delegate;
+    private UserService userService;
+    private FundService fundService;
+    private FiatService fiatService;
+    private RequestSummaryService requestSummaryService;
+    private SecurityContextService securityContextService;
+
+    @Before
+    public void setUp() {
+        delegate = mock(RequestDtoMapper.class);
+        userService = mock(UserService.class);
+        fundService = mock(FundService.class);
+        fiatService = mock(FiatService.class);
+        requestSummaryService = mock(RequestSummaryService.class);
+        securityContextService = mock(SecurityContextService.class);
+
+        decorator = new RequestDtoMapperDecorator() {};
+        ReflectionTestUtils.setField(decorator, "delegate", delegate);
+        ReflectionTestUtils.setField(decorator, "userService", userService);
+        ReflectionTestUtils.setField(decorator, "fundService", fundService);
+        ReflectionTestUtils.setField(decorator, "fiatService", fiatService);
+        ReflectionTestUtils.setField(decorator, "requestSummaryService", requestSummaryService);
+        ReflectionTestUtils.setField(decorator, "securityContextService", securityContextService);
+    }
+
+    @Test
+    public void mapToList_fetchesSummariesAndWatchersOnce() {
+        final Request summarized = RequestMother.fundRequestArea51().withId(1L).build();
+        final Request notSummarized = RequestMother.freeCodeCampNoUserStories().withId(2L).build();
+        final AllFundsDto summaryFunds = AllFundsDto.builder().fndFunds(TokenValueDtoMother.FND().build()).usdFunds(10D).build();
+        final TokenValueDto zrxFunds = TokenValueDtoMother.ZRX().build();
+        final Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn("somebody@mailinator.com");
+        when(securityContextService.getLoggedInUser()).thenReturn(Optional.of(authentication));
+        when(delegate.map(summarized)).thenReturn(new RequestDto());
+        when(delegate.map(notSummarized)).thenReturn(new RequestDto());
+        when(requestSummaryService.findByRequestIds(new HashSet<>(Arrays.asList(1L, 2L))))
+                .thenReturn(Collections.singletonMap(1L, RequestSummaryDto.builder().requestId(1L).funds(summaryFunds).build()));
+        final Map<String, TokenPrice> prices = Collections.singletonMap(zrxFunds.getTokenSymbol(), new TokenPrice(2D, Instant.now()));
+        when(fundService.getTotalFundsForRequests(Collections.singleton(2L))).thenReturn(Collections.singletonMap(2L, Collections.singletonList(zrxFunds)));
+        when(fiatService.getPrices(Collections.singleton(zrxFunds.getTokenSymbol()))).thenReturn(prices);
+        when(fiatService.getUsdPrice(prices, null, zrxFunds)).thenReturn(Optional.of(20D));
+        final UserDto user = new UserDto();
+        user.setEmail("somebody@mailinator.com");
+        when(userService.getUser("somebody@mailinator.com")).thenReturn(user);
+
+        final List<RequestDto> result = decorator.mapToList(Arrays.asList(summarized, notSummarized));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getFunds()).isSameAs(summaryFunds);
+        assertThat(result.get(0).isLoggedInUserIsWatcher()).isTrue();
+        assertThat(result.get(0).getWatchers()).containsExactly("somebody@mailinator.com");
+        assertThat(result.get(1).getFunds().getOtherFunds()).isEqualTo(zrxFunds);
+        assertThat(result.get(1).getFunds().getUsdFunds()).isEqualTo(20D);
+        assertThat(result.get(1).getWatchers()).containsExactly("somebody@mailinator.com");
+        verify(securityContextService, times(1)).getLoggedInUser();
+        verify(userService, times(1)).getUser("somebody@mailinator.com");
+        verify(fundService, never()).getTotalFundsForRequest(anyLong());
+        verify(fiatService, times(1)).getPrices(anyCollectionOf(String.class));
+        verify(requestSummaryService, never()).findByRequestId(1L);
+    }
+
+    @Test
+    public void map_usesSummary() {
+        final Request request = RequestMother.fundRequestArea51().withId(1L).build();
+        final AllFundsDto summaryFunds = AllFundsDto.builder().fndFunds(TokenValueDtoMother.FND().build()).usdFunds(10D).build();
+        when(securityContextService.getLoggedInUser()).thenReturn(Optional.empty());
+        when(delegate.map(request)).thenReturn(new RequestDto());
+        when(requestSummaryService.findByRequestId(1L)).thenReturn(Optional.of(RequestSummaryDto.builder().requestId(1L).funds(summaryFunds).build()));
+
+        final RequestDto result = decorator.map(request);
+
+        assertThat(result.getFunds()).isSameAs(summaryFunds);
+        verify(fundService, never()).getTotalFundsForRequest(1L);
+    }
+}
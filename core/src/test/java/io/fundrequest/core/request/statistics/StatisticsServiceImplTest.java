@@ -1,123 +1,183 @@
 package io.fundrequest.core.request.statistics;
 
+import io.fundrequest.core.request.domain.IssueInformationMother;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.domain.RequestTechnology;
 import io.fundrequest.core.request.fiat.FiatService;
-import io.fundrequest.core.request.fund.infrastructure.FundRepository;
-import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
 import io.fundrequest.core.request.statistics.dto.StatisticsDto;
-import io.fundrequest.core.token.TokenInfoService;
-import io.fundrequest.core.token.dto.TokenInfoDto;
+import io.fundrequest.core.request.summary.RequestSummaryUpdatedEvent;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
 import io.fundrequest.core.token.dto.TokenValueDto;
-import io.fundrequest.core.web3j.EthUtil;
+import io.fundrequest.core.token.mapper.TokenValueMapper;
 import org.junit.Before;
 import org.junit.Test;
-import org.springframework.cache.CacheManager;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-
-import static io.fundrequest.core.token.dto.TokenInfoDtoMother.fnd;
-import static io.fundrequest.core.token.dto.TokenInfoDtoMother.zrx;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class StatisticsServiceImplTest {
 
+    private static final String FND = "0xfnd";
+    private static final String OTHER = "0xother";
+
     private StatisticsServiceImpl statisticsService;
-    private FundRepository fundRepository;
-    private TokenInfoService tokenInfoService;
+    private RequestSummaryRepository requestSummaryRepository;
+    private RequestRepository requestRepository;
     private FiatService fiatService;
-    private TokenInfoDto fnd;
-    private TokenInfoDto zrx;
+    private Map<String, Double> usdPerWei;
+    private List<Object[]> funded;
 
     @Before
     public void setUp() throws Exception {
-        fundRepository = mock(FundRepository.class);
-        tokenInfoService = mock(TokenInfoService.class);
+        requestSummaryRepository = mock(RequestSummaryRepository.class);
+        requestRepository = mock(RequestRepository.class);
+        final TokenValueMapper tokenValueMapper = mock(TokenValueMapper.class);
         fiatService = mock(FiatService.class);
-        statisticsService = new StatisticsServiceImpl(fundRepository, tokenInfoService, fiatService, mock(CacheManager.class));
-        fnd = fnd();
-        zrx = zrx();
-        when(tokenInfoService.getTokenInfo(fnd.getAddress())).thenReturn(fnd);
-        when(tokenInfoService.getTokenInfo(zrx.getAddress())).thenReturn(zrx);
+        statisticsService = new StatisticsServiceImpl(requestSummaryRepository, requestRepository, tokenValueMapper, fiatService);
+        usdPerWei = new HashMap<>();
+        usdPerWei.put(FND, 0.5);
+        usdPerWei.put(OTHER, 10D);
+        funded = new ArrayList<>();
+        when(requestSummaryRepository.findAllWithRequestForStatus(RequestStatus.FUNDED)).thenReturn(funded);
+        when(tokenValueMapper.map(anyString(), any(BigDecimal.class))).thenAnswer(invocation -> TokenValueDto.builder()
+                                                                                                             .tokenAddress((String) invocation.getArguments()[0])
+                                                                                                             .totalAmount((BigDecimal) invocation.getArguments()[1])
+                                                                                                             .build());
+        when(fiatService.getUsdPrice(any(TokenValueDto.class))).thenAnswer(invocation -> {
+            final TokenValueDto tokenValue = (TokenValueDto) invocation.getArguments()[0];
+            return Optional.ofNullable(usdPerWei.get(tokenValue.getTokenAddress())).map(price -> tokenValue.getTotalAmount().doubleValue() * price);
+        });
     }
 
     @Test
-    public void statisticsReturnsTotalAvailableFunding() {
-        TokenAmountDto tokenAmount = new TokenAmountDto(fnd.getAddress(), EthUtil.toWei(BigDecimal.TEN, fnd.getDecimals()));
-        TokenAmountDto tokenAmount2 = new TokenAmountDto(zrx.getAddress(), EthUtil.toWei(BigDecimal.ONE, zrx.getDecimals()));
-        when(fundRepository.getAmountPerTokenWhereRequestHasStatusFunded()).thenReturn(Arrays.asList(tokenAmount, tokenAmount2));
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(fnd.getSymbol())
-                                                  .tokenAddress(fnd.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount.getTotalAmount(), fnd.getDecimals()))
-                                                  .build())).thenReturn(10.0);
-
+    public void statisticsEmptyWhenNothingFunded() {
+        StatisticsDto result = statisticsService.getStatistics();
 
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(zrx.getSymbol())
-                                                  .tokenAddress(zrx.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount2.getTotalAmount(), zrx.getDecimals()))
-                                                  .build())).thenReturn(20.0);
+        assertThat(result.getTotalAvailableFunding()).isEqualTo(0.0);
+        assertThat(result.getMostFundedProject()).isEmpty();
+        assertThat(result.getMostFundedTechnology()).isEmpty();
+    }
 
+    @Test
+    public void statisticsFromReconciledCounters() {
+        funded.add(funded(request(1L, "Dock", "java"), FND, "100"));
+        funded.add(funded(request(2L, "Kodi", "python", "java"), OTHER, "10"));
 
         StatisticsDto result = statisticsService.getStatistics();
 
-        assertThat(result.getTotalAvailableFunding()).isEqualTo(30.0);
+        assertThat(result.getTotalAvailableFunding()).isEqualTo(150.0);
+        assertThat(result.getMostFundedProject()).isEqualTo("Kodi");
+        assertThat(result.getMostFundedTechnology()).isEqualTo("java");
     }
 
     @Test
-    public void statisticsReturnsMostFundedProject() {
-        TokenAmountDto tokenAmount = new TokenAmountDto(fnd.getAddress(), EthUtil.toWei(BigDecimal.TEN, fnd.getDecimals()));
-        TokenAmountDto tokenAmount2 = new TokenAmountDto(zrx.getAddress(), EthUtil.toWei(BigDecimal.ONE, zrx.getDecimals()));
-        List<Object[]> requests = Arrays.asList(
-                createObject("FundRequest", fnd.getAddress(), tokenAmount.getTotalAmount()),
-                createObject("Dock", zrx.getAddress(), tokenAmount2.getTotalAmount())
-                                               );
-        when(fundRepository.getAmountPerTokenPerProjectWhereRequestHasStatusFunded()).thenReturn(requests);
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(fnd.getSymbol())
-                                                  .tokenAddress(fnd.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount.getTotalAmount(), fnd.getDecimals()))
-                                                  .build())).thenReturn(10.0);
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(zrx.getSymbol())
-                                                  .tokenAddress(zrx.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount2.getTotalAmount(), zrx.getDecimals()))
-                                                  .build())).thenReturn(20.0);
+    public void statisticsUsesCurrentPrices() {
+        funded.add(funded(request(1L, "Dock", "java"), FND, "100"));
+        funded.add(funded(request(2L, "Kodi", "python"), OTHER, "10"));
+        statisticsService.getStatistics();
 
+        usdPerWei.put(FND, 2D);
         StatisticsDto result = statisticsService.getStatistics();
 
+        assertThat(result.getTotalAvailableFunding()).isEqualTo(300.0);
         assertThat(result.getMostFundedProject()).isEqualTo("Dock");
+        assertThat(result.getMostFundedTechnology()).isEqualTo("java");
+    }
+
+    @Test
+    public void statisticsUsesLastKnownPriceWhenPricingFails() {
+        funded.add(funded(request(1L, "Dock", "java"), FND, "100"));
+        statisticsService.getStatistics();
+
+        usdPerWei.remove(FND);
+        StatisticsDto result = statisticsService.getStatistics();
+
+        assertThat(result.getTotalAvailableFunding()).isEqualTo(50.0);
     }
 
     @Test
-    public void statisticsReturnsMostFundedTechnology() {
-        TokenAmountDto tokenAmount = new TokenAmountDto(fnd.getAddress(), EthUtil.toWei(BigDecimal.TEN, fnd.getDecimals()));
-        TokenAmountDto tokenAmount2 = new TokenAmountDto(zrx.getAddress(), EthUtil.toWei(BigDecimal.ONE, zrx.getDecimals()));
-        List<Object[]> requests = Arrays.asList(
-                createObject("Java", fnd.getAddress(), tokenAmount.getTotalAmount()),
-                createObject("Python", zrx.getAddress(), tokenAmount2.getTotalAmount())
-                                               );
-        when(fundRepository.getAmountPerTokenPerTechnologyWhereRequestHasStatusFunded()).thenReturn(requests);
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(fnd.getSymbol())
-                                                  .tokenAddress(fnd.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount.getTotalAmount(), fnd.getDecimals()))
-                                                  .build())).thenReturn(10.0);
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(zrx.getSymbol())
-                                                  .tokenAddress(zrx.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount2.getTotalAmount(), zrx.getDecimals()))
-                                                  .build())).thenReturn(20.0);
+    public void onSummaryUpdatedAppliesRequestDelta() {
+        final Request dock = request(1L, "Dock", "java");
+        funded.add(funded(dock, FND, "100"));
+        funded.add(funded(request(2L, "Kodi", "python"), OTHER, "10"));
+        statisticsService.getStatistics();
+        final RequestSummary summary = new RequestSummary(1L);
+        summary.setFndFunds(FND, new BigDecimal("1000"));
+        when(requestRepository.findOne(1L)).thenReturn(Optional.of(dock));
+        when(requestSummaryRepository.findOne(1L)).thenReturn(Optional.of(summary));
+
+        statisticsService.onSummaryUpdated(new RequestSummaryUpdatedEvent(1L));
+        StatisticsDto result = statisticsService.getStatistics();
+
+        assertThat(result.getTotalAvailableFunding()).isEqualTo(600.0);
+        assertThat(result.getMostFundedProject()).isEqualTo("Dock");
+        assertThat(result.getMostFundedTechnology()).isEqualTo("java");
+        verify(requestSummaryRepository, times(1)).findAllWithRequestForStatus(RequestStatus.FUNDED);
+    }
 
+    @Test
+    public void onSummaryUpdatedRemovesRequestNoLongerFunded() {
+        funded.add(funded(request(1L, "Dock", "java"), FND, "100"));
+        final Request kodi = request(2L, "Kodi", "python");
+        funded.add(funded(kodi, OTHER, "10"));
+        statisticsService.getStatistics();
+        kodi.setStatus(RequestStatus.CLAIMED);
+        when(requestRepository.findOne(2L)).thenReturn(Optional.of(kodi));
+
+        statisticsService.onSummaryUpdated(new RequestSummaryUpdatedEvent(2L));
         StatisticsDto result = statisticsService.getStatistics();
 
-        assertThat(result.getMostFundedTechnology()).isEqualTo("Python");
+        assertThat(result.getTotalAvailableFunding()).isEqualTo(50.0);
+        assertThat(result.getMostFundedProject()).isEqualTo("Dock");
+        assertThat(result.getMostFundedTechnology()).isEqualTo("java");
+    }
+
+    @Test
+    public void onSummaryUpdatedBeforeFirstReadIsIgnored() {
+        statisticsService.onSummaryUpdated(new RequestSummaryUpdatedEvent(1L));
+
+        verifyZeroInteractions(requestRepository, requestSummaryRepository);
+    }
+
+    private Request request(final long id, final String owner, final String... technologies) {
+        final Set<RequestTechnology> requestTechnologies = Arrays.stream(technologies)
+                                                                 .map(technology -> RequestTechnology.builder().technology(technology).build())
+                                                                 .collect(Collectors.toSet());
+        return RequestMother.freeCodeCampNoUserStories()
+                            .withId(id)
+                            .withStatus(RequestStatus.FUNDED)
+                            .withIssueInformation(IssueInformationMother.kazuki43zooApiStub().withOwner(owner).build())
+                            .withTechnologies(requestTechnologies)
+                            .build();
     }
 
-    private Object[] createObject(String techProject, String token, BigDecimal amount) {
-        return new Object[] {techProject, token, amount};
+    private Object[] funded(final Request request, final String token, final String wei) {
+        final RequestSummary summary = new RequestSummary(request.getId());
+        if (FND.equals(token)) {
+            summary.setFndFunds(token, new BigDecimal(wei));
+        } else {
+            summary.setOtherFunds(token, new BigDecimal(wei));
+        }
+        return new Object[] {summary, request};
     }
-}
\ No newline at end of file
+}
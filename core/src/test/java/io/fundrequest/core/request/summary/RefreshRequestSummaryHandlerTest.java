@@ -0,0 +1,55 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.core.request.claim.event.RequestClaimedEvent;
+import io.fundrequest.core.request.fund.RefundProcessedEvent;
+import io.fundrequest.core.request.fund.domain.Refund;
+import io.fundrequest.core.request.fund.event.RequestFundedEvent;
+import io.fundrequest.core.request.view.RequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RefreshRequestSummaryHandlerTest {
+
+    private RefreshRequestSummaryHandler handler;
+    private RequestSummaryService requestSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        requestSummaryService = mock(RequestSummaryService.class);
+        handler = new RefreshRequestSummaryHandler(requestSummaryService);
+    }
+
+    @Test
+    void onFunded() {
+        final LocalDateTime timestamp = LocalDateTime.now();
+
+        handler.onFunded(RequestFundedEvent.builder().requestId(45L).timestamp(timestamp).build());
+
+        verify(requestSummaryService).refresh(45L, timestamp);
+    }
+
+    @Test
+    void onClaimed() {
+        final LocalDateTime timestamp = LocalDateTime.now();
+        final RequestDto requestDto = new RequestDto();
+        requestDto.setId(46L);
+
+        handler.onClaimed(RequestClaimedEvent.builder().requestDto(requestDto).timestamp(timestamp).build());
+
+        verify(requestSummaryService).refresh(46L, timestamp);
+    }
+
+    @Test
+    void onRefundProcessed() {
+        handler.onRefundProcessed(new RefundProcessedEvent(Refund.builder().requestId(47L).build()));
+
+        verify(requestSummaryService).refresh(eq(47L), any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,175 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.common.infrastructure.mapping.Mappers;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.fund.FundLedgerService;
+import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.dto.TokenValueDtoMother;
+import io.fundrequest.core.token.mapper.TokenValueMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RequestSummaryServiceImplTest {
+
+    private static final long REQUEST_ID = 5436L;
+    private static final String FND_ADDRESS = "0x9f88c5cc76148d41a5db8d0a7e581481efc9667b";
+    private static final String ZRX_ADDRESS = "0x6ff6c0ff1d68b964901f986d4c9fa3ac68346570";
+
+    private RequestSummaryServiceImpl requestSummaryService;
+    private RequestSummaryRepository requestSummaryRepository;
+    private RequestRepository requestRepository;
+    private FundRepository fundRepository;
+    private FundLedgerService fundLedgerService;
+    private TokenValueMapper tokenValueMapper;
+    private FiatService fiatService;
+    private Mappers mappers;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Before
+    public void setUp() {
+        requestSummaryRepository = mock(RequestSummaryRepository.class);
+        requestRepository = mock(RequestRepository.class);
+        fundRepository = mock(FundRepository.class);
+        fundLedgerService = mock(FundLedgerService.class);
+        tokenValueMapper = mock(TokenValueMapper.class);
+        fiatService = mock(FiatService.class);
+        mappers = mock(Mappers.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        requestSummaryService = new RequestSummaryServiceImpl(requestSummaryRepository,
+                                                              requestRepository,
+                                                              fundRepository,
+                                                              fundLedgerService,
+                                                              tokenValueMapper,
+                                                              fiatService,
+                                                              mappers,
+                                                              eventPublisher);
+    }
+
+    @Test
+    public void findByRequestId() {
+        final RequestSummary summary = new RequestSummary(REQUEST_ID);
+        final RequestSummaryDto expected = RequestSummaryDto.builder().requestId(REQUEST_ID).build();
+        when(requestSummaryRepository.findOne(REQUEST_ID)).thenReturn(Optional.of(summary));
+        when(mappers.map(RequestSummary.class, RequestSummaryDto.class, summary)).thenReturn(expected);
+
+        assertThat(requestSummaryService.findByRequestId(REQUEST_ID)).containsSame(expected);
+    }
+
+    @Test
+    public void findByRequestId_notSummarized() {
+        when(requestSummaryRepository.findOne(REQUEST_ID)).thenReturn(Optional.empty());
+
+        assertThat(requestSummaryService.findByRequestId(REQUEST_ID)).isEmpty();
+    }
+
+    @Test
+    public void refresh_createsSummaryFromLedgerBalances() {
+        final LocalDateTime activityDate = LocalDateTime.now();
+        final TokenValueDto fndFunds = TokenValueDtoMother.FND().build();
+        final TokenValueDto zrxFunds = TokenValueDtoMother.ZRX().build();
+        final Map<String, BigDecimal> balances = new HashMap<>();
+        balances.put(FND_ADDRESS, new BigDecimal("1000000000000000000"));
+        balances.put(ZRX_ADDRESS, new BigDecimal("2000000000000000000"));
+        when(requestRepository.findOne(REQUEST_ID)).thenReturn(Optional.of(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED).build()));
+        when(fundLedgerService.getBalancesByToken(REQUEST_ID)).thenReturn(balances);
+        when(tokenValueMapper.map(FND_ADDRESS, balances.get(FND_ADDRESS))).thenReturn(fndFunds);
+        when(tokenValueMapper.map(ZRX_ADDRESS, balances.get(ZRX_ADDRESS))).thenReturn(zrxFunds);
+        when(fiatService.getUsdPrice(fndFunds)).thenReturn(Optional.of(10.0));
+        when(fiatService.getUsdPrice(zrxFunds)).thenReturn(Optional.of(20.555));
+        when(fundRepository.countFundersForRequest(REQUEST_ID)).thenReturn(3L);
+        when(requestSummaryRepository.findOne(REQUEST_ID)).thenReturn(Optional.empty());
+
+        requestSummaryService.refresh(REQUEST_ID, activityDate);
+
+        final ArgumentCaptor<RequestSummary> captor = ArgumentCaptor.forClass(RequestSummary.class);
+        verify(requestSummaryRepository).saveAndFlush(captor.capture());
+        final RequestSummary summary = captor.getValue();
+        assertThat(summary.getRequestId()).isEqualTo(REQUEST_ID);
+        assertThat(summary.getPhase()).isEqualTo(RequestPhase.OPEN);
+        assertThat(summary.getFndTokenAddress()).isEqualTo(FND_ADDRESS);
+        assertThat(summary.getFndAmountInWei()).isEqualTo(balances.get(FND_ADDRESS));
+        assertThat(summary.getOtherTokenAddress()).isEqualTo(ZRX_ADDRESS);
+        assertThat(summary.getOtherAmountInWei()).isEqualTo(balances.get(ZRX_ADDRESS));
+        assertThat(summary.getFndUsdValue()).isEqualByComparingTo("10.00");
+        assertThat(summary.getOtherUsdValue()).isEqualByComparingTo("20.56");
+        assertThat(summary.getUsdValue()).isEqualByComparingTo("30.56");
+        assertThat(summary.getFunderCount()).isEqualTo(3);
+        assertThat(summary.getLastActivityDate()).isEqualTo(activityDate);
+        verify(eventPublisher).publishEvent(new RequestSummaryUpdatedEvent(REQUEST_ID));
+    }
+
+    @Test
+    public void refresh_claimedRequestUsesClaimedAmounts() {
+        final TokenValueDto fndFunds = TokenValueDtoMother.FND().build();
+        final Map<String, BigDecimal> claimed = new HashMap<>();
+        claimed.put(FND_ADDRESS, BigDecimal.TEN);
+        when(requestRepository.findOne(REQUEST_ID)).thenReturn(Optional.of(RequestMother.fundRequestArea51().withStatus(RequestStatus.CLAIMED).build()));
+        when(fundLedgerService.getClaimedByToken(REQUEST_ID)).thenReturn(claimed);
+        when(tokenValueMapper.map(FND_ADDRESS, BigDecimal.TEN)).thenReturn(fndFunds);
+        when(fiatService.getUsdPrice(fndFunds)).thenReturn(Optional.of(5.0));
+        when(requestSummaryRepository.findOne(REQUEST_ID)).thenReturn(Optional.empty());
+
+        requestSummaryService.refresh(REQUEST_ID, null);
+
+        final ArgumentCaptor<RequestSummary> captor = ArgumentCaptor.forClass(RequestSummary.class);
+        verify(requestSummaryRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getPhase()).isEqualTo(RequestPhase.CLOSED);
+        assertThat(captor.getValue().getUsdValue()).isEqualByComparingTo("5.00");
+        assertThat(captor.getValue().getOtherTokenAddress()).isNull();
+        verify(fundLedgerService, never()).getBalancesByToken(REQUEST_ID);
+    }
+
+    @Test
+    public void refresh_keepsPreviousUsdValueAndActivityWhenUnavailable() {
+        final LocalDateTime previousActivity = LocalDateTime.now();
+        final RequestSummary existing = new RequestSummary(REQUEST_ID);
+        existing.setUsdValues(new BigDecimal("12.50"), BigDecimal.ZERO);
+        existing.setLastActivityDate(previousActivity);
+        final TokenValueDto fndFunds = TokenValueDtoMother.FND().build();
+        final Map<String, BigDecimal> balances = new HashMap<>();
+        balances.put(FND_ADDRESS, BigDecimal.TEN);
+        when(requestRepository.findOne(REQUEST_ID)).thenReturn(Optional.of(RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED).build()));
+        when(fundLedgerService.getBalancesByToken(REQUEST_ID)).thenReturn(balances);
+        when(tokenValueMapper.map(FND_ADDRESS, BigDecimal.TEN)).thenReturn(fndFunds);
+        when(fiatService.getUsdPrice(fndFunds)).thenReturn(Optional.empty());
+        when(requestSummaryRepository.findOne(REQUEST_ID)).thenReturn(Optional.of(existing));
+
+        requestSummaryService.refresh(REQUEST_ID, previousActivity.minusDays(1));
+
+        verify(requestSummaryRepository).saveAndFlush(existing);
+        assertThat(existing.getUsdValue()).isEqualByComparingTo("12.50");
+        assertThat(existing.getLastActivityDate()).isEqualTo(previousActivity);
+    }
+
+    @Test
+    public void refresh_unknownRequest() {
+        when(requestRepository.findOne(REQUEST_ID)).thenReturn(Optional.empty());
+
+        requestSummaryService.refresh(REQUEST_ID, LocalDateTime.now());
+
+        verify(requestSummaryRepository, never()).saveAndFlush(any(RequestSummary.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,70 @@
+package io.fundrequest.core.token;
+
+import io.fundrequest.core.erc20.service.ERC20Service;
+import io.fundrequest.core.token.domain.TokenInfo;
+import io.fundrequest.core.token.dto.TokenInfoDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenInfoServiceImplTest {
+
+    private static final String ADDRESS = "0x02F96eF85cAd6639500CA1cc8356F0b5CA5bF1D2";
+
+    private TokenInfoServiceImpl tokenInfoService;
+    private ERC20Service erc20Service;
+    private TokenInfoRegistry tokenInfoRegistry;
+
+    @BeforeEach
+    void setUp() {
+        erc20Service = mock(ERC20Service.class);
+        tokenInfoRegistry = mock(TokenInfoRegistry.class);
+        tokenInfoService = new TokenInfoServiceImpl(erc20Service, tokenInfoRegistry);
+    }
+
+    @Test
+    void getTokenInfo_knownToken() {
+        when(tokenInfoRegistry.find(ADDRESS)).thenReturn(Optional.of(TokenInfo.builder().address(ADDRESS).symbol("FND").name("FundRequest").decimals(18).build()));
+
+        final TokenInfoDto result = tokenInfoService.getTokenInfo(ADDRESS);
+
+        assertThat(result).isEqualTo(TokenInfoDto.builder().address(ADDRESS).symbol("FND").name("FundRequest").decimals(18).build());
+        verify(erc20Service, never()).tokenInfo(anyString());
+    }
+
+    @Test
+    void getTokenInfo_unknownTokenIsFetchedAndRegistered() {
+        final TokenInfoDto fetched = TokenInfoDto.builder().address(ADDRESS).symbol("FND").name("FundRequest").decimals(18).build();
+        when(tokenInfoRegistry.find(ADDRESS)).thenReturn(Optional.empty());
+        when(erc20Service.tokenInfo(ADDRESS)).thenReturn(Optional.of(fetched));
+        when(tokenInfoRegistry.register(fetched)).thenReturn(TokenInfo.builder().address(ADDRESS).symbol("FND").name("FundRequest").decimals(18).build());
+
+        final TokenInfoDto result = tokenInfoService.getTokenInfo(ADDRESS);
+
+        assertThat(result).isEqualTo(fetched);
+        verify(tokenInfoRegistry).register(fetched);
+    }
+
+    @Test
+    void getTokenInfo_fallsBackToSeparateCallsWithoutRegistering() {
+        when(tokenInfoRegistry.find(ADDRESS)).thenReturn(Optional.empty());
+        when(erc20Service.tokenInfo(ADDRESS)).thenReturn(Optional.empty());
+        when(erc20Service.decimals(ADDRESS)).thenReturn(18);
+        when(erc20Service.name(ADDRESS)).thenReturn("Unknown ERC20");
+        when(erc20Service.symbol(ADDRESS)).thenReturn("ERC20");
+
+        final TokenInfoDto result = tokenInfoService.getTokenInfo(ADDRESS);
+
+        assertThat(result).isEqualTo(TokenInfoDto.builder().address(ADDRESS).symbol("ERC20").name("Unknown ERC20").decimals(18).build());
+        verify(tokenInfoRegistry, never()).register(any(TokenInfoDto.class));
+    }
+}
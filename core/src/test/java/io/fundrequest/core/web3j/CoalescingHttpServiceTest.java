@@ -0,0 +1,115 @@
+package io.fundrequest.core.web3j;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoalescingHttpServiceTest {
+
+    private JsonRpcBatchClient batchClient;
+    private CoalescingHttpService service;
+
+    @BeforeEach
+    void setUp() {
+        batchClient = mock(JsonRpcBatchClient.class);
+        service = new CoalescingHttpService(batchClient, 50, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void sendAsync_coalescesCallsIntoOneBatch() throws Exception {
+        final Request<?, EthBlockNumber> request1 = blockNumberRequest();
+        final Request<?, EthBlockNumber> request2 = blockNumberRequest();
+        final JsonNode node1 = JsonNodeFactory.instance.numberNode(1);
+        final JsonNode node2 = JsonNodeFactory.instance.numberNode(2);
+        final EthBlockNumber response1 = new EthBlockNumber();
+        final EthBlockNumber response2 = new EthBlockNumber();
+        when(batchClient.sendRaw(Arrays.asList(request1, request2))).thenReturn(Arrays.asList(node1, node2));
+        when(batchClient.readResponse(node1, EthBlockNumber.class)).thenReturn(response1);
+        when(batchClient.readResponse(node2, EthBlockNumber.class)).thenReturn(response2);
+
+        final CompletableFuture<EthBlockNumber> result1 = service.sendAsync(request1, EthBlockNumber.class);
+        final CompletableFuture<EthBlockNumber> result2 = service.sendAsync(request2, EthBlockNumber.class);
+
+        assertThat(result1.get(1, SECONDS)).isSameAs(response1);
+        assertThat(result2.get(1, SECONDS)).isSameAs(response2);
+        verify(batchClient, times(1)).sendRaw(anyList());
+    }
+
+    @Test
+    void sendAsync_dropsCancelledCallsFromBatch() throws Exception {
+        final Request<?, EthBlockNumber> cancelled = blockNumberRequest();
+        final Request<?, EthBlockNumber> request = blockNumberRequest();
+        final JsonNode node = JsonNodeFactory.instance.numberNode(1);
+        final EthBlockNumber response = new EthBlockNumber();
+        when(batchClient.sendRaw(Collections.singletonList(request))).thenReturn(Collections.singletonList(node));
+        when(batchClient.readResponse(node, EthBlockNumber.class)).thenReturn(response);
+
+        service.sendAsync(cancelled, EthBlockNumber.class).cancel(true);
+        final CompletableFuture<EthBlockNumber> result = service.sendAsync(request, EthBlockNumber.class);
+
+        assertThat(result.get(1, SECONDS)).isSameAs(response);
+        verify(batchClient).sendRaw(Collections.singletonList(request));
+    }
+
+    @Test
+    void send_rethrowsBatchFailure() throws Exception {
+        final IOException failure = new IOException("node down");
+        when(batchClient.sendRaw(anyList())).thenThrow(failure);
+
+        final Throwable result = catchThrowable(() -> service.send(blockNumberRequest(), EthBlockNumber.class));
+
+        assertThat(result).isSameAs(failure);
+    }
+
+    @Test
+    void sendAsync_allowsBlockingCallFromCallback() throws Exception {
+        service.shutdown();
+        service = new CoalescingHttpService(batchClient, 10, 10, 1);
+        final Request<?, EthBlockNumber> outer = blockNumberRequest();
+        final Request<?, EthBlockNumber> nested = blockNumberRequest();
+        final JsonNode outerNode = JsonNodeFactory.instance.numberNode(1);
+        final JsonNode nestedNode = JsonNodeFactory.instance.numberNode(2);
+        final EthBlockNumber nestedResponse = new EthBlockNumber();
+        when(batchClient.sendRaw(Collections.singletonList(outer))).thenReturn(Collections.singletonList(outerNode));
+        when(batchClient.sendRaw(Collections.singletonList(nested))).thenReturn(Collections.singletonList(nestedNode));
+        when(batchClient.readResponse(outerNode, EthBlockNumber.class)).thenReturn(new EthBlockNumber());
+        when(batchClient.readResponse(nestedNode, EthBlockNumber.class)).thenReturn(nestedResponse);
+
+        final CompletableFuture<EthBlockNumber> result = service.sendAsync(outer, EthBlockNumber.class).thenApply(response -> {
+            try {
+                return service.send(nested, EthBlockNumber.class);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(result.get(1, SECONDS)).isSameAs(nestedResponse);
+    }
+
+    private Request<?, EthBlockNumber> blockNumberRequest() {
+        return new Request<>("eth_blockNumber", Collections.<String>emptyList(), service, EthBlockNumber.class);
+    }
+}
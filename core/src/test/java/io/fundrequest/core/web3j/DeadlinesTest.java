@@ -0,0 +1,35 @@
+package io.fundrequest.core.web3j;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class DeadlinesTest {
+
+    @Test
+    void withDeadline_failsAndCancelsCallWhenDeadlineFires() {
+        final CompletableFuture<String> call = new CompletableFuture<>();
+
+        final Throwable result = catchThrowable(() -> Deadlines.withDeadline(call, Duration.ofMillis(20)).get(1, SECONDS));
+
+        assertThat(result).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(call.isCancelled()).isTrue();
+    }
+
+    @Test
+    void withDeadline_passesResultThroughBeforeDeadline() throws Exception {
+        final CompletableFuture<String> call = new CompletableFuture<>();
+        final CompletableFuture<String> result = Deadlines.withDeadline(call, Duration.ofSeconds(5));
+
+        call.complete("0x1");
+
+        assertThat(result.get(1, SECONDS)).isEqualTo("0x1");
+    }
+}
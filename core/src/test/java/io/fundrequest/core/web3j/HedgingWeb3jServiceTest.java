@@ -0,0 +1,168 @@
+package io.fundrequest.core.web3j;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HedgingWeb3jServiceTest {
+
+    private Web3jService primary;
+    private Web3jService secondary;
+    private HedgingWeb3jService service;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(Web3jService.class);
+        secondary = mock(Web3jService.class);
+        service = new HedgingWeb3jService(Arrays.asList(new Web3jEndpoint("primary", primary), new Web3jEndpoint("secondary", secondary)),
+                                          Duration.ofMillis(20),
+                                          Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void sendAsync_hedgesSlowCallToNextEndpoint() throws Exception {
+        final Request<?, EthBlockNumber> request = blockNumberRequest();
+        final EthBlockNumber response = new EthBlockNumber();
+        final Web3jService first = service.rankedEndpoints().get(0).getService();
+        final Web3jService second = service.rankedEndpoints().get(1).getService();
+        when(first.sendAsync(request, EthBlockNumber.class)).thenReturn(new CompletableFuture<>());
+        when(second.sendAsync(request, EthBlockNumber.class)).thenReturn(CompletableFuture.completedFuture(response));
+
+        assertThat(service.sendAsync(request, EthBlockNumber.class).get(1, SECONDS)).isSameAs(response);
+    }
+
+    @Test
+    void sendAsync_failsOverImmediatelyOnError() throws Exception {
+        final Request<?, EthBlockNumber> request = blockNumberRequest();
+        final EthBlockNumber response = new EthBlockNumber();
+        final CompletableFuture<EthBlockNumber> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new IOException("node down"));
+        final Web3jService first = service.rankedEndpoints().get(0).getService();
+        final Web3jService second = service.rankedEndpoints().get(1).getService();
+        when(first.sendAsync(request, EthBlockNumber.class)).thenReturn(failure);
+        when(second.sendAsync(request, EthBlockNumber.class)).thenReturn(CompletableFuture.completedFuture(response));
+
+        assertThat(service.sendAsync(request, EthBlockNumber.class).get(1, SECONDS)).isSameAs(response);
+        assertThat(service.rankedEndpoints().get(0).getService()).isSameAs(second);
+    }
+
+    @Test
+    void sendAsync_failsOverOnErrorResponse() throws Exception {
+        final Request<?, EthBlockNumber> request = blockNumberRequest();
+        final EthBlockNumber errorResponse = new EthBlockNumber();
+        errorResponse.setError(new Response.Error(-32000, "header not found"));
+        final EthBlockNumber response = new EthBlockNumber();
+        final Web3jEndpoint first = service.rankedEndpoints().get(0);
+        final Web3jService second = service.rankedEndpoints().get(1).getService();
+        when(first.getService().sendAsync(request, EthBlockNumber.class)).thenReturn(CompletableFuture.completedFuture(errorResponse));
+        when(second.sendAsync(request, EthBlockNumber.class)).thenReturn(CompletableFuture.completedFuture(response));
+
+        assertThat(service.sendAsync(request, EthBlockNumber.class).get(1, SECONDS)).isSameAs(response);
+        assertThat(first.getStats().errorRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void sendAsync_returnsErrorResponseWhenEveryEndpointAnswersWithError() throws Exception {
+        final Request<?, EthBlockNumber> request = blockNumberRequest();
+        final EthBlockNumber errorResponse = new EthBlockNumber();
+        errorResponse.setError(new Response.Error(3, "execution reverted"));
+        service.rankedEndpoints().forEach(endpoint -> when(endpoint.getService().sendAsync(request, EthBlockNumber.class))
+                .thenReturn(CompletableFuture.completedFuture(errorResponse)));
+
+        assertThat(service.sendAsync(request, EthBlockNumber.class).get(1, SECONDS)).isSameAs(errorResponse);
+    }
+
+    @Test
+    void sendAsync_doesNotHedgeTransactions() throws Exception {
+        final Request<?, EthSendTransaction> request = new Request<>("eth_sendRawTransaction", Collections.singletonList("0x01"), null, EthSendTransaction.class);
+        final Web3jService first = service.rankedEndpoints().get(0).getService();
+        final Web3jService second = service.rankedEndpoints().get(1).getService();
+        when(first.sendAsync(request, EthSendTransaction.class)).thenReturn(new CompletableFuture<>());
+
+        service.sendAsync(request, EthSendTransaction.class);
+
+        Thread.sleep(100);
+        verify(first).sendAsync(request, EthSendTransaction.class);
+        verify(second, never()).sendAsync(request, EthSendTransaction.class);
+    }
+
+    @Test
+    void sendAsync_sendsBlockPinnedCallsOnlyToEndpointsAtThatBlock() throws Exception {
+        final Request<?, EthCall> request = new Request<>("eth_call",
+                                                          Arrays.asList(Transaction.createEthCallTransaction(null, "0x01", "0x"), DefaultBlockParameter.valueOf(BigInteger.TEN)),
+                                                          null,
+                                                          EthCall.class);
+        final EthCall response = new EthCall();
+        final Web3jEndpoint lagging = service.rankedEndpoints().get(0);
+        final Web3jEndpoint synced = service.rankedEndpoints().get(1);
+        lagging.advanceHead(BigInteger.valueOf(9));
+        synced.advanceHead(BigInteger.TEN);
+        when(synced.getService().sendAsync(request, EthCall.class)).thenReturn(CompletableFuture.completedFuture(response));
+
+        assertThat(service.sendAsync(request, EthCall.class).get(1, SECONDS)).isSameAs(response);
+        Thread.sleep(100);
+        verify(lagging.getService(), never()).sendAsync(request, EthCall.class);
+    }
+
+    @Test
+    void sendBatch_failsOverToNextEndpointOnIOException() throws Exception {
+        final JsonRpcBatchClient failing = mock(JsonRpcBatchClient.class);
+        final JsonRpcBatchClient local = mock(JsonRpcBatchClient.class);
+        final List<Request<?, EthBlockNumber>> batch = Collections.singletonList(blockNumberRequest());
+        final List<JsonNode> responses = Collections.singletonList(JsonNodeFactory.instance.objectNode());
+        final Web3jEndpoint primaryEndpoint = new Web3jEndpoint("primary", primary, failing);
+        final HedgingWeb3jService batching = new HedgingWeb3jService(Arrays.asList(primaryEndpoint, new Web3jEndpoint("local", secondary, local)),
+                                                                     Duration.ofMillis(20),
+                                                                     Duration.ofHours(1));
+        when(failing.sendRaw(batch)).thenThrow(new IOException("node down"));
+        when(local.sendRaw(batch)).thenReturn(responses);
+
+        try {
+            assertThat(batching.sendBatch(batch)).isSameAs(responses);
+            assertThat(primaryEndpoint.getStats().errorRate()).isEqualTo(1.0);
+            assertThat(batching.rankedEndpoints().get(0).getBatchClient()).isSameAs(local);
+        } finally {
+            batching.shutdown();
+        }
+    }
+
+    @Test
+    void sendBatch_failsWhenNoEndpointAcceptsBatches() {
+        assertThatThrownBy(() -> service.sendBatch(Collections.singletonList(blockNumberRequest()))).isInstanceOf(IOException.class);
+    }
+
+    private Request<?, EthBlockNumber> blockNumberRequest() {
+        return new Request<>("eth_blockNumber", Collections.emptyList(), null, EthBlockNumber.class);
+    }
+}
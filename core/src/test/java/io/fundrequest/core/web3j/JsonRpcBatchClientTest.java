@@ -0,0 +1,162 @@
+package io.fundrequest.core.web3j;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonRpcBatchClientTest {
+
+    private static final String CONTRACT = "0x0000000000000000000000000000000000000001";
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> batches = new ArrayList<>();
+    private UnaryOperator<ArrayNode> responder;
+    private int status;
+
+    @BeforeEach
+    void setUp() {
+        batches.clear();
+        status = 200;
+        responder = this::answerWithIds;
+    }
+
+    @Test
+    void executeCalls_sendsOneBatchAndMatchesResponsesById() throws IOException {
+        responder = batch -> reversed(answerWithIds(batch));
+
+        final List<List<Type>> results = client(null).executeCalls(null, CONTRACT, Arrays.asList(balanceOf(1), balanceOf(2), balanceOf(3)));
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(3);
+        assertThat(results).extracting(result -> result.get(0).getValue())
+                           .containsExactly(idOf(batches.get(0).get(0)), idOf(batches.get(0).get(1)), idOf(batches.get(0).get(2)));
+    }
+
+    @Test
+    void executeCalls_returnsEmptyResultForFailedCall() throws IOException {
+        responder = batch -> {
+            final ArrayNode responses = answerWithIds(batch);
+            final ObjectNode failed = (ObjectNode) responses.get(1);
+            failed.remove("result");
+            failed.putObject("error").put("code", -32000).put("message", "execution reverted");
+            return responses;
+        };
+
+        final List<List<Type>> results = client(null).executeCalls(null, CONTRACT, Arrays.asList(balanceOf(1), balanceOf(2)));
+
+        assertThat(results.get(0)).hasSize(1);
+        assertThat(results.get(1)).isEmpty();
+    }
+
+    @Test
+    void executeCalls_failsWhenBatchMissesAResponse() {
+        responder = batch -> {
+            final ArrayNode responses = answerWithIds(batch);
+            responses.remove(0);
+            return responses;
+        };
+
+        assertThatThrownBy(() -> client(null).executeCalls(null, CONTRACT, Arrays.asList(balanceOf(1), balanceOf(2))))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void executeCalls_failsOnHttpError() {
+        status = 502;
+
+        assertThatThrownBy(() -> client(null).executeCalls(null, CONTRACT, singletonList(balanceOf(1))))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void executeCalls_servesPinnedCallsFromCache() throws IOException {
+        final EthCallCache ethCallCache = new EthCallCache(new ConcurrentMapCacheManager("eth_call"));
+        ethCallCache.advanceTo(BigInteger.TEN);
+        final JsonRpcBatchClient client = client(ethCallCache);
+
+        final List<List<Type>> first = client.executeCalls(null, CONTRACT, singletonList(balanceOf(1)));
+        final List<List<Type>> second = client.executeCalls(null, CONTRACT, singletonList(balanceOf(1)));
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0).get(0).path("params").get(1).asText()).isEqualTo("0xa");
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void executeCalls_doesNotPostEmptyBatch() throws IOException {
+        assertThat(client(null).executeCalls(null, CONTRACT, new ArrayList<>())).isEmpty();
+        assertThat(batches).isEmpty();
+    }
+
+    private JsonRpcBatchClient client(final EthCallCache ethCallCache) {
+        final OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+            final Buffer payload = new Buffer();
+            chain.request().body().writeTo(payload);
+            final JsonNode batch = objectMapper.readTree(payload.readUtf8());
+            batches.add(batch);
+            return new Response.Builder().request(chain.request())
+                                         .protocol(Protocol.HTTP_1_1)
+                                         .code(status)
+                                         .message("status " + status)
+                                         .body(ResponseBody.create(JSON, objectMapper.writeValueAsString(responder.apply((ArrayNode) batch))))
+                                         .build();
+        }).build();
+        return new JsonRpcBatchClient("http://localhost:8545", httpClient, ethCallCache);
+    }
+
+    private ArrayNode answerWithIds(final ArrayNode batch) {
+        final ArrayNode responses = JsonNodeFactory.instance.arrayNode();
+        batch.forEach(request -> responses.addObject()
+                                          .put("jsonrpc", "2.0")
+                                          .put("id", request.path("id").asLong())
+                                          .put("result", Numeric.toHexStringWithPrefixZeroPadded(idOf(request), 64)));
+        return responses;
+    }
+
+    private static ArrayNode reversed(final ArrayNode responses) {
+        final ArrayNode reversed = JsonNodeFactory.instance.arrayNode();
+        for (int i = responses.size() - 1; i >= 0; i--) {
+            reversed.add(responses.get(i));
+        }
+        return reversed;
+    }
+
+    private static BigInteger idOf(final JsonNode request) {
+        return BigInteger.valueOf(request.path("id").asLong());
+    }
+
+    private static Function balanceOf(final long owner) {
+        return new Function("balanceOf",
+                            singletonList(new Address(BigInteger.valueOf(owner))),
+                            singletonList(new TypeReference<Uint256>() {}));
+    }
+}
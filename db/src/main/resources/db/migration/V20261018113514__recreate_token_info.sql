@@ -0,0 +1,11 @@
+CREATE TABLE token_info
+(
+  address            VARCHAR(50) PRIMARY KEY,
+  symbol             VARCHAR(50),
+  name               VARCHAR(100),
+  decimals           INT         NOT NULL,
+  creation_date      TIMESTAMP   NOT NULL,
+  last_modified_date TIMESTAMP,
+  created_by         VARCHAR(1000),
+  last_modified_by   VARCHAR(1000)
+);
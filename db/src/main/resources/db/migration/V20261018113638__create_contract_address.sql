@@ -0,0 +1,11 @@
+CREATE TABLE contract_address
+(
+  fund_request_address VARCHAR(50) NOT NULL,
+  name                 VARCHAR(50) NOT NULL,
+  address              VARCHAR(50) NOT NULL,
+  creation_date        TIMESTAMP   NOT NULL,
+  last_modified_date   TIMESTAMP,
+  created_by           VARCHAR(1000),
+  last_modified_by     VARCHAR(1000),
+  PRIMARY KEY (fund_request_address, name)
+);
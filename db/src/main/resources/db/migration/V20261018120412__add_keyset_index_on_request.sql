@@ -0,0 +1,6 @@
+UPDATE request
+SET last_modified_date = creation_date
+WHERE last_modified_date IS NULL;
+
+CREATE OR REPLACE INDEX idx_request_03
+  ON request (last_modified_date, id);
@@ -0,0 +1,21 @@
+CREATE TABLE request_summary
+(
+  request_id          BIGINT PRIMARY KEY,
+  phase               VARCHAR(50)    NOT NULL,
+  fnd_token_address   VARCHAR(50),
+  fnd_amount_in_wei   DECIMAL(50),
+  fnd_usd_value       DECIMAL(20, 2) NOT NULL,
+  other_token_address VARCHAR(50),
+  other_amount_in_wei DECIMAL(50),
+  other_usd_value     DECIMAL(20, 2) NOT NULL,
+  usd_value           DECIMAL(20, 2) NOT NULL,
+  funder_count        INT            NOT NULL,
+  last_activity_date  TIMESTAMP      NULL,
+  creation_date       TIMESTAMP      NOT NULL,
+  last_modified_date  TIMESTAMP      NULL,
+  created_by          VARCHAR(1000),
+  last_modified_by    VARCHAR(1000)
+);
+
+CREATE OR REPLACE INDEX idx_request_summary_01
+  ON request_summary (usd_value, request_id);
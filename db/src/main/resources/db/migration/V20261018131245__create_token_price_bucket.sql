@@ -0,0 +1,15 @@
+CREATE TABLE token_price_bucket
+(
+  id                 BIGINT PRIMARY KEY AUTO_INCREMENT,
+  symbol             VARCHAR(50)     NOT NULL,
+  price_date         DATE            NOT NULL,
+  usd_price          DECIMAL(30, 12) NOT NULL,
+  sample_count       INT             NOT NULL,
+  creation_date      TIMESTAMP       NOT NULL,
+  last_modified_date TIMESTAMP       NULL,
+  created_by         VARCHAR(1000),
+  last_modified_by   VARCHAR(1000)
+);
+
+CREATE UNIQUE INDEX idx_token_price_bucket_01
+  ON token_price_bucket (symbol, price_date);
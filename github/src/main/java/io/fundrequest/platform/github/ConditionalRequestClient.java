@@ -0,0 +1,82 @@
+package io.fundrequest.platform.github;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class ConditionalRequestClient implements Client {
+
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final int NOT_MODIFIED = 304;
+
+    private final Client delegate;
+    private final GithubResponseCache cache;
+
+    ConditionalRequestClient(final Client delegate, final GithubResponseCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Response execute(final Request request, final Request.Options options) throws IOException {
+        if (!"GET".equalsIgnoreCase(request.method())) {
+            return delegate.execute(request, options);
+        }
+        final String key = request.url() + "|" + header(request.headers(), "Accept");
+        final GithubResponseCache.Entry cached = cache.get(key);
+        if (cached == null) {
+            return store(key, delegate.execute(request, options));
+        }
+        final Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(IF_NONE_MATCH, Collections.singletonList(cached.getEtag()));
+        final Response response = delegate.execute(Request.create(request.method(), request.url(), headers, request.body(), request.charset()), options);
+        cache.recordConditionalRequest(response.status() == NOT_MODIFIED);
+        if (response.status() == NOT_MODIFIED) {
+            response.close();
+            return Response.builder()
+                           .status(200)
+                           .reason("OK")
+                           .headers(cached.getHeaders())
+                           .body(cached.getBody())
+                           .build();
+        }
+        return store(key, response);
+    }
+
+    private Response store(final String key, final Response response) throws IOException {
+        final String etag = header(response.headers(), ETAG);
+        if (response.status() != 200 || etag == null || response.body() == null) {
+            return response;
+        }
+        final byte[] body;
+        try {
+            body = Util.toByteArray(response.body().asInputStream());
+        } finally {
+            response.close();
+        }
+        cache.put(key, new GithubResponseCache.Entry(etag, response.headers(), body));
+        return Response.builder()
+                       .status(response.status())
+                       .reason(response.reason())
+                       .headers(response.headers())
+                       .body(body)
+                       .build();
+    }
+
+    private static String header(final Map<String, Collection<String>> headers, final String name) {
+        return headers.entrySet()
+                      .stream()
+                      .filter(header -> name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty())
+                      .map(header -> header.getValue().iterator().next())
+                      .findFirst()
+                      .orElse(null);
+    }
+}
@@ -19,7 +19,7 @@ import static org.springframework.web.bind.annotation.RequestMethod.POST;
 @FeignClient(
         name = "github-api-client",
         url = "https://api.github.com/",
-        configuration = GithubFeignConfiguration.class
+        configuration = {GithubFeignConfiguration.class, GithubRequestLimitsConfiguration.class}
 )
 interface GithubApiClient {
 
@@ -1,6 +1,8 @@
 package io.fundrequest.platform.github;
 
+import feign.Client;
 import feign.auth.BasicAuthRequestInterceptor;
+import feign.httpclient.ApacheHttpClient;
 import io.fundrequest.common.infrastructure.IgnoreDuringComponentScan;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -20,4 +22,9 @@ public class GithubFeignConfiguration {
             @Value("${feign.client.github.password}") String githubPassword) {
         return new BasicAuthRequestInterceptor(githubUsername, githubPassword);
     }
+
+    @Bean
+    public Client githubClient(final GithubResponseCache githubResponseCache) {
+        return new ConditionalRequestClient(new ApacheHttpClient(), githubResponseCache);
+    }
 }
@@ -0,0 +1,18 @@
+package io.fundrequest.platform.github;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.cloud.netflix.feign.FeignClient;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import static org.springframework.web.bind.annotation.RequestMethod.POST;
+
+@FeignClient(
+        name = "github-graphql-client",
+        url = "https://api.github.com/",
+        configuration = {GithubFeignConfiguration.class, GithubRequestLimitsConfiguration.class}
+)
+interface GithubGraphQLClient {
+
+    @RequestMapping(value = "/graphql", method = POST, consumes = "application/json")
+    JsonNode query(GithubGraphQLQuery query);
+}
@@ -0,0 +1,12 @@
+package io.fundrequest.platform.github;
+
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+class GithubGraphQLQuery {
+
+    private final String query;
+    private final Map<String, Object> variables;
+}
@@ -0,0 +1,195 @@
+package io.fundrequest.platform.github;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fundrequest.platform.github.parser.GithubIssueSnapshot;
+import io.fundrequest.platform.github.parser.GithubResult;
+import io.fundrequest.platform.github.parser.GithubUser;
+import io.fundrequest.platform.github.scraper.GithubSolverResolver;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@Component
+@Slf4j
+public class GithubIssueBatchFetcher {
+
+    private static final int REST_COMMENTS_PAGE_SIZE = 30;
+    private static final String REFRESHED_ISSUES_CACHE = "github_issues_refreshed";
+    private static final String ISSUE_FRAGMENT = "fragment issue on Issue { databaseId number title state body bodyHTML "
+                                                 + "author { login url avatarUrl } "
+                                                 + "comments { totalCount } "
+                                                 + "timelineItems(itemTypes: [CROSS_REFERENCED_EVENT], first: 100) { "
+                                                 + "nodes { ... on CrossReferencedEvent { source { ... on PullRequest { merged bodyHTML author { login } } } } } } }";
+
+    private final GithubGraphQLClient githubGraphQLClient;
+    private final GithubSolverResolver solverResolver;
+    private final CacheManager cacheManager;
+    private final int batchSize;
+
+    public GithubIssueBatchFetcher(final GithubGraphQLClient githubGraphQLClient,
+                                   final GithubSolverResolver solverResolver,
+                                   final CacheManager cacheManager,
+                                   @Value("${io.fundrequest.github.graphql.batch-size:100}") final int batchSize) {
+        this.githubGraphQLClient = githubGraphQLClient;
+        this.solverResolver = solverResolver;
+        this.cacheManager = cacheManager;
+        this.batchSize = batchSize;
+    }
+
+    public Map<GithubId, GithubIssueSnapshot> fetchIssues(final Collection<GithubId> githubIds) {
+        final Map<GithubId, GithubIssueSnapshot> issues = new LinkedHashMap<>();
+        batches(githubIds).forEach(batch -> issues.putAll(fetchBatch(batch)));
+        return issues;
+    }
+
+    /**
+     * Fetches the issues batch by batch and stores them in the caches. A failing batch is logged and skipped so the remaining batches still
+     * get refreshed.
+     */
+    public Map<GithubId, GithubIssueSnapshot> refreshIssues(final Collection<GithubId> githubIds) {
+        final Map<GithubId, GithubIssueSnapshot> issues = new LinkedHashMap<>();
+        for (final List<GithubId> batch : batches(githubIds)) {
+            try {
+                final Map<GithubId, GithubIssueSnapshot> refreshed = fetchBatch(batch);
+                refreshed.values().forEach(this::updateCaches);
+                issues.putAll(refreshed);
+            } catch (final Exception e) {
+                log.warn("Unable to refresh a GitHub batch of {} issues: {}", batch.size(), e.getMessage());
+            }
+        }
+        return issues;
+    }
+
+    public Optional<GithubIssue> getRefreshedIssue(final String owner, final String repo, final String number) {
+        final Cache cache = cacheManager.getCache(REFRESHED_ISSUES_CACHE);
+        return Optional.ofNullable(cache == null ? null : cache.get(new SimpleKey(owner, repo, number), GithubIssue.class));
+    }
+
+    private List<List<GithubId>> batches(final Collection<GithubId> githubIds) {
+        final List<GithubId> ids = githubIds.stream()
+                                            .filter(this::hasIssueNumber)
+                                            .collect(Collectors.toList());
+        final List<List<GithubId>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+        return batches;
+    }
+
+    private boolean hasIssueNumber(final GithubId githubId) {
+        try {
+            Integer.parseInt(githubId.getNumber());
+            return true;
+        } catch (final NumberFormatException e) {
+            log.warn("Skipping GitHub issue {}/{} with invalid number '{}'", githubId.getOwner(), githubId.getRepo(), githubId.getNumber());
+            return false;
+        }
+    }
+
+    private Map<GithubId, GithubIssueSnapshot> fetchBatch(final List<GithubId> batch) {
+        final StringBuilder declarations = new StringBuilder();
+        final StringBuilder selections = new StringBuilder();
+        final Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            final GithubId githubId = batch.get(i);
+            declarations.append(i == 0 ? "" : ", ").append("$o").append(i).append(": String!, $r").append(i).append(": String!, $n").append(i).append(": Int!");
+            selections.append(" i").append(i).append(": repository(owner: $o").append(i).append(", name: $r").append(i)
+                      .append(") { issue(number: $n").append(i).append(") { ...issue } }");
+            variables.put("o" + i, githubId.getOwner());
+            variables.put("r" + i, githubId.getRepo());
+            variables.put("n" + i, Integer.valueOf(githubId.getNumber()));
+        }
+        final JsonNode response = githubGraphQLClient.query(new GithubGraphQLQuery("query(" + declarations + ") {" + selections + " } " + ISSUE_FRAGMENT, variables));
+        if (response.has("errors")) {
+            log.warn("GitHub GraphQL batch of {} issues returned errors: {}", batch.size(), response.get("errors"));
+        }
+        final Map<GithubId, GithubIssueSnapshot> issues = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            final JsonNode issue = response.path("data").path("i" + i).path("issue");
+            if (issue.isObject()) {
+                issues.put(batch.get(i), toSnapshot(batch.get(i), issue));
+            }
+        }
+        return issues;
+    }
+
+    private GithubIssueSnapshot toSnapshot(final GithubId githubId, final JsonNode issue) {
+        final JsonNode author = issue.path("author");
+        return GithubIssueSnapshot.builder()
+                                  .owner(githubId.getOwner())
+                                  .repo(githubId.getRepo())
+                                  .number(githubId.getNumber())
+                                  .id(issue.path("databaseId").asLong())
+                                  .title(issue.path("title").asText(null))
+                                  .state(issue.path("state").asText("").toLowerCase())
+                                  .body(issue.path("body").asText(null))
+                                  .bodyHtml(issue.path("bodyHTML").asText(null))
+                                  .author(author.isObject() ? GithubUser.builder()
+                                                                        .login(author.path("login").asText(null))
+                                                                        .url(author.path("url").asText(null))
+                                                                        .avatarUrl(author.path("avatarUrl").asText(null))
+                                                                        .build() : null)
+                                  .commentCount(issue.path("comments").path("totalCount").asInt())
+                                  .solver(resolveSolver(githubId, issue.path("timelineItems").path("nodes")))
+                                  .build();
+    }
+
+    private String resolveSolver(final GithubId githubId, final JsonNode timelineItems) {
+        return StreamSupport.stream(timelineItems.spliterator(), false)
+                            .map(item -> item.path("source"))
+                            .filter(pullRequest -> pullRequest.path("merged").asBoolean())
+                            .filter(pullRequest -> solverResolver.pullRequestFixesIssue(pullRequest.path("bodyHTML").asText(null), githubId))
+                            .map(pullRequest -> pullRequest.path("author").path("login").asText(null))
+                            .filter(StringUtils::isNotEmpty)
+                            .findFirst()
+                            .orElse(null);
+    }
+
+    private void updateCaches(final GithubIssueSnapshot issue) {
+        final SimpleKey key = new SimpleKey(issue.getOwner(), issue.getRepo(), issue.getNumber());
+        put("github_issue", key, GithubResult.builder()
+                                             .id(String.valueOf(issue.getId()))
+                                             .number(issue.getNumber())
+                                             .title(issue.getTitle())
+                                             .state(issue.getState())
+                                             .body(issue.getBody())
+                                             .bodyHtml(issue.getBodyHtml())
+                                             .user(issue.getAuthor())
+                                             .build());
+        put(REFRESHED_ISSUES_CACHE, key, GithubIssue.builder()
+                                                    .owner(issue.getOwner())
+                                                    .repo(issue.getRepo())
+                                                    .number(issue.getNumber())
+                                                    .status(StringUtils.capitalize(issue.getState()))
+                                                    .solver(issue.getSolver())
+                                                    .build());
+        final Cache comments = cacheManager.getCache("github_comments");
+        final List<?> cachedComments = comments == null ? null : comments.get(key, List.class);
+        if (cachedComments != null && cachedComments.size() != Math.min(issue.getCommentCount(), REST_COMMENTS_PAGE_SIZE)) {
+            comments.evict(key);
+        }
+    }
+
+    private void put(final String cacheName, final SimpleKey key, final Object value) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.put(key, value);
+        }
+    }
+}
@@ -15,11 +15,14 @@ import java.time.ZonedDateTime;
 public class GithubRateHealthCheck implements HealthIndicator {
 
     private final GithubGateway githubGateway;
+    private final GithubResponseCache githubResponseCache;
     private final int threshold;
 
     public GithubRateHealthCheck(final GithubGateway githubGateway,
+                                 final GithubResponseCache githubResponseCache,
                                  @Value("${io.fundrequest.health.github.api-rate-limit.threshold-percentage:20}") final int thresholdPercentage) {
         this.githubGateway = githubGateway;
+        this.githubResponseCache = githubResponseCache;
         this.threshold = thresholdPercentage;
     }
 
@@ -42,7 +45,10 @@ public class GithubRateHealthCheck implements HealthIndicator {
     private Health.Builder addDetails(final Health.Builder healthBuilder, final GithubRateLimit rateLimit) {
         return healthBuilder.withDetail("limit", rateLimit.getLimit())
                             .withDetail("remaining", rateLimit.getRemaining())
-                            .withDetail("reset", toZonedDateTime(rateLimit.getReset()));
+                            .withDetail("reset", toZonedDateTime(rateLimit.getReset()))
+                            .withDetail("conditional-requests", githubResponseCache.getConditionalRequests())
+                            .withDetail("not-modified", githubResponseCache.getNotModifiedResponses())
+                            .withDetail("not-modified-rate", githubResponseCache.getHitRate());
     }
 
     private ZonedDateTime toZonedDateTime(final long reset) {
@@ -0,0 +1,21 @@
+package io.fundrequest.platform.github;
+
+import feign.Request;
+import io.fundrequest.common.infrastructure.IgnoreDuringComponentScan;
+import io.fundrequest.common.infrastructure.feign.PerClientHystrixFeignConfiguration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@Configuration
+@IgnoreDuringComponentScan
+@Import(PerClientHystrixFeignConfiguration.class)
+public class GithubRequestLimitsConfiguration {
+
+    @Bean
+    public Request.Options githubRequestOptions(@Value("${feign.client.github.connect-timeout-ms:2000}") final int connectTimeoutInMillis,
+                                                @Value("${feign.client.github.read-timeout-ms:5000}") final int readTimeoutInMillis) {
+        return new Request.Options(connectTimeoutInMillis, readTimeoutInMillis);
+    }
+}
@@ -0,0 +1,69 @@
+package io.fundrequest.platform.github;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class GithubResponseCache {
+
+    private final Cache<String, Entry> entries;
+    private final AtomicLong conditionalRequests = new AtomicLong();
+    private final AtomicLong notModifiedResponses = new AtomicLong();
+
+    public GithubResponseCache(@Value("${io.fundrequest.github.response-cache.max-bytes:16777216}") final long maxBytes) {
+        this.entries = Caffeine.newBuilder()
+                               .maximumWeight(maxBytes)
+                               .weigher((String key, Entry entry) -> entry.getBody().length)
+                               .executor(Runnable::run)
+                               .build();
+    }
+
+    Entry get(final String key) {
+        return entries.getIfPresent(key);
+    }
+
+    void put(final String key, final Entry entry) {
+        entries.put(key, entry);
+    }
+
+    void recordConditionalRequest(final boolean notModified) {
+        conditionalRequests.incrementAndGet();
+        if (notModified) {
+            notModifiedResponses.incrementAndGet();
+        }
+    }
+
+    public long getSize() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    public long getConditionalRequests() {
+        return conditionalRequests.get();
+    }
+
+    public long getNotModifiedResponses() {
+        return notModifiedResponses.get();
+    }
+
+    public double getHitRate() {
+        final long requests = conditionalRequests.get();
+        return requests == 0 ? 0 : (double) notModifiedResponses.get() / requests;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Entry {
+        private final String etag;
+        private final Map<String, Collection<String>> headers;
+        private final byte[] body;
+    }
+}
@@ -0,0 +1,20 @@
+package io.fundrequest.platform.github.parser;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class GithubIssueSnapshot {
+    private final String owner;
+    private final String repo;
+    private final String number;
+    private final Long id;
+    private final String title;
+    private final String state;
+    private final String body;
+    private final String bodyHtml;
+    private final GithubUser author;
+    private final int commentCount;
+    private final String solver;
+}
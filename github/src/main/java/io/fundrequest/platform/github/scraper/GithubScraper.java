@@ -1,6 +1,7 @@
 package io.fundrequest.platform.github.scraper;
 
 import io.fundrequest.common.infrastructure.JsoupSpringWrapper;
+import io.fundrequest.platform.github.GithubIssueBatchFetcher;
 import io.fundrequest.platform.github.scraper.model.GithubId;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import org.jsoup.nodes.Document;
@@ -15,15 +16,25 @@ public class GithubScraper {
     private final JsoupSpringWrapper jsoup;
     private final GithubSolverResolver solverResolver;
     private final GithubStatusResolver statusResolver;
+    private final GithubIssueBatchFetcher batchFetcher;
 
-    public GithubScraper(final JsoupSpringWrapper jsoup, final GithubSolverResolver solverResolver, final GithubStatusResolver statusResolver) {
+    public GithubScraper(final JsoupSpringWrapper jsoup,
+                         final GithubSolverResolver solverResolver,
+                         final GithubStatusResolver statusResolver,
+                         final GithubIssueBatchFetcher batchFetcher) {
         this.jsoup = jsoup;
         this.solverResolver = solverResolver;
         this.statusResolver = statusResolver;
+        this.batchFetcher = batchFetcher;
     }
 
     @Cacheable("github_issues")
     public GithubIssue fetchGithubIssue(final String owner, final String repo, final String number) {
+        return batchFetcher.getRefreshedIssue(owner, repo, number)
+                           .orElseGet(() -> scrapeGithubIssue(owner, repo, number));
+    }
+
+    private GithubIssue scrapeGithubIssue(final String owner, final String repo, final String number) {
         Document document;
         try {
             document = jsoup.connect("https://github.com/" + owner + "/" + repo + "/issues/" + number).get();
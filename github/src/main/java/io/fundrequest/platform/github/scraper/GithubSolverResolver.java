@@ -33,7 +33,7 @@ public class GithubSolverResolver {
                        .filter(this::isMerged)
                        .map(this::resolvePullRequestGithubId)
                        .map(this::fetchPullrequest)
-                       .filter(pullRequest -> pullRequest != null && pullRequestFixesIssue(pullRequest, issueGithubId))
+                       .filter(pullRequest -> pullRequest != null && pullRequestFixesIssue(pullRequest.getBodyHtml(), issueGithubId))
                        .map(pullRequest -> pullRequest.getUser().getLogin())
                        .filter(StringUtils::isNotEmpty)
                        .findFirst();
@@ -61,8 +61,7 @@ public class GithubSolverResolver {
         return githubGateway.getPullrequest(pullRequestGithubId.getOwner(), pullRequestGithubId.getRepo(), pullRequestGithubId.getNumber());
     }
 
-    private boolean pullRequestFixesIssue(final GithubResult pullRequest, final GithubId issueGithubId) {
-        final String pullRequestBody = pullRequest.getBodyHtml();
+    public boolean pullRequestFixesIssue(final String pullRequestBody, final GithubId issueGithubId) {
         return pullRequestBody != null && CLOSING_KEYWORDS.stream()
                                                           .map(keyword -> String.format(CLOSING_KEYWORD_ISSUE_MATCHER_REGEX,
                                                                                         keyword.toLowerCase(),
@@ -0,0 +1,112 @@
+package io.fundrequest.platform.github;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConditionalRequestClientTest {
+
+    private static final String URL = "https://api.github.com/repos/FundRequest/area51/issues/1";
+
+    private Client delegate;
+    private GithubResponseCache cache;
+    private ConditionalRequestClient client;
+    private Request.Options options;
+
+    @Before
+    public void setUp() {
+        delegate = mock(Client.class);
+        cache = new GithubResponseCache(100);
+        client = new ConditionalRequestClient(delegate, cache);
+        options = new Request.Options();
+    }
+
+    @Test
+    public void execute_revalidatesWithEtag() throws Exception {
+        when(delegate.execute(any(Request.class), any(Request.Options.class))).thenReturn(response(200, "\"abc\"", "issue"))
+                                                                              .thenReturn(response(304, "\"abc\"", null));
+
+        client.execute(get(), options);
+        final Response result = client.execute(get(), options);
+
+        final ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        verify(delegate, times(2)).execute(captor.capture(), any(Request.Options.class));
+        assertThat(captor.getAllValues().get(0).headers()).doesNotContainKey("If-None-Match");
+        assertThat(captor.getAllValues().get(1).headers().get("If-None-Match")).containsExactly("\"abc\"");
+        assertThat(result.status()).isEqualTo(200);
+        assertThat(Util.toString(result.body().asReader())).isEqualTo("issue");
+        assertThat(cache.getConditionalRequests()).isEqualTo(1);
+        assertThat(cache.getNotModifiedResponses()).isEqualTo(1);
+    }
+
+    @Test
+    public void execute_modifiedResponseReplacesEntry() throws Exception {
+        when(delegate.execute(any(Request.class), any(Request.Options.class))).thenReturn(response(200, "\"abc\"", "issue"))
+                                                                              .thenReturn(response(200, "\"def\"", "updated issue"))
+                                                                              .thenReturn(response(304, "\"def\"", null));
+
+        client.execute(get(), options);
+        client.execute(get(), options);
+        final Response result = client.execute(get(), options);
+
+        assertThat(Util.toString(result.body().asReader())).isEqualTo("updated issue");
+        assertThat(cache.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void execute_nonGetIsNotCached() throws Exception {
+        final Request patch = Request.create("PATCH", URL, Collections.emptyMap(), "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        when(delegate.execute(patch, options)).thenReturn(response(200, "\"abc\"", "comment"));
+
+        client.execute(patch, options);
+
+        assertThat(cache.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void execute_responsesLargerThanTheCacheAreNotKept() throws Exception {
+        final ConditionalRequestClient smallClient = new ConditionalRequestClient(delegate, new GithubResponseCache(4));
+        when(delegate.execute(any(Request.class), any(Request.Options.class))).thenReturn(response(200, "\"abc\"", "large issue"))
+                                                                              .thenReturn(response(200, "\"abc\"", "large issue"));
+
+        smallClient.execute(get(), options);
+        final Response result = smallClient.execute(get(), options);
+
+        final ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        verify(delegate, times(2)).execute(captor.capture(), any(Request.Options.class));
+        assertThat(captor.getAllValues().get(1).headers()).doesNotContainKey("If-None-Match");
+        assertThat(Util.toString(result.body().asReader())).isEqualTo("large issue");
+    }
+
+    private Request get() {
+        return Request.create("GET", URL, Collections.singletonMap("Accept", Collections.singletonList("application/vnd.github.html+json")), null, null);
+    }
+
+    private Response response(final int status, final String etag, final String body) {
+        final Map<String, Collection<String>> headers = new HashMap<>();
+        headers.put("ETag", Collections.singletonList(etag));
+        return Response.builder()
+                       .status(status)
+                       .reason("")
+                       .headers(headers)
+                       .body(body == null ? null : body.getBytes(StandardCharsets.UTF_8))
+                       .build();
+    }
+}
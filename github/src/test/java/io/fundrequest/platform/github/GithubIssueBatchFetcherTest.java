@@ -0,0 +1,129 @@
+package io.fundrequest.platform.github;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fundrequest.platform.github.parser.GithubIssueSnapshot;
+import io.fundrequest.platform.github.parser.GithubResult;
+import io.fundrequest.platform.github.scraper.GithubSolverResolver;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GithubIssueBatchFetcherTest {
+
+    private static final GithubId ISSUE_1 = GithubId.builder().owner("FundRequest").repo("area51").number("1").build();
+    private static final GithubId ISSUE_2 = GithubId.builder().owner("FundRequest").repo("area51").number("2").build();
+    private static final GithubId ISSUE_3 = GithubId.builder().owner("FundRequest").repo("platform").number("3").build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GithubGraphQLClient githubGraphQLClient;
+    private CacheManager cacheManager;
+    private GithubIssueBatchFetcher fetcher;
+
+    @Before
+    public void setUp() {
+        githubGraphQLClient = mock(GithubGraphQLClient.class);
+        cacheManager = new ConcurrentMapCacheManager("github_issue", "github_issues_refreshed", "github_comments");
+        fetcher = new GithubIssueBatchFetcher(githubGraphQLClient, new GithubSolverResolver(mock(GithubGateway.class)), cacheManager, 2);
+    }
+
+    @Test
+    public void fetchIssues_batchesIds() throws Exception {
+        when(githubGraphQLClient.query(any(GithubGraphQLQuery.class))).thenReturn(objectMapper.readTree("{\"data\": {\"i0\": {\"issue\": " + closedIssue() + "}, \"i1\": null}}"))
+                                                                      .thenReturn(objectMapper.readTree("{\"data\": {\"i0\": {\"issue\": " + openIssue() + "}}}"));
+
+        final Map<GithubId, GithubIssueSnapshot> result = fetcher.fetchIssues(Arrays.asList(ISSUE_1, ISSUE_2, ISSUE_3));
+
+        final ArgumentCaptor<GithubGraphQLQuery> captor = ArgumentCaptor.forClass(GithubGraphQLQuery.class);
+        verify(githubGraphQLClient, times(2)).query(captor.capture());
+        assertThat(captor.getAllValues().get(0).getVariables()).containsEntry("o1", "FundRequest")
+                                                               .containsEntry("r1", "area51")
+                                                               .containsEntry("n1", 2)
+                                                               .hasSize(6);
+        assertThat(captor.getAllValues().get(1).getVariables()).containsEntry("n0", 3)
+                                                               .hasSize(3);
+        assertThat(result).containsOnlyKeys(ISSUE_1, ISSUE_3);
+        assertThat(result.get(ISSUE_1).getState()).isEqualTo("closed");
+        assertThat(result.get(ISSUE_1).getSolver()).isEqualTo("davyvanroy");
+        assertThat(result.get(ISSUE_1).getCommentCount()).isEqualTo(2);
+        assertThat(result.get(ISSUE_3).getSolver()).isNull();
+    }
+
+    @Test
+    public void refreshIssues_updatesCaches() throws Exception {
+        final SimpleKey key = new SimpleKey("FundRequest", "area51", "1");
+        cacheManager.getCache("github_comments").put(key, Collections.singletonList("comment"));
+        when(githubGraphQLClient.query(any(GithubGraphQLQuery.class))).thenReturn(objectMapper.readTree("{\"data\": {\"i0\": {\"issue\": " + closedIssue() + "}}}"));
+
+        fetcher.refreshIssues(Collections.singletonList(ISSUE_1));
+
+        final GithubResult githubResult = cacheManager.getCache("github_issue").get(key, GithubResult.class);
+        assertThat(githubResult.getTitle()).isEqualTo("Fix the thing");
+        assertThat(githubResult.getBodyHtml()).isEqualTo("<p>body</p>");
+        assertThat(githubResult.getUser().getLogin()).isEqualTo("reporter");
+        final GithubIssue githubIssue = fetcher.getRefreshedIssue("FundRequest", "area51", "1").orElseThrow(IllegalStateException::new);
+        assertThat(githubIssue.getStatus()).isEqualTo("Closed");
+        assertThat(githubIssue.getSolver()).isEqualTo("davyvanroy");
+        assertThat(cacheManager.getCache("github_comments").get(key)).isNull();
+    }
+
+    @Test
+    public void fetchIssues_solverRequiresClosingKeyword() throws Exception {
+        final String issue = "{\"databaseId\": 11, \"state\": \"CLOSED\", \"timelineItems\": {\"nodes\": ["
+                             + mergedPullRequest("someone", "<p>Related to <a class=\\\"issue-link js-issue-link\\\" href=\\\"#\\\">#1</a></p>") + ", "
+                             + "{\"source\": {\"merged\": false, \"bodyHTML\": \"" + closingBody() + "\", \"author\": {\"login\": \"unmerged\"}}}, "
+                             + mergedPullRequest("davyvanroy", closingBody()) + "]}}";
+        when(githubGraphQLClient.query(any(GithubGraphQLQuery.class))).thenReturn(objectMapper.readTree("{\"data\": {\"i0\": {\"issue\": " + issue + "}}}"));
+
+        final Map<GithubId, GithubIssueSnapshot> result = fetcher.fetchIssues(Collections.singletonList(ISSUE_1));
+
+        assertThat(result.get(ISSUE_1).getSolver()).isEqualTo("davyvanroy");
+    }
+
+    @Test
+    public void refreshIssues_skipsFailedBatchAndInvalidNumbers() throws Exception {
+        final GithubId invalid = GithubId.builder().owner("FundRequest").repo("area51").number("abc").build();
+        when(githubGraphQLClient.query(any(GithubGraphQLQuery.class))).thenThrow(new RuntimeException("github-graphql-client timed-out"))
+                                                                      .thenReturn(objectMapper.readTree("{\"data\": {\"i0\": {\"issue\": " + openIssue() + "}}}"));
+
+        final Map<GithubId, GithubIssueSnapshot> result = fetcher.refreshIssues(Arrays.asList(ISSUE_1, invalid, ISSUE_2, ISSUE_3));
+
+        verify(githubGraphQLClient, times(2)).query(any(GithubGraphQLQuery.class));
+        assertThat(result).containsOnlyKeys(ISSUE_3);
+        assertThat(fetcher.getRefreshedIssue("FundRequest", "platform", "3")).isPresent();
+        assertThat(fetcher.getRefreshedIssue("FundRequest", "area51", "1")).isEmpty();
+    }
+
+    private String closedIssue() {
+        return "{\"databaseId\": 11, \"number\": 1, \"title\": \"Fix the thing\", \"state\": \"CLOSED\", \"body\": \"body\", \"bodyHTML\": \"<p>body</p>\","
+               + " \"author\": {\"login\": \"reporter\"}, \"comments\": {\"totalCount\": 2},"
+               + " \"timelineItems\": {\"nodes\": [" + mergedPullRequest("davyvanroy", closingBody()) + "]}}";
+    }
+
+    private String mergedPullRequest(final String author, final String bodyHtml) {
+        return "{\"source\": {\"merged\": true, \"bodyHTML\": \"" + bodyHtml + "\", \"author\": {\"login\": \"" + author + "\"}}}";
+    }
+
+    private String closingBody() {
+        return "<p>Fixes <a class=\\\"issue-link js-issue-link\\\" href=\\\"#\\\">#1</a></p>";
+    }
+
+    private String openIssue() {
+        return "{\"databaseId\": 33, \"number\": 3, \"title\": \"Open thing\", \"state\": \"OPEN\", \"comments\": {\"totalCount\": 0}, \"timelineItems\": {\"nodes\": []}}";
+    }
+}
@@ -23,7 +23,7 @@ public class GithubRateHealthCheckTest {
     @Before
     public void setUp() throws Exception {
         githubGateway = mock(GithubGateway.class);
-        githubRateHealthCheck = new GithubRateHealthCheck(githubGateway, 20);
+        githubRateHealthCheck = new GithubRateHealthCheck(githubGateway, new GithubResponseCache(100), 20);
     }
 
     @Test
@@ -2,6 +2,7 @@ package io.fundrequest.platform.github.scraper;
 
 
 import io.fundrequest.common.infrastructure.JsoupSpringWrapper;
+import io.fundrequest.platform.github.GithubIssueBatchFetcher;
 import io.fundrequest.platform.github.scraper.model.GithubId;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import org.jsoup.nodes.Document;
@@ -14,6 +15,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class GithubScraperTest {
@@ -22,13 +24,15 @@ public class GithubScraperTest {
     private JsoupSpringWrapper jsoup;
     private GithubSolverResolver solverParser;
     private GithubStatusResolver statusParser;
+    private GithubIssueBatchFetcher batchFetcher;
 
     @Before
     public void setUp() {
         jsoup = mock(JsoupSpringWrapper.class, RETURNS_DEEP_STUBS);
         solverParser = mock(GithubSolverResolver.class);
         statusParser = mock(GithubStatusResolver.class);
-        scraper = new GithubScraper(jsoup, solverParser, statusParser);
+        batchFetcher = mock(GithubIssueBatchFetcher.class);
+        scraper = new GithubScraper(jsoup, solverParser, statusParser, batchFetcher);
     }
 
     @Test
@@ -40,6 +44,7 @@ public class GithubScraperTest {
         final String expectedStatus = "Open";
         final Document document = mock(Document.class);
 
+        when(batchFetcher.getRefreshedIssue(owner, repo, number)).thenReturn(Optional.empty());
         when(jsoup.connect("https://github.com/" + owner + "/" + repo + "/issues/" + number).get()).thenReturn(document);
         when(solverParser.resolve(document, GithubId.builder().owner(owner).repo(repo).number(number).build())).thenReturn(Optional.of(expectedSolver));
         when(statusParser.resolve(document)).thenReturn(expectedStatus);
@@ -52,4 +57,16 @@ public class GithubScraperTest {
         assertThat(returnedIssue.getSolver()).isEqualTo(expectedSolver);
         assertThat(returnedIssue.getStatus()).isEqualTo(expectedStatus);
     }
+
+    @Test
+    public void fetchGithubIssue_usesRefreshedIssue() {
+        final GithubIssue refreshed = GithubIssue.builder().owner("fdv").repo("sdfgdh").number("46576").solver("gfhcgj").status("Closed").build();
+
+        when(batchFetcher.getRefreshedIssue("fdv", "sdfgdh", "46576")).thenReturn(Optional.of(refreshed));
+
+        final GithubIssue returnedIssue = scraper.fetchGithubIssue("fdv", "sdfgdh", "46576");
+
+        assertThat(returnedIssue).isSameAs(refreshed);
+        verifyZeroInteractions(jsoup, solverParser, statusParser);
+    }
 }
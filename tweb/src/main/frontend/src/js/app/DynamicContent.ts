@@ -5,16 +5,14 @@ import Utils from '../classes/Utils';
 declare let vue: any;
 
 export class DynamicContent {
-    private _document: HTMLDocument = document;
-
-    constructor() {
-        let $elements = Array.from(this._document.querySelectorAll('[data-dynamic-content]'));
+    constructor(root: Element | Document = document) {
+        let $elements = Array.from(root.querySelectorAll('[data-dynamic-content]'));
         $elements.forEach((element: HTMLElement) => {
             let path = element.dataset.dynamicContent;
             if (path.length > 0) {
+                element.removeAttribute('data-dynamic-content');
                 Utils.getHTML(path).then((html) => {
                     element.innerHTML = html;
-                    element.removeAttribute('data-dynamic-content');
                     this._reinitialize(element);
                 });
 
@@ -0,0 +1,6 @@
+import RequestDto from './RequestDto';
+
+export default class RequestPageDto {
+    requests: RequestDto[];
+    nextCursor: string;
+}
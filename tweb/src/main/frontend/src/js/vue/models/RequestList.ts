@@ -13,6 +13,10 @@ export default class RequestsList {
         return this._sortBy(requests, sortBy);
     }
 
+    public addRequests(requests: RequestDto[]) {
+        this.requests = this.requests.concat(requests);
+    }
+
 	public updateWithRequest(request: RequestDto) {
 		let i = this.requests.findIndex(r => r.id == request.id);
 		this.requests.splice(i, 1, request);
@@ -0,0 +1,36 @@
+package io.fundrequest.platform.tweb.actuator;
+
+import com.netflix.hystrix.HystrixCircuitBreaker;
+import com.netflix.hystrix.HystrixCommandMetrics;
+import com.netflix.hystrix.HystrixThreadPoolMetrics;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+public class HystrixPublicMetrics implements PublicMetrics {
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        final List<Metric<?>> metrics = new ArrayList<>();
+        for (final HystrixThreadPoolMetrics pool : HystrixThreadPoolMetrics.getInstances()) {
+            final String prefix = "hystrix.threadpool." + pool.getThreadPoolKey().name();
+            metrics.add(new Metric<>(prefix + ".active", pool.getCurrentActiveCount()));
+            metrics.add(new Metric<>(prefix + ".pool-size", pool.getCurrentPoolSize()));
+            metrics.add(new Metric<>(prefix + ".queue-size", pool.getCurrentQueueSize()));
+            metrics.add(new Metric<>(prefix + ".rejected", pool.getRollingCountThreadsRejected()));
+        }
+        for (final HystrixCommandMetrics command : HystrixCommandMetrics.getInstances()) {
+            final String prefix = "hystrix.command." + command.getCommandKey().name();
+            final HystrixCircuitBreaker circuitBreaker = HystrixCircuitBreaker.Factory.getInstance(command.getCommandKey());
+            metrics.add(new Metric<>(prefix + ".circuit-open", circuitBreaker != null && circuitBreaker.isOpen() ? 1 : 0));
+            metrics.add(new Metric<>(prefix + ".error-percentage", command.getHealthCounts().getErrorPercentage()));
+            metrics.add(new Metric<>(prefix + ".latency-p99", command.getExecutionTimePercentile(99)));
+        }
+        return metrics;
+    }
+}
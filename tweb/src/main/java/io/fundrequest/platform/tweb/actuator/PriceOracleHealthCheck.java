@@ -0,0 +1,35 @@
+package io.fundrequest.platform.tweb.actuator;
+
+import io.fundrequest.core.request.fiat.PriceOracle;
+import io.fundrequest.core.request.fiat.TokenPrice;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Component
+public class PriceOracleHealthCheck implements HealthIndicator {
+
+    private final PriceOracle priceOracle;
+    private final Duration threshold;
+
+    public PriceOracleHealthCheck(final PriceOracle priceOracle,
+                                  @Value("${io.fundrequest.health.price-oracle.stale-threshold-ms:900000}") final long thresholdInMillis) {
+        this.priceOracle = priceOracle;
+        this.threshold = Duration.ofMillis(thresholdInMillis);
+    }
+
+    @Override
+    public Health health() {
+        final Map<String, TokenPrice> prices = priceOracle.getPrices();
+        final Duration oldest = prices.values().stream().map(TokenPrice::getAge).max(Duration::compareTo).orElse(Duration.ZERO);
+        final Health.Builder healthBuilder = oldest.compareTo(threshold) > 0 ? Health.status(new Status("STALE")) : Health.up();
+        prices.forEach((symbol, price) -> healthBuilder.withDetail(symbol + ".age-ms", price.getAge().toMillis()));
+        return healthBuilder.withDetail("oldest-age-ms", oldest.toMillis())
+                            .build();
+    }
+}
@@ -26,14 +26,11 @@ public class CachingConfig {
     @Bean
     public CacheManager cacheManager() {
         SimpleCacheManager manager = new SimpleCacheManager();
-        manager.setCaches(Arrays.asList(buildCache("possible_tokens", 1, HOURS),
-                                        buildCache("erc20.tokens.decimals", 30, DAYS),
+        manager.setCaches(Arrays.asList(buildCache("erc20.tokens.decimals", 30, DAYS),
                                         buildCache("erc20.tokens.name", 30, DAYS),
                                         buildCache("erc20.tokens.symbol", 30, DAYS),
-                                        buildCache("token_price", 15, MINUTES),
-                                        buildCache("cmc_token_price", 15, MINUTES),
                                         buildCache("cmc_listings", 1, DAYS),
-                                        buildCache("funds", 7, DAYS),
+                                        buildCache("funds", 1, MINUTES),
                                         buildCache("github_issue", 1, DAYS),
                                         buildCache("github_comments", 1, DAYS),
                                         buildCache("loginUserData", 1, DAYS),
@@ -42,9 +39,11 @@ public class CachingConfig {
                                         buildCache("github_repo_languages", 1, DAYS),
                                         buildCache("projects", 7, DAYS),
                                         buildCache("technologies", 7, DAYS),
-                                        buildCache("statistics", 7, DAYS),
                                         new CaffeineCache("faqs", Caffeine.newBuilder().build()),
-                                        buildCache("github_issues", 7, SECONDS)));
+                                        buildCache("github_issues", 7, SECONDS),
+                                        buildCache("github_issues_refreshed", 12, MINUTES),
+                                        buildCache("eth_call", 1, MINUTES),
+                                        buildCache("request_badges", 1, HOURS)));
         return manager;
     }
 
@@ -8,7 +8,7 @@ import io.fundrequest.core.token.dto.TokenValueDto;
 import io.fundrequest.platform.profile.profile.dto.UserProfile;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.APPROVED;
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.PENDING;
@@ -44,15 +44,17 @@ public class RefundValidator {
     }
 
     private boolean hasPositiveBalance(long requestId, final UserFundsDto fund) {
-        return hasPositiveBalance(requestId, fund, fund.getFndFunds()) || hasPositiveBalance(requestId, fund, fund.getOtherFunds());
+        final CompletableFuture<Boolean> hasPositiveFndBalance = hasPositiveBalance(requestId, fund, fund.getFndFunds());
+        final CompletableFuture<Boolean> hasPositiveOtherBalance = hasPositiveBalance(requestId, fund, fund.getOtherFunds());
+        return hasPositiveFndBalance.join() || hasPositiveOtherBalance.join();
     }
 
-    private boolean hasPositiveBalance(final long requestId, final UserFundsDto fund, final TokenValueDto tokenValue) {
+    private CompletableFuture<Boolean> hasPositiveBalance(final long requestId, final UserFundsDto fund, final TokenValueDto tokenValue) {
         if (tokenValue == null) {
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
-        final Optional<TokenValueDto> fundsInContract = fundService.getFundsFor(requestId, fund.getFunderAddress(), tokenValue.getTokenAddress());
-        return fundsInContract.map(tokenValue1 -> tokenValue1.getTotalAmount().compareTo(ZERO) > 0)
-                              .orElse(false);
+        return fundService.getFundsForAsync(requestId, fund.getFunderAddress(), tokenValue.getTokenAddress())
+                          .thenApply(fundsInContract -> fundsInContract.map(tokenValue1 -> tokenValue1.getTotalAmount().compareTo(ZERO) > 0)
+                                                                       .orElse(false));
     }
 }
@@ -0,0 +1,36 @@
+package io.fundrequest.platform.tweb.request;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+final class ConditionalRequests {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalRequests() {
+    }
+
+    static boolean checkNotModified(final ServletWebRequest webRequest, final LocalDateTime lastModifiedDate) {
+        if (lastModifiedDate == null) {
+            return false;
+        }
+        final long lastModified = lastModifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        return webRequest.checkNotModified(etag(webRequest.getRequest(), lastModified), lastModified);
+    }
+
+    private static String etag(final HttpServletRequest request, final long lastModified) {
+        final Principal principal = request.getUserPrincipal();
+        final String validator = request.getRequestURI() + "?" + StringUtils.defaultString(request.getQueryString()) + "|" + (principal == null ? "" : principal.getName()) + "|" + lastModified;
+        return "W/\"" + DigestUtils.md5DigestAsHex(validator.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
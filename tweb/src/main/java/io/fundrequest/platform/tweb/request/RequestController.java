@@ -10,25 +10,36 @@ import io.fundrequest.core.platform.PlatformIssueService;
 import io.fundrequest.core.request.RequestService;
 import io.fundrequest.core.request.claim.ClaimService;
 import io.fundrequest.core.request.claim.UserClaimRequest;
-import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.claim.dto.ClaimsByTransactionAggregate;
+import io.fundrequest.core.request.domain.RequestPhase;
 import io.fundrequest.core.request.fund.FundService;
 import io.fundrequest.core.request.fund.PendingFundService;
 import io.fundrequest.core.request.fund.RefundService;
 import io.fundrequest.core.request.fund.domain.CreateERC67FundRequest;
+import io.fundrequest.core.request.fund.dto.CommentDto;
+import io.fundrequest.core.request.fund.dto.FundsForRequestDto;
 import io.fundrequest.core.request.fund.dto.PendingFundDto;
 import io.fundrequest.core.request.statistics.StatisticsService;
 import io.fundrequest.core.request.view.IssueInformationDto;
 import io.fundrequest.core.request.view.RequestDto;
-import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.request.view.RequestFilterDto;
+import io.fundrequest.core.request.view.RequestPageDto;
+import io.fundrequest.core.request.view.RequestVersionDto;
+import io.fundrequest.platform.github.GithubGateway;
 import io.fundrequest.platform.profile.profile.ProfileService;
+import io.fundrequest.platform.tweb.request.badge.RequestBadge;
+import io.fundrequest.platform.tweb.request.badge.RequestBadgeService;
 import io.fundrequest.platform.tweb.request.dto.ERC67FundDto;
 import io.fundrequest.platform.tweb.request.dto.RequestDetailsView;
+import io.fundrequest.platform.tweb.request.dto.RequestPageView;
 import io.fundrequest.platform.tweb.request.dto.RequestView;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.CacheControl;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -38,26 +49,39 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static io.fundrequest.core.request.domain.Platform.GITHUB;
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.APPROVED;
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.PENDING;
-import static java.math.BigDecimal.ZERO;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.stream.Collectors.toList;
 
 @Controller
 @Slf4j
 public class RequestController extends AbstractController {
 
+    private static final MediaType SVG_MEDIA_TYPE = MediaType.valueOf("image/svg+xml");
+
 	private final SecurityContextService securityContextService;
     private final RequestService requestService;
     private final PendingFundService pendingFundService;
@@ -66,10 +90,15 @@ public class RequestController extends AbstractController {
     private final FundService fundService;
     private final RefundService refundService;
     private final ClaimService claimService;
-    private final FiatService fiatService;
     private final PlatformIssueService platformIssueService;
+    private final RequestBadgeService requestBadgeService;
+    private final GithubGateway githubGateway;
     private final ObjectMapper objectMapper;
     private final Mappers mappers;
+    private final Executor requestDetailExecutor;
+    private final Duration requestDetailTimeout;
+    private final long githubRefreshInMillis;
+    private final long badgeMaxAgeInSeconds;
 
     public RequestController(final SecurityContextService securityContextService,
                              final RequestService requestService,
@@ -78,10 +107,15 @@ public class RequestController extends AbstractController {
                              final ProfileService profileService, FundService fundService,
                              final RefundService refundService,
                              final ClaimService claimService,
-                             final FiatService fiatService,
                              final PlatformIssueService platformIssueService,
+                             final RequestBadgeService requestBadgeService,
+                             final GithubGateway githubGateway,
                              final ObjectMapper objectMapper,
-                             final Mappers mappers) {
+                             final Mappers mappers,
+                             @Qualifier("requestDetailExecutor") final Executor requestDetailExecutor,
+                             @Value("${io.fundrequest.request-detail.timeout-ms:2000}") final long requestDetailTimeoutInMillis,
+                             @Value("${io.fundrequest.request-detail.github-refresh-ms:3600000}") final long githubRefreshInMillis,
+                             @Value("${io.fundrequest.badge.max-age-seconds:300}") final long badgeMaxAgeInSeconds) {
 		this.securityContextService = securityContextService;
         this.requestService = requestService;
         this.pendingFundService = pendingFundService;
@@ -90,31 +124,45 @@ public class RequestController extends AbstractController {
         this.fundService = fundService;
         this.refundService = refundService;
         this.claimService = claimService;
-        this.fiatService = fiatService;
         this.platformIssueService = platformIssueService;
+        this.requestBadgeService = requestBadgeService;
+        this.githubGateway = githubGateway;
         this.objectMapper = objectMapper;
         this.mappers = mappers;
+        this.requestDetailExecutor = requestDetailExecutor;
+        this.requestDetailTimeout = Duration.ofMillis(requestDetailTimeoutInMillis);
+        this.githubRefreshInMillis = githubRefreshInMillis;
+        this.badgeMaxAgeInSeconds = badgeMaxAgeInSeconds;
     }
 
     @GetMapping("/requests")
-    public ModelAndView requests() {
-        final List<RequestView> requests = mappers.mapList(RequestDto.class, RequestView.class, requestService.findAll())
-                                                  .stream()
-                                                  .filter(request -> hasFunds(request.getFunds().getFndFunds()) || hasFunds(request.getFunds().getOtherFunds()))
-                                                  .collect(toList());
-        final Map<String, Long> requestsPerPhaseCount = requests.stream().collect(Collectors.groupingBy(RequestView::getPhase, Collectors.counting()));
+    public ModelAndView requests(@RequestParam(value = "phase", required = false) final String phase,
+                                 @RequestParam(value = "project", required = false) final String project) {
+        final Set<String> projects = requestService.findAllProjects();
+        final RequestFilterDto filter = RequestFilterDto.builder()
+                                                        .phase(toPhase(phase))
+                                                        .project(projects.stream().filter(p -> p.equalsIgnoreCase(project)).findFirst().orElse(null))
+                                                        .build();
+        final RequestPageView firstPage = mappers.map(RequestPageDto.class, RequestPageView.class, requestService.findFunded(filter, null, RequestRestController.PAGE_SIZE));
+        final Map<RequestPhase, Long> fundedPerPhase = requestService.countFundedPerPhase();
+        final Map<String, Long> requestsPerPhaseCount = Arrays.stream(RequestPhase.values())
+                                                              .collect(Collectors.toMap(Enum::name, requestPhase -> fundedPerPhase.getOrDefault(requestPhase, 0L)));
         return modelAndView().withObject("requestsPerPhaseCount", requestsPerPhaseCount)
-                             .withObject("requests", getAsJson(requests))
+                             .withObject("requests", getAsJson(firstPage.getRequests()))
+                             .withObject("nextCursor", getAsJson(firstPage.getNextCursor()))
                              .withObject("statistics", statisticsService.getStatistics())
-                             .withObject("projects", getAsJson(requestService.findAllProjects()))
+                             .withObject("projects", getAsJson(projects))
                              .withObject("technologies", getAsJson(requestService.findAllTechnologies()))
                              .withObject("isAuthenticated", getAsJson(securityContextService.isUserFullyAuthenticated()))
                              .withView("pages/requests/index")
                              .build();
     }
 
-    private boolean hasFunds(final TokenValueDto funds) {
-        return funds != null && funds.getTotalAmount().compareTo(ZERO) > 0;
+    private RequestPhase toPhase(final String phase) {
+        return Arrays.stream(RequestPhase.values())
+                     .filter(requestPhase -> requestPhase.name().equalsIgnoreCase(phase))
+                     .findFirst()
+                     .orElse(RequestPhase.OPEN);
     }
 
     @RequestMapping("/requests/{type}")
@@ -126,46 +174,116 @@ public class RequestController extends AbstractController {
     }
 
     @GetMapping("/requests/{id}")
-    public ModelAndView details(@PathVariable Long id, Model model) {
-        final RequestDetailsView request = mappers.map(RequestDto.class, RequestDetailsView.class, requestService.findRequest(id));
-        return getDetailsModelAndView(id, model, request);
+    public ModelAndView details(@PathVariable Long id, Model model, ServletWebRequest webRequest) {
+        if (ConditionalRequests.checkNotModified(webRequest, getDetailsLastModifiedDate(requestService.findVersion(id)))) {
+            return null;
+        }
+        return getDetailsModelAndView(requestService.findRequest(id), model);
     }
 
     @GetMapping("/requests/github/{owner}/{repo}/{number}")
-    public ModelAndView details(@PathVariable String owner, @PathVariable String repo, @PathVariable String number, Model model) {
+    public ModelAndView details(@PathVariable String owner, @PathVariable String repo, @PathVariable String number, Model model, ServletWebRequest webRequest) {
         final String platformId = owner + "|FR|" + repo + "|FR|" + number;
-        final RequestDetailsView request = mappers.map(RequestDto.class, RequestDetailsView.class, requestService.findRequest(GITHUB, platformId));
-        return getDetailsModelAndView(request.getId(), model, request);
+        if (ConditionalRequests.checkNotModified(webRequest, getDetailsLastModifiedDate(requestService.findVersion(GITHUB, platformId)))) {
+            return null;
+        }
+        return getDetailsModelAndView(requestService.findRequest(GITHUB, platformId), model);
     }
 
-    private ModelAndView getDetailsModelAndView(final Long id, final Model model, final RequestDetailsView request) {
+    private LocalDateTime getDetailsLastModifiedDate(final RequestVersionDto version) {
+        final long now = System.currentTimeMillis();
+        final LocalDateTime githubRefreshDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(now - now % githubRefreshInMillis), ZoneId.systemDefault());
+        final LocalDateTime lastModifiedDate = version.getLastModifiedDate();
+        return lastModifiedDate == null || githubRefreshDate.isAfter(lastModifiedDate) ? githubRefreshDate : lastModifiedDate;
+    }
+
+    private ModelAndView getDetailsModelAndView(final RequestDto requestDto, final Model model) {
+        final long deadline = System.nanoTime() + requestDetailTimeout.toNanos();
+        final Long id = requestDto.getId();
+        final CompletableFuture<String> description = supplyAsync(() -> getDescription(requestDto), requestDetailExecutor);
+        final CompletableFuture<FundsForRequestDto> funds = supplyAsync(() -> fundService.getFundsForRequestGroupedByFunder(id), requestDetailExecutor);
+        final CompletableFuture<ClaimsByTransactionAggregate> claims = supplyAsync(() -> claimService.getAggregatedClaimsForRequest(id), requestDetailExecutor);
+        final CompletableFuture<List<String>> pendingRefundAddresses = supplyAsync(() -> getPendingRefundAddresses(id), requestDetailExecutor);
+        final CompletableFuture<List<CommentDto>> githubComments = supplyAsync(() -> requestService.getComments(id), requestDetailExecutor);
+        final RequestDetailsView requestDetailsView = mappers.map(RequestDto.class, RequestDetailsView.class, requestDto);
+        final FundsForRequestDto fundsForRequest = awaitUntil(funds, deadline, id);
+        final List<String> refundAddresses = awaitUntil(pendingRefundAddresses, deadline, id);
+        final boolean fundsLoaded = fundsForRequest != null && refundAddresses != null;
         return modelAndView(model)
-                .withObject("request", request)
-                .withObject("requestJson", getAsJson(request))
-                .withObject("funds", fundService.getFundsForRequestGroupedByFunder(id))
-                .withObject("claims", claimService.getAggregatedClaimsForRequest(id))
-                .withObject("pendingRefundAddresses", refundService.findAllRefundRequestsFor(id, PENDING, APPROVED)
-                                                                   .stream()
-                                                                   .map(refundRequest -> refundRequest.getFunderAddress().toLowerCase())
-                                                                   .collect(toList()))
-                .withObject("githubComments", requestService.getComments(id))
+                .withObject("request", requestDetailsView)
+                .withObject("requestJson", getAsJson(requestDetailsView))
+                .withObject("description", awaitUntil(description, deadline, id))
+                .withObject("funds", fundsLoaded ? fundsForRequest : null)
+                .withObject("claims", awaitUntil(claims, deadline, id))
+                .withObject("pendingRefundAddresses", fundsLoaded ? refundAddresses : null)
+                .withObject("githubComments", awaitUntil(githubComments, deadline, id))
                 .withView("pages/requests/detail")
                 .build();
     }
 
-    @GetMapping(value = "/requests/{id}/badge", produces = "image/svg+xml")
-    public ModelAndView detailsBadge(@PathVariable final Long id, final Model model, final HttpServletResponse response) {
-        final RequestDto request = requestService.findRequest(id);
-        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+    private String getDescription(final RequestDto requestDto) {
+        final IssueInformationDto issueInformation = requestDto.getIssueInformation();
+        return githubGateway.getIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber()).getBodyHtml();
+    }
 
-        final double fndUsdPrice = fiatService.getUsdPrice(request.getFunds().getFndFunds());
-        final double otherFundsUsdPrice = fiatService.getUsdPrice(request.getFunds().getOtherFunds());
+    private List<String> getPendingRefundAddresses(final Long requestId) {
+        return refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)
+                            .stream()
+                            .map(refundRequest -> refundRequest.getFunderAddress().toLowerCase())
+                            .collect(toList());
+    }
 
-        return modelAndView(model)
-                .withObject("requestPhase", request.getStatus().getPhase())
-                .withObject("highestFunds", fndUsdPrice >= otherFundsUsdPrice ? request.getFunds().getFndFunds() : request.getFunds().getOtherFunds())
-                .withView("requests/badge.svg")
-                .build();
+    private <T> T awaitUntil(final CompletableFuture<T> future, final long deadline, final Long requestId) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            log.debug("Section of request {} missed the detail page deadline, deferring it", requestId);
+        } catch (final ExecutionException e) {
+            log.warn("Unable to load section of request {}: {}", requestId, e.getCause().getMessage());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    @GetMapping("/requests/{id}/comments")
+    public ModelAndView detailComments(@PathVariable final Long id) {
+        return modelAndView().withObject("githubComments", requestService.getComments(id))
+                             .withView("pages/requests/detail-comments :: comments")
+                             .build();
+    }
+
+    @GetMapping("/requests/{id}/description")
+    public ModelAndView detailDescription(@PathVariable final Long id) {
+        return modelAndView().withObject("description", getDescription(requestService.findRequest(id)))
+                             .withView("pages/requests/detail-description :: description")
+                             .build();
+    }
+
+    @GetMapping("/requests/{id}/funds")
+    public ModelAndView detailFunds(@PathVariable final Long id) {
+        return modelAndView().withObject("request", mappers.map(RequestDto.class, RequestDetailsView.class, requestService.findRequest(id)))
+                             .withObject("funds", fundService.getFundsForRequestGroupedByFunder(id))
+                             .withObject("pendingRefundAddresses", getPendingRefundAddresses(id))
+                             .withView("pages/requests/detail-funds :: funds")
+                             .build();
+    }
+
+    @GetMapping("/requests/{id}/claims")
+    public ModelAndView detailClaims(@PathVariable final Long id) {
+        return modelAndView().withObject("claims", claimService.getAggregatedClaimsForRequest(id))
+                             .withView("pages/requests/detail-claims :: claims")
+                             .build();
+    }
+
+    @GetMapping(value = "/requests/{id}/badge", produces = "image/svg+xml")
+    public ResponseEntity<byte[]> detailsBadge(@PathVariable final Long id) {
+        final RequestBadge badge = requestBadgeService.getBadge(requestService.findVersion(id));
+        return ResponseEntity.ok()
+                             .cacheControl(CacheControl.maxAge(badgeMaxAgeInSeconds, TimeUnit.SECONDS).cachePublic())
+                             .eTag(badge.getEtag())
+                             .contentType(SVG_MEDIA_TYPE)
+                             .body(badge.getSvg());
     }
 
     @PostMapping("/requests/{id}/claim")
@@ -4,18 +4,32 @@ import io.fundrequest.common.infrastructure.mapping.Mappers;
 import io.fundrequest.core.request.RequestService;
 import io.fundrequest.core.request.claim.dto.ClaimableResultDto;
 import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.domain.RequestStatus;
 import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.request.view.RequestFilterDto;
+import io.fundrequest.core.request.view.RequestPageDto;
+import io.fundrequest.core.request.view.RequestSort;
 import io.fundrequest.platform.tweb.request.dto.ClaimView;
+import io.fundrequest.platform.tweb.request.dto.RequestPageView;
 import io.fundrequest.platform.tweb.request.dto.RequestView;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.HashSet;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/rest/requests")
 public class RequestRestController {
 
+    static final int PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final RequestService requestService;
     private final Mappers mappers;
 
@@ -24,6 +38,31 @@ public class RequestRestController {
         this.mappers = mappers;
     }
 
+    @GetMapping
+    public RequestPageView requests(@RequestParam(value = "phase", required = false) final RequestPhase phase,
+                                    @RequestParam(value = "status", required = false) final RequestStatus status,
+                                    @RequestParam(value = "project", required = false) final String project,
+                                    @RequestParam(value = "technology", required = false) final Set<String> technologies,
+                                    @RequestParam(value = "search", required = false) final String search,
+                                    @RequestParam(value = "sort", defaultValue = "LAST_MODIFIED") final RequestSort sort,
+                                    @RequestParam(value = "cursor", required = false) final String cursor,
+                                    @RequestParam(value = "size", defaultValue = "" + PAGE_SIZE) final int size,
+                                    final ServletWebRequest webRequest) {
+        if (ConditionalRequests.checkNotModified(webRequest, requestService.findLastModifiedDate())) {
+            return null;
+        }
+        final RequestFilterDto filter = RequestFilterDto.builder()
+                                                        .phase(phase)
+                                                        .status(status)
+                                                        .project(project)
+                                                        .technologies(technologies == null ? new HashSet<>() : technologies)
+                                                        .search(search)
+                                                        .sort(sort)
+                                                        .build();
+        final RequestPageDto page = requestService.findFunded(filter, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        return mappers.map(RequestPageDto.class, RequestPageView.class, page);
+    }
+
     @GetMapping(value = "/github/{owner}/{repo}/{number}/claimable")
     public ClaimView claimDetails(@PathVariable("owner") final String repoOwner, @PathVariable("repo") final String repo, @PathVariable("number") final String issueNumber) {
         final RequestDto request = requestService.findRequest(Platform.GITHUB, String.format("%s|FR|%s|FR|%s", repoOwner, repo, issueNumber));
@@ -32,8 +71,15 @@ public class RequestRestController {
     }
 
     @GetMapping(value = "/github/{owner}/{repo}/{number}")
-    public RequestView requestDetails(@PathVariable("owner") final String repoOwner, @PathVariable("repo") final String repo, @PathVariable("number") final String issueNumber) {
-        final RequestDto request = requestService.findRequest(Platform.GITHUB, String.format("%s|FR|%s|FR|%s", repoOwner, repo, issueNumber));
+    public RequestView requestDetails(@PathVariable("owner") final String repoOwner,
+                                      @PathVariable("repo") final String repo,
+                                      @PathVariable("number") final String issueNumber,
+                                      final ServletWebRequest webRequest) {
+        final String platformId = String.format("%s|FR|%s|FR|%s", repoOwner, repo, issueNumber);
+        if (ConditionalRequests.checkNotModified(webRequest, requestService.findVersion(Platform.GITHUB, platformId).getLastModifiedDate())) {
+            return null;
+        }
+        final RequestDto request = requestService.findRequest(Platform.GITHUB, platformId);
         return mappers.map(RequestDto.class, RequestView.class, request);
     }
 }
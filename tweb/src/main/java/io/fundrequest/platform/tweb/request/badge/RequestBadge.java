@@ -0,0 +1,18 @@
+package io.fundrequest.platform.tweb.request.badge;
+
+import lombok.Value;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+@Value
+public class RequestBadge {
+
+    private final byte[] svg;
+    private final String etag;
+
+    static RequestBadge of(final String svg) {
+        final byte[] bytes = svg.getBytes(StandardCharsets.UTF_8);
+        return new RequestBadge(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+    }
+}
@@ -0,0 +1,63 @@
+package io.fundrequest.platform.tweb.request.badge;
+
+import io.fundrequest.core.request.RequestService;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.summary.RequestSummaryDto;
+import io.fundrequest.core.request.summary.RequestSummaryService;
+import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.request.view.RequestVersionDto;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring4.SpringTemplateEngine;
+
+import java.util.Optional;
+
+@Service
+public class RequestBadgeService {
+
+    static final String CACHE_NAME = "request_badges";
+
+    private final RequestSummaryService requestSummaryService;
+    private final RequestService requestService;
+    private final FiatService fiatService;
+    private final SpringTemplateEngine templateEngine;
+
+    public RequestBadgeService(final RequestSummaryService requestSummaryService,
+                               final RequestService requestService,
+                               final FiatService fiatService,
+                               final SpringTemplateEngine templateEngine) {
+        this.requestSummaryService = requestSummaryService;
+        this.requestService = requestService;
+        this.fiatService = fiatService;
+        this.templateEngine = templateEngine;
+    }
+
+    /**
+     * Keyed on the request version, so status changes and summary refreshes, also those made by other applications, render a new badge.
+     */
+    @Cacheable(value = CACHE_NAME, key = "#version.requestId + '@' + #version.lastModifiedDate")
+    public RequestBadge getBadge(final RequestVersionDto version) {
+        final Long requestId = version.getRequestId();
+        final Optional<RequestSummaryDto> summary = requestSummaryService.findByRequestId(requestId);
+        if (summary.isPresent()) {
+            final RequestSummaryDto requestSummary = summary.get();
+            return render(requestSummary.getPhase(), requestSummary.getFndUsdValue() >= requestSummary.getOtherUsdValue()
+                                                     ? requestSummary.getFunds().getFndFunds()
+                                                     : requestSummary.getFunds().getOtherFunds());
+        }
+        final RequestDto request = requestService.findRequest(requestId);
+        final double fndUsdPrice = fiatService.getUsdPrice(request.getFunds().getFndFunds()).orElse(0D);
+        final double otherFundsUsdPrice = fiatService.getUsdPrice(request.getFunds().getOtherFunds()).orElse(0D);
+        return render(request.getStatus().getPhase(), fndUsdPrice >= otherFundsUsdPrice ? request.getFunds().getFndFunds() : request.getFunds().getOtherFunds());
+    }
+
+    private RequestBadge render(final RequestPhase requestPhase, final TokenValueDto highestFunds) {
+        final Context context = new Context();
+        context.setVariable("requestPhase", requestPhase);
+        context.setVariable("highestFunds", highestFunds);
+        return RequestBadge.of(templateEngine.process("requests/badge.svg", context));
+    }
+}
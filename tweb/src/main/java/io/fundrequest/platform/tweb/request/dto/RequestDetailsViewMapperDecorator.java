@@ -3,7 +3,6 @@ package io.fundrequest.platform.tweb.request.dto;
 import io.fundrequest.common.infrastructure.mav.EnumToCapitalizedStringMapper;
 import io.fundrequest.core.request.view.IssueInformationDto;
 import io.fundrequest.core.request.view.RequestDto;
-import io.fundrequest.platform.github.GithubGateway;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
@@ -12,9 +11,6 @@ public abstract class RequestDetailsViewMapperDecorator implements RequestDetail
     @Qualifier("delegate")
     private RequestDetailsViewMapper delegate;
 
-    @Autowired
-    private GithubGateway githubGateway;
-
     @Autowired
     private EnumToCapitalizedStringMapper enumToCapitalizedStringMapper;
 
@@ -30,7 +26,6 @@ public abstract class RequestDetailsViewMapperDecorator implements RequestDetail
             view.setIssueNumber(issueInfo.getNumber());
             view.setTitle(issueInfo.getTitle());
             view.setStarred(r.isLoggedInUserIsWatcher());
-            view.setDescription(githubGateway.getIssue(issueInfo.getOwner(), issueInfo.getRepo(), issueInfo.getNumber()).getBodyHtml());
             view.setPhase(enumToCapitalizedStringMapper.map(r.getStatus().getPhase()));
             view.setStatus(enumToCapitalizedStringMapper.map(r.getStatus()));
         }
@@ -0,0 +1,17 @@
+package io.fundrequest.platform.tweb.request.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RequestPageView {
+    private List<RequestView> requests;
+    private String nextCursor;
+}
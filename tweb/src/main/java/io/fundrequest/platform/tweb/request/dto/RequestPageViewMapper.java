@@ -0,0 +1,27 @@
+package io.fundrequest.platform.tweb.request.dto;
+
+import io.fundrequest.common.infrastructure.mapping.BaseMapper;
+import io.fundrequest.core.request.view.RequestPageDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RequestPageViewMapper implements BaseMapper<RequestPageDto, RequestPageView> {
+
+    private final RequestViewMapper requestViewMapper;
+
+    public RequestPageViewMapper(final RequestViewMapper requestViewMapper) {
+        this.requestViewMapper = requestViewMapper;
+    }
+
+    @Override
+    public RequestPageView map(final RequestPageDto page) {
+        if (page == null) {
+            return null;
+        }
+
+        return RequestPageView.builder()
+                              .requests(requestViewMapper.mapToList(page.getRequests()))
+                              .nextCursor(page.getNextCursor())
+                              .build();
+    }
+}
@@ -22,6 +22,7 @@ import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.APPROV
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.PENDING;
 import static java.math.BigDecimal.TEN;
 import static java.math.BigDecimal.ZERO;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -52,7 +53,7 @@ class RefundValidatorTest {
         final UserProfile userProfile = UserProfile.builder().etherAddressVerified(true).etherAddress(userEtherAddress).build();
         final TokenValueDto totalFndOnContract = TokenValueDtoMother.FND().totalAmount(TEN).build();
 
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(Optional.of(totalFndOnContract));
+        when(fundService.getFundsForAsync(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(completedFuture(Optional.of(totalFndOnContract)));
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.singletonList(RefundRequestDto.builder().funderAddress("0x4facde56").build()));
 
         final boolean result = refundValidator.isRefundable(userProfile, fund, requestId, requestStatus);
@@ -68,7 +69,7 @@ class RefundValidatorTest {
         final String requestStatus = "Funded";
         final TokenValueDto totalFndOnContract = TokenValueDtoMother.FND().totalAmount(TEN).build();
 
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(Optional.of(totalFndOnContract));
+        when(fundService.getFundsForAsync(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(completedFuture(Optional.of(totalFndOnContract)));
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.singletonList(RefundRequestDto.builder().funderAddress("0x4facde56").build()));
 
         final boolean result = refundValidator.isRefundable(null, fund, requestId, requestStatus);
@@ -96,10 +97,10 @@ class RefundValidatorTest {
         final UserProfile userProfile = UserProfile.builder().etherAddressVerified(true).etherAddress(userEtherAddress).build();
 
         if (StringUtils.isNotBlank(fndFund)) {
-            when(fundService.getFundsFor(requestId, userEtherAddress, FND_TOKEN_ADDRESS)).thenReturn(Optional.of(TokenValueDtoMother.FND().totalAmount(new BigDecimal(fndFund)).build()));
+            when(fundService.getFundsForAsync(requestId, userEtherAddress, FND_TOKEN_ADDRESS)).thenReturn(completedFuture(Optional.of(TokenValueDtoMother.FND().totalAmount(new BigDecimal(fndFund)).build())));
         }
         if (StringUtils.isNotBlank(zrxFund)) {
-            when(fundService.getFundsFor(requestId, userEtherAddress, ZRX_TOKEN_ADDRESS)).thenReturn(Optional.of(TokenValueDtoMother.ZRX().totalAmount(new BigDecimal(zrxFund)).build()));
+            when(fundService.getFundsForAsync(requestId, userEtherAddress, ZRX_TOKEN_ADDRESS)).thenReturn(completedFuture(Optional.of(TokenValueDtoMother.ZRX().totalAmount(new BigDecimal(zrxFund)).build())));
         }
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.singletonList(RefundRequestDto.builder().funderAddress("0x4facde56").build()));
 
@@ -118,8 +119,8 @@ class RefundValidatorTest {
         final TokenValueDto totalFndOnContract = TokenValueDtoMother.FND().totalAmount(TEN).build();
         final TokenValueDto totalZrxOnContract = TokenValueDtoMother.ZRX().totalAmount(ZERO).build();
 
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(Optional.of(totalFndOnContract));
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalZrxOnContract.getTokenAddress())).thenReturn(Optional.of(totalZrxOnContract));
+        when(fundService.getFundsForAsync(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(completedFuture(Optional.of(totalFndOnContract)));
+        when(fundService.getFundsForAsync(requestId, userEtherAddress, totalZrxOnContract.getTokenAddress())).thenReturn(completedFuture(Optional.of(totalZrxOnContract)));
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.singletonList(RefundRequestDto.builder().funderAddress("0x4facde56").build()));
 
         final boolean result = refundValidator.isRefundable(userProfile, fund, requestId, requestStatus);
@@ -137,8 +138,8 @@ class RefundValidatorTest {
         final TokenValueDto totalFndOnContract = TokenValueDtoMother.FND().totalAmount(TEN).build();
         final TokenValueDto totalZrxOnContract = TokenValueDtoMother.ZRX().totalAmount(ZERO).build();
 
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(Optional.of(totalFndOnContract));
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalZrxOnContract.getTokenAddress())).thenReturn(Optional.of(totalZrxOnContract));
+        when(fundService.getFundsForAsync(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(completedFuture(Optional.of(totalFndOnContract)));
+        when(fundService.getFundsForAsync(requestId, userEtherAddress, totalZrxOnContract.getTokenAddress())).thenReturn(completedFuture(Optional.of(totalZrxOnContract)));
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.singletonList(RefundRequestDto.builder().funderAddress("0x4facde56").build()));
 
         final boolean result = refundValidator.isRefundable(userProfile, fund, requestId, requestStatus);
@@ -156,8 +157,8 @@ class RefundValidatorTest {
         final TokenValueDto totalFndOnContract = TokenValueDtoMother.FND().totalAmount(TEN).build();
         final TokenValueDto totalZrxOnContract = TokenValueDtoMother.ZRX().totalAmount(ZERO).build();
 
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(Optional.of(totalFndOnContract));
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalZrxOnContract.getTokenAddress())).thenReturn(Optional.of(totalZrxOnContract));
+        when(fundService.getFundsForAsync(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(completedFuture(Optional.of(totalFndOnContract)));
+        when(fundService.getFundsForAsync(requestId, userEtherAddress, totalZrxOnContract.getTokenAddress())).thenReturn(completedFuture(Optional.of(totalZrxOnContract)));
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Arrays.asList(RefundRequestDto.builder().funderAddress("0x4facde56").build(),
                                                                                                             RefundRequestDto.builder().funderAddress(userEtherAddress).build()));
 
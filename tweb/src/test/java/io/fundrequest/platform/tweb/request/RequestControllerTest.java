@@ -12,7 +12,7 @@ import io.fundrequest.core.request.claim.ClaimService;
 import io.fundrequest.core.request.claim.dto.ClaimsByTransactionAggregate;
 import io.fundrequest.core.request.claim.dto.UserClaimableDto;
 import io.fundrequest.core.request.domain.Platform;
-import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.domain.RequestPhase;
 import io.fundrequest.core.request.fund.FundService;
 import io.fundrequest.core.request.fund.PendingFundService;
 import io.fundrequest.core.request.fund.RefundService;
@@ -22,39 +22,52 @@ import io.fundrequest.core.request.fund.dto.PendingFundDto;
 import io.fundrequest.core.request.fund.dto.RefundRequestDto;
 import io.fundrequest.core.request.statistics.StatisticsService;
 import io.fundrequest.core.request.statistics.dto.StatisticsDto;
-import io.fundrequest.core.request.view.AllFundsDto;
 import io.fundrequest.core.request.view.IssueInformationDto;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.request.view.RequestDtoMother;
-import io.fundrequest.core.token.dto.TokenValueDto;
-import io.fundrequest.core.token.dto.TokenValueDtoMother;
+import io.fundrequest.core.request.view.RequestFilterDto;
+import io.fundrequest.core.request.view.RequestPageDto;
+import io.fundrequest.core.request.view.RequestVersionDto;
+import io.fundrequest.platform.github.GithubGateway;
+import io.fundrequest.platform.github.parser.GithubResult;
 import io.fundrequest.platform.profile.profile.ProfileService;
+import io.fundrequest.platform.tweb.request.badge.RequestBadge;
+import io.fundrequest.platform.tweb.request.badge.RequestBadgeService;
 import io.fundrequest.platform.tweb.request.dto.RequestDetailsView;
+import io.fundrequest.platform.tweb.request.dto.RequestPageView;
 import io.fundrequest.platform.tweb.request.dto.RequestView;
 import org.assertj.core.util.Lists;
 import org.junit.Test;
-import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import static io.fundrequest.core.request.domain.RequestPhase.OPEN;
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.APPROVED;
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.PENDING;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -71,10 +84,11 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
     private FundService fundService;
     private RefundService refundService;
     private ClaimService claimService;
-    private FiatService fiatService;
     private ObjectMapper objectMapper;
     private Mappers mappers;
     private PlatformIssueService platformIssueService;
+    private RequestBadgeService requestBadgeService;
+    private GithubGateway githubGateway;
 
     @Override
     protected RequestController setupController() {
@@ -88,8 +102,9 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
         fundService = mock(FundService.class);
         refundService = mock(RefundService.class);
         claimService = mock(ClaimService.class);
-        fiatService = mock(FiatService.class);
         platformIssueService = mock(PlatformIssueService.class);
+        requestBadgeService = mock(RequestBadgeService.class);
+        githubGateway = mock(GithubGateway.class);
         objectMapper = spy(new ObjectMapper());
         mappers = mock(Mappers.class);
         return new RequestController(securityContextService,
@@ -100,43 +115,48 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
                                      fundService,
                                      refundService,
                                      claimService,
-                                     fiatService,
                                      platformIssueService,
+                                     requestBadgeService,
+                                     githubGateway,
                                      objectMapper,
-                                     mappers);
+                                     mappers,
+                                     Runnable::run,
+                                     2000L,
+                                     3600000L,
+                                     300L);
     }
 
     @Test
     public void requests() throws Exception {
-        final List<RequestDto> requestDtos = new ArrayList<>();
-        final List<RequestView> returnedRequestViews = Arrays.asList(buildRequestView("2", null),
-                                                                     buildRequestView("0", null),
-                                                                     buildRequestView(null, "3"),
-                                                                     buildRequestView(null, "0"),
-                                                                     buildRequestView("5", "4"),
-                                                                     buildRequestView("0", "0"),
-                                                                     buildRequestView(null, null));
-        final List<RequestView> filteredRequestViews = Arrays.asList(buildRequestView("2", null),
-                                                                     buildRequestView(null, "3"),
-                                                                     buildRequestView("5", "4"));
+        final RequestPageDto page = RequestPageDto.builder().nextCursor("cursor").build();
+        final List<RequestView> requestViews = Arrays.asList(RequestView.builder().id(1L).build(), RequestView.builder().id(2L).build());
         final StatisticsDto statisticsDto = StatisticsDto.builder().build();
-        final Set<String> projects = new HashSet<>();
+        final Set<String> projects = new HashSet<>(Arrays.asList("FundRequest", "kazuki43zoo"));
         final Set<String> technologies = new HashSet<>();
+        final Map<RequestPhase, Long> fundedPerPhase = new EnumMap<>(RequestPhase.class);
+        fundedPerPhase.put(RequestPhase.RESOLVED, 3L);
+        final Map<String, Long> requestsPerPhaseCount = new HashMap<>();
+        requestsPerPhaseCount.put("OPEN", 0L);
+        requestsPerPhaseCount.put("RESOLVED", 3L);
+        requestsPerPhaseCount.put("CLOSED", 0L);
         boolean isAuthenticated = false;
 
-        when(requestService.findAll()).thenReturn(requestDtos);
-        when(mappers.mapList(RequestDto.class, RequestView.class, requestDtos)).thenReturn(returnedRequestViews);
-        when(statisticsService.getStatistics()).thenReturn(statisticsDto);
         when(requestService.findAllProjects()).thenReturn(projects);
+        when(requestService.findFunded(RequestFilterDto.builder().phase(RequestPhase.RESOLVED).project("FundRequest").build(), null, 20)).thenReturn(page);
+        when(mappers.map(RequestPageDto.class, RequestPageView.class, page)).thenReturn(RequestPageView.builder().requests(requestViews).nextCursor("cursor").build());
+        when(requestService.countFundedPerPhase()).thenReturn(fundedPerPhase);
+        when(statisticsService.getStatistics()).thenReturn(statisticsDto);
         when(requestService.findAllTechnologies()).thenReturn(technologies);
         when(securityContextService.isUserFullyAuthenticated()).thenReturn(isAuthenticated);
-        when(objectMapper.writeValueAsString(filteredRequestViews)).thenReturn("requestViews");
+        when(objectMapper.writeValueAsString(requestViews)).thenReturn("requestViews");
         when(objectMapper.writeValueAsString(same(projects))).thenReturn("projects");
         when(objectMapper.writeValueAsString(same(technologies))).thenReturn("technologies");
 
-        this.mockMvc.perform(get("/requests").principal(principal))
+        this.mockMvc.perform(get("/requests").param("phase", "resolved").param("project", "fundrequest").principal(principal))
                     .andExpect(MockMvcResultMatchers.status().isOk())
                     .andExpect(MockMvcResultMatchers.model().attribute("requests", "requestViews"))
+                    .andExpect(MockMvcResultMatchers.model().attribute("nextCursor", "\"cursor\""))
+                    .andExpect(MockMvcResultMatchers.model().attribute("requestsPerPhaseCount", requestsPerPhaseCount))
                     .andExpect(MockMvcResultMatchers.model().attribute("statistics", statisticsDto))
                     .andExpect(MockMvcResultMatchers.model().attribute("projects", "projects"))
                     .andExpect(MockMvcResultMatchers.model().attribute("technologies", "technologies"))
@@ -144,14 +164,6 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
                     .andExpect(MockMvcResultMatchers.view().name("pages/requests/index"));
     }
 
-    private RequestView buildRequestView(final String fndAmount, final String zrxAmount) {
-        return RequestView.builder()
-                          .phase(OPEN.name())
-                          .funds(AllFundsDto.builder()
-                                            .fndFunds(fndAmount != null ? TokenValueDtoMother.FND().totalAmount(new BigDecimal(fndAmount)).build() : null)
-                                            .otherFunds(zrxAmount != null ? TokenValueDtoMother.ZRX().totalAmount(new BigDecimal(zrxAmount)).build() : null).build()).build();
-    }
-
     @Test
     public void details() throws Exception {
         final long requestId = 7458L;
@@ -163,8 +175,15 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
         final List<String> expectedPendingRefundAddresses = Lists.newArrayList("0xgdjhg4354", "0xfefskjhkhj5436");
         final ClaimsByTransactionAggregate claims = mock(ClaimsByTransactionAggregate.class);
         final List<CommentDto> commentDtos = new ArrayList<>();
+        final IssueInformationDto issueInformation = RequestDtoMother.freeCodeCampNoUserStories().getIssueInformation();
+        final GithubResult githubResult = new GithubResult();
+        githubResult.setBodyHtml("<p>body</p>");
 
+        when(requestService.findVersion(requestId)).thenReturn(new RequestVersionDto(requestId, LocalDateTime.now()));
         when(requestService.findRequest(requestId)).thenReturn(requestDto);
+        when(requestDto.getId()).thenReturn(requestId);
+        when(requestDto.getIssueInformation()).thenReturn(issueInformation);
+        when(githubGateway.getIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(githubResult);
         when(mappers.map(RequestDto.class, RequestDetailsView.class, requestDto)).thenReturn(requestDetailsView);
         when(objectMapper.writeValueAsString(same(requestDetailsView))).thenReturn("requestDetailsView");
         when(fundService.getFundsForRequestGroupedByFunder(requestId)).thenReturn(fundsForRequestDto);
@@ -176,6 +195,7 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
                     .andExpect(MockMvcResultMatchers.status().isOk())
                     .andExpect(MockMvcResultMatchers.model().attribute("request", requestDetailsView))
                     .andExpect(MockMvcResultMatchers.model().attribute("requestJson", "requestDetailsView"))
+                    .andExpect(MockMvcResultMatchers.model().attribute("description", "<p>body</p>"))
                     .andExpect(MockMvcResultMatchers.model().attribute("funds", fundsForRequestDto))
                     .andExpect(MockMvcResultMatchers.model().attribute("pendingRefundAddresses", expectedPendingRefundAddresses))
                     .andExpect(MockMvcResultMatchers.model().attribute("claims", claims))
@@ -194,8 +214,9 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
         final FundsForRequestDto fundsForRequestDto = mock(FundsForRequestDto.class);
         final List<CommentDto> commentDtos = new ArrayList<>();
 
+        when(requestService.findVersion(Platform.GITHUB, owner + "|FR|" + repo + "|FR|" + number)).thenReturn(new RequestVersionDto(requestId, LocalDateTime.now()));
         when(requestService.findRequest(Platform.GITHUB, owner + "|FR|" + repo + "|FR|" + number)).thenReturn(requestDto);
-        when(requestDetailsView.getId()).thenReturn(requestId);
+        when(requestDto.getId()).thenReturn(requestId);
         when(mappers.map(eq(RequestDto.class), eq(RequestDetailsView.class), same(requestDto))).thenReturn(requestDetailsView);
         when(objectMapper.writeValueAsString(same(requestDetailsView))).thenReturn("requestDetailsView");
         when(fundService.getFundsForRequestGroupedByFunder(requestId)).thenReturn(fundsForRequestDto);
@@ -211,57 +232,167 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
     }
 
     @Test
-    public void detailsBadge_otherFund_HighestFiat() throws Exception {
-        final long requestId = 654L;
+    public void detailsBadge() throws Exception {
+        final RequestBadge badge = new RequestBadge("<svg/>".getBytes(StandardCharsets.UTF_8), "\"badge\"");
+        final RequestVersionDto version = new RequestVersionDto(654L, LocalDateTime.now());
+
+        when(requestService.findVersion(654L)).thenReturn(version);
+        when(requestBadgeService.getBadge(version)).thenReturn(badge);
+
+        this.mockMvc.perform(get("/requests/{id}/badge", 654L))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"badge\""))
+                    .andExpect(MockMvcResultMatchers.content().contentType("image/svg+xml"))
+                    .andExpect(MockMvcResultMatchers.content().bytes(badge.getSvg()));
+    }
+
+    @Test
+    public void detailsBadge_notModified() throws Exception {
+        final RequestVersionDto version = new RequestVersionDto(654L, LocalDateTime.now());
+        when(requestService.findVersion(654L)).thenReturn(version);
+        when(requestBadgeService.getBadge(version)).thenReturn(new RequestBadge("<svg/>".getBytes(StandardCharsets.UTF_8), "\"badge\""));
+
+        this.mockMvc.perform(get("/requests/{id}/badge", 654L).header(HttpHeaders.IF_NONE_MATCH, "\"badge\""))
+                    .andExpect(MockMvcResultMatchers.status().isNotModified())
+                    .andExpect(MockMvcResultMatchers.content().bytes(new byte[0]));
+    }
+
+    @Test
+    public void details_notModified() throws Exception {
+        final long requestId = 7458L;
+        final LocalDateTime lastModifiedDate = LocalDateTime.now().plusDays(1).withNano(0);
+        when(requestService.findVersion(requestId)).thenReturn(new RequestVersionDto(requestId, lastModifiedDate));
+
+        this.mockMvc.perform(get("/requests/{id}", requestId).principal(principal)
+                                                              .header(HttpHeaders.IF_MODIFIED_SINCE, lastModifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
+                    .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        verify(requestService, never()).findRequest(requestId);
+        verifyZeroInteractions(fundService, claimService, refundService);
+    }
+
+    @Test
+    public void details_commentsUnavailable() throws Exception {
+        final long requestId = 7458L;
+        final RequestDto requestDto = mock(RequestDto.class);
+        final RequestDetailsView requestDetailsView = mock(RequestDetailsView.class);
+        final FundsForRequestDto fundsForRequestDto = mock(FundsForRequestDto.class);
+
+        when(requestService.findVersion(requestId)).thenReturn(new RequestVersionDto(requestId, LocalDateTime.now()));
+        when(requestService.findRequest(requestId)).thenReturn(requestDto);
+        when(requestDto.getId()).thenReturn(requestId);
+        when(mappers.map(RequestDto.class, RequestDetailsView.class, requestDto)).thenReturn(requestDetailsView);
+        when(objectMapper.writeValueAsString(same(requestDetailsView))).thenReturn("requestDetailsView");
+        when(fundService.getFundsForRequestGroupedByFunder(requestId)).thenReturn(fundsForRequestDto);
+        when(requestService.getComments(requestId)).thenThrow(new RuntimeException("github unavailable"));
+
+        this.mockMvc.perform(get("/requests/{id}", requestId).principal(principal))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.model().attribute("funds", fundsForRequestDto))
+                    .andExpect(MockMvcResultMatchers.model().attribute("githubComments", nullValue()))
+                    .andExpect(MockMvcResultMatchers.view().name("pages/requests/detail"));
+    }
+
+    @Test
+    public void details_sectionsMissDeadline() throws Exception {
+        final long requestId = 7458L;
+        final RequestDto requestDto = mock(RequestDto.class);
+        final RequestDetailsView requestDetailsView = mock(RequestDetailsView.class);
+        final RequestController controller = new RequestController(securityContextService,
+                                                                   requestService,
+                                                                   pendingFundService,
+                                                                   statisticsService,
+                                                                   profileService,
+                                                                   fundService,
+                                                                   refundService,
+                                                                   claimService,
+                                                                   platformIssueService,
+                                                                   requestBadgeService,
+                                                                   githubGateway,
+                                                                   objectMapper,
+                                                                   mappers,
+                                                                   command -> {},
+                                                                   50L,
+                                                                   3600000L,
+                                                                   300L);
+
+        when(requestService.findVersion(requestId)).thenReturn(new RequestVersionDto(requestId, LocalDateTime.now()));
+        when(requestService.findRequest(requestId)).thenReturn(requestDto);
+        when(requestDto.getId()).thenReturn(requestId);
+        when(mappers.map(RequestDto.class, RequestDetailsView.class, requestDto)).thenReturn(requestDetailsView);
+        when(objectMapper.writeValueAsString(same(requestDetailsView))).thenReturn("requestDetailsView");
+
+        MockMvcBuilders.standaloneSetup(controller)
+                       .build()
+                       .perform(get("/requests/{id}", requestId).principal(principal))
+                       .andExpect(MockMvcResultMatchers.status().isOk())
+                       .andExpect(MockMvcResultMatchers.model().attribute("request", requestDetailsView))
+                       .andExpect(MockMvcResultMatchers.model().attribute("description", nullValue()))
+                       .andExpect(MockMvcResultMatchers.model().attribute("funds", nullValue()))
+                       .andExpect(MockMvcResultMatchers.model().attribute("pendingRefundAddresses", nullValue()))
+                       .andExpect(MockMvcResultMatchers.model().attribute("claims", nullValue()))
+                       .andExpect(MockMvcResultMatchers.model().attribute("githubComments", nullValue()))
+                       .andExpect(MockMvcResultMatchers.view().name("pages/requests/detail"));
+    }
+
+    @Test
+    public void detailComments() throws Exception {
+        final List<CommentDto> commentDtos = new ArrayList<>();
+
+        when(requestService.getComments(1L)).thenReturn(commentDtos);
+
+        this.mockMvc.perform(get("/requests/{id}/comments", 1L))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.view().name("pages/requests/detail-comments :: comments"))
+                    .andExpect(MockMvcResultMatchers.model().attribute("githubComments", sameInstance(commentDtos)));
+    }
+
+    @Test
+    public void detailDescription() throws Exception {
         final RequestDto request = RequestDtoMother.freeCodeCampNoUserStories();
-        final TokenValueDto fndFunds = TokenValueDto.builder()
-                                                    .tokenSymbol("FND")
-                                                    .totalAmount(new BigDecimal("1000"))
-                                                    .build();
-        final TokenValueDto otherFunds = TokenValueDto.builder()
-                                                      .tokenSymbol("SDFGG")
-                                                      .totalAmount(new BigDecimal("1100"))
-                                                      .build();
-        request.getFunds().setFndFunds(fndFunds);
-        request.getFunds().setOtherFunds(otherFunds);
-
-        when(requestService.findRequest(requestId)).thenReturn(request);
-        when(fiatService.getUsdPrice(request.getFunds().getFndFunds())).thenReturn(100D);
-        when(fiatService.getUsdPrice(request.getFunds().getOtherFunds())).thenReturn(110D);
-
-        this.mockMvc.perform(get("/requests/{id}/badge", 654L).principal(principal))
-                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue()))
+        final IssueInformationDto issueInformation = request.getIssueInformation();
+        final GithubResult githubResult = new GithubResult();
+        githubResult.setBodyHtml("<p>body</p>");
+
+        when(requestService.findRequest(1L)).thenReturn(request);
+        when(githubGateway.getIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(githubResult);
+
+        this.mockMvc.perform(get("/requests/{id}/description", 1L))
                     .andExpect(MockMvcResultMatchers.status().isOk())
-                    .andExpect(MockMvcResultMatchers.model().attribute("requestPhase", request.getStatus().getPhase()))
-                    .andExpect(MockMvcResultMatchers.model().attribute("highestFunds", otherFunds))
-                    .andExpect(MockMvcResultMatchers.view().name("requests/badge.svg"));
+                    .andExpect(MockMvcResultMatchers.view().name("pages/requests/detail-description :: description"))
+                    .andExpect(MockMvcResultMatchers.model().attribute("description", "<p>body</p>"));
     }
 
     @Test
-    public void detailsBadge_FND_HighestFiat() throws Exception {
-        final long requestId = 654L;
+    public void detailFunds() throws Exception {
         final RequestDto request = RequestDtoMother.freeCodeCampNoUserStories();
-        final TokenValueDto fndFunds = TokenValueDto.builder()
-                                                    .tokenSymbol("FND")
-                                                    .totalAmount(new BigDecimal("1000"))
-                                                    .build();
-        final TokenValueDto otherFunds = TokenValueDto.builder()
-                                                      .tokenSymbol("SDFGG")
-                                                      .totalAmount(new BigDecimal("1100"))
-                                                      .build();
-        request.getFunds().setFndFunds(fndFunds);
-        request.getFunds().setOtherFunds(otherFunds);
-
-        when(requestService.findRequest(requestId)).thenReturn(request);
-        when(fiatService.getUsdPrice(request.getFunds().getFndFunds())).thenReturn(120D);
-        when(fiatService.getUsdPrice(request.getFunds().getOtherFunds())).thenReturn(100D);
-
-        this.mockMvc.perform(get("/requests/{id}/badge", 654L).principal(principal))
-                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue()))
+        final RequestDetailsView requestDetailsView = mock(RequestDetailsView.class);
+        final FundsForRequestDto fundsForRequestDto = mock(FundsForRequestDto.class);
+
+        when(requestService.findRequest(1L)).thenReturn(request);
+        when(mappers.map(RequestDto.class, RequestDetailsView.class, request)).thenReturn(requestDetailsView);
+        when(fundService.getFundsForRequestGroupedByFunder(1L)).thenReturn(fundsForRequestDto);
+        when(refundService.findAllRefundRequestsFor(1L, PENDING, APPROVED)).thenReturn(Lists.newArrayList(RefundRequestDto.builder().funderAddress("0xABC").build()));
+
+        this.mockMvc.perform(get("/requests/{id}/funds", 1L))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.view().name("pages/requests/detail-funds :: funds"))
+                    .andExpect(MockMvcResultMatchers.model().attribute("request", sameInstance(requestDetailsView)))
+                    .andExpect(MockMvcResultMatchers.model().attribute("funds", sameInstance(fundsForRequestDto)))
+                    .andExpect(MockMvcResultMatchers.model().attribute("pendingRefundAddresses", Lists.newArrayList("0xabc")));
+    }
+
+    @Test
+    public void detailClaims() throws Exception {
+        final ClaimsByTransactionAggregate claims = mock(ClaimsByTransactionAggregate.class);
+
+        when(claimService.getAggregatedClaimsForRequest(1L)).thenReturn(claims);
+
+        this.mockMvc.perform(get("/requests/{id}/claims", 1L))
                     .andExpect(MockMvcResultMatchers.status().isOk())
-                    .andExpect(MockMvcResultMatchers.model().attribute("requestPhase", request.getStatus().getPhase()))
-                    .andExpect(MockMvcResultMatchers.model().attribute("highestFunds", fndFunds))
-                    .andExpect(MockMvcResultMatchers.view().name("requests/badge.svg"));
+                    .andExpect(MockMvcResultMatchers.view().name("pages/requests/detail-claims :: claims"))
+                    .andExpect(MockMvcResultMatchers.model().attribute("claims", sameInstance(claims)));
     }
 
     @Test
@@ -6,17 +6,31 @@ import io.fundrequest.common.infrastructure.mapping.Mappers;
 import io.fundrequest.common.infrastructure.mav.EnumToCapitalizedStringMapper;
 import io.fundrequest.core.request.RequestService;
 import io.fundrequest.core.request.claim.dto.ClaimableResultDto;
+import io.fundrequest.core.request.domain.RequestPhase;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.request.view.RequestDtoMother;
+import io.fundrequest.core.request.view.RequestFilterDto;
+import io.fundrequest.core.request.view.RequestPageDto;
+import io.fundrequest.core.request.view.RequestSort;
+import io.fundrequest.core.request.view.RequestVersionDto;
 import io.fundrequest.platform.tweb.request.dto.ClaimView;
+import io.fundrequest.platform.tweb.request.dto.RequestPageView;
 import io.fundrequest.platform.tweb.request.dto.RequestView;
 import io.fundrequest.platform.tweb.request.dto.RequestViewMapper;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
 import static io.fundrequest.core.request.domain.Platform.GITHUB;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
@@ -47,6 +61,7 @@ class RequestRestControllerTest extends AbstractControllerTest<RequestRestContro
         final RequestView requestView = mapper.map(requestDto);
 
         final String platformId = owner + "|FR|" + repo + "|FR|" + issueNumber;
+        when(requestService.findVersion(GITHUB, platformId)).thenReturn(new RequestVersionDto(requestDto.getId(), LocalDateTime.now()));
         when(requestService.findRequest(GITHUB, platformId)).thenReturn(requestDto);
         when(mappers.map(RequestDto.class, RequestView.class, requestDto)).thenReturn(requestView);
 
@@ -55,6 +70,29 @@ class RequestRestControllerTest extends AbstractControllerTest<RequestRestContro
                .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(requestView)));
     }
 
+    @Test
+    void requestDetails_notModified() throws Exception {
+        final String owner = "fundrequest";
+        final String repo = "platform";
+        final String issueNumber = "320";
+        final String platformId = owner + "|FR|" + repo + "|FR|" + issueNumber;
+        when(requestService.findVersion(GITHUB, platformId)).thenReturn(new RequestVersionDto(5L, LocalDateTime.now()));
+        when(requestService.findRequest(GITHUB, platformId)).thenReturn(RequestDtoMother.fundRequestArea51());
+
+        final String etag = mockMvc.perform(get("/rest/requests/github/{owner}/{repo}/{number}", owner, repo, issueNumber))
+                                   .andExpect(MockMvcResultMatchers.status().isOk())
+                                   .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                                   .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LAST_MODIFIED, notNullValue()))
+                                   .andReturn()
+                                   .getResponse()
+                                   .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/rest/requests/github/{owner}/{repo}/{number}", owner, repo, issueNumber).header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        verify(requestService).findRequest(GITHUB, platformId);
+    }
+
     @Test
     void claimDetails() throws Exception {
         final String owner = "fundrequest";
@@ -96,4 +134,33 @@ class RequestRestControllerTest extends AbstractControllerTest<RequestRestContro
                .andExpect(MockMvcResultMatchers.status().isOk())
                .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(claimView)));
     }
+
+    @Test
+    void requests() throws Exception {
+        final RequestFilterDto filter = RequestFilterDto.builder()
+                                                        .phase(RequestPhase.OPEN)
+                                                        .project("FundRequest")
+                                                        .technologies(new HashSet<>(Arrays.asList("java", "kotlin")))
+                                                        .search("bounty")
+                                                        .sort(RequestSort.USD_VALUE)
+                                                        .build();
+        final RequestPageDto page = RequestPageDto.builder().nextCursor("next").build();
+        final RequestPageView pageView = RequestPageView.builder()
+                                                        .requests(Collections.singletonList(RequestView.builder().id(5L).build()))
+                                                        .nextCursor("next")
+                                                        .build();
+        when(requestService.findFunded(filter, "cursor", 100)).thenReturn(page);
+        when(mappers.map(RequestPageDto.class, RequestPageView.class, page)).thenReturn(pageView);
+
+        mockMvc.perform(get("/rest/requests").param("phase", "OPEN")
+                                             .param("project", "FundRequest")
+                                             .param("technology", "java", "kotlin")
+                                             .param("search", "bounty")
+                                             .param("sort", "USD_VALUE")
+                                             .param("cursor", "cursor")
+                                             .param("size", "500")
+                                             .accept(MediaType.APPLICATION_JSON_UTF8))
+               .andExpect(MockMvcResultMatchers.status().isOk())
+               .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(pageView)));
+    }
 }
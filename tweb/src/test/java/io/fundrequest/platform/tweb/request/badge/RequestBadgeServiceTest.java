@@ -0,0 +1,141 @@
+package io.fundrequest.platform.tweb.request.badge;
+
+import io.fundrequest.core.request.RequestService;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.summary.RequestSummaryDto;
+import io.fundrequest.core.request.summary.RequestSummaryService;
+import io.fundrequest.core.request.view.AllFundsDto;
+import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.request.view.RequestDtoMother;
+import io.fundrequest.core.request.view.RequestVersionDto;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.DigestUtils;
+import org.thymeleaf.TemplateProcessingParameters;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.resourceresolver.IResourceResolver;
+import org.thymeleaf.spring4.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.TemplateResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class RequestBadgeServiceTest {
+
+    private static final String SVG = "<svg>badge</svg>";
+
+    private RequestSummaryService requestSummaryService;
+    private RequestService requestService;
+    private FiatService fiatService;
+    private SpringTemplateEngine templateEngine;
+    private List<IContext> renderedContexts;
+    private RequestBadgeService requestBadgeService;
+
+    private TokenValueDto fndFunds;
+    private TokenValueDto otherFunds;
+
+    @BeforeEach
+    void setUp() {
+        requestSummaryService = mock(RequestSummaryService.class);
+        requestService = mock(RequestService.class);
+        fiatService = mock(FiatService.class);
+        renderedContexts = new ArrayList<>();
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(svgTemplateResolver());
+        when(requestSummaryService.findByRequestId(any())).thenReturn(Optional.empty());
+        requestBadgeService = new RequestBadgeService(requestSummaryService, requestService, fiatService, templateEngine);
+
+        fndFunds = TokenValueDto.builder().tokenSymbol("FND").totalAmount(new BigDecimal("1000")).build();
+        otherFunds = TokenValueDto.builder().tokenSymbol("SDFGG").totalAmount(new BigDecimal("1100")).build();
+    }
+
+    @Test
+    void getBadge_fromSummary() {
+        final long requestId = 654L;
+        when(requestSummaryService.findByRequestId(requestId)).thenReturn(Optional.of(RequestSummaryDto.builder()
+                                                                                                       .requestId(requestId)
+                                                                                                       .phase(RequestPhase.RESOLVED)
+                                                                                                       .funds(AllFundsDto.builder()
+                                                                                                                         .fndFunds(fndFunds)
+                                                                                                                         .otherFunds(otherFunds)
+                                                                                                                         .build())
+                                                                                                       .fndUsdValue(100D)
+                                                                                                       .otherUsdValue(110D)
+                                                                                                       .build()));
+
+        final RequestBadge result = requestBadgeService.getBadge(new RequestVersionDto(requestId, LocalDateTime.now()));
+
+        assertThat(new String(result.getSvg(), StandardCharsets.UTF_8)).contains(SVG);
+        assertThat(result.getEtag()).isEqualTo("\"" + DigestUtils.md5DigestAsHex(result.getSvg()) + "\"");
+        assertRendered(RequestPhase.RESOLVED, otherFunds);
+        verifyZeroInteractions(requestService, fiatService);
+    }
+
+    @Test
+    void getBadge_otherFundHighestFiat() {
+        final RequestDto request = RequestDtoMother.freeCodeCampNoUserStories();
+        request.getFunds().setFndFunds(fndFunds);
+        request.getFunds().setOtherFunds(otherFunds);
+        when(requestService.findRequest(request.getId())).thenReturn(request);
+        when(fiatService.getUsdPrice(fndFunds)).thenReturn(Optional.of(100D));
+        when(fiatService.getUsdPrice(otherFunds)).thenReturn(Optional.of(110D));
+
+        requestBadgeService.getBadge(new RequestVersionDto(request.getId(), LocalDateTime.now()));
+
+        assertRendered(request.getStatus().getPhase(), otherFunds);
+    }
+
+    @Test
+    void getBadge_fndHighestFiat() {
+        final RequestDto request = RequestDtoMother.freeCodeCampNoUserStories();
+        request.getFunds().setFndFunds(fndFunds);
+        request.getFunds().setOtherFunds(otherFunds);
+        when(requestService.findRequest(request.getId())).thenReturn(request);
+        when(fiatService.getUsdPrice(fndFunds)).thenReturn(Optional.of(120D));
+        when(fiatService.getUsdPrice(otherFunds)).thenReturn(Optional.of(100D));
+
+        requestBadgeService.getBadge(new RequestVersionDto(request.getId(), LocalDateTime.now()));
+
+        assertRendered(request.getStatus().getPhase(), fndFunds);
+    }
+
+    private void assertRendered(final RequestPhase requestPhase, final TokenValueDto highestFunds) {
+        assertThat(renderedContexts).hasSize(1);
+        assertThat(renderedContexts.get(0).getVariables().get("requestPhase")).isEqualTo(requestPhase);
+        assertThat(renderedContexts.get(0).getVariables().get("highestFunds")).isEqualTo(highestFunds);
+    }
+
+    private TemplateResolver svgTemplateResolver() {
+        final TemplateResolver templateResolver = new TemplateResolver();
+        templateResolver.setTemplateMode("XML");
+        templateResolver.setCacheable(false);
+        templateResolver.setResourceResolver(new IResourceResolver() {
+            @Override
+            public String getName() {
+                return "badge";
+            }
+
+            @Override
+            public InputStream getResourceAsStream(final TemplateProcessingParameters templateProcessingParameters, final String resourceName) {
+                assertThat(resourceName).isEqualTo("requests/badge.svg");
+                renderedContexts.add(templateProcessingParameters.getContext());
+                return new ByteArrayInputStream(SVG.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        return templateResolver;
+    }
+}
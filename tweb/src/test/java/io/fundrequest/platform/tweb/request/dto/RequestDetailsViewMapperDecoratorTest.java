@@ -4,8 +4,6 @@ import io.fundrequest.common.infrastructure.mav.EnumToCapitalizedStringMapper;
 import io.fundrequest.core.request.view.IssueInformationDto;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.request.view.RequestDtoMother;
-import io.fundrequest.platform.github.GithubGateway;
-import io.fundrequest.platform.github.parser.GithubResult;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -19,17 +17,14 @@ public class RequestDetailsViewMapperDecoratorTest {
     private RequestDetailsViewMapperDecorator decorator;
     private EnumToCapitalizedStringMapper enumToCapitalizedStringMapper;
     private RequestDetailsViewMapper delegate;
-    private GithubGateway githubGateway;
 
     @Before
     public void setUp() {
         delegate = mock(RequestDetailsViewMapper.class);
-        githubGateway = mock(GithubGateway.class);
         enumToCapitalizedStringMapper = mock(EnumToCapitalizedStringMapper.class);
 
         decorator = new RequestDetailsViewMapperDecorator() {};
         ReflectionTestUtils.setField(decorator, "delegate", delegate);
-        ReflectionTestUtils.setField(decorator, "githubGateway", githubGateway);
         ReflectionTestUtils.setField(decorator, "enumToCapitalizedStringMapper", enumToCapitalizedStringMapper);
     }
 
@@ -38,11 +33,8 @@ public class RequestDetailsViewMapperDecoratorTest {
         final RequestDto requestDto = RequestDtoMother.fundRequestArea51();
         final IssueInformationDto issueInformation = requestDto.getIssueInformation();
         final String status = "rdfjcgv";
-        final GithubResult githubResult = new GithubResult();
-        githubResult.setBodyHtml("<html/>");
 
         when(delegate.map(requestDto)).thenReturn(new RequestDetailsView());
-        when(githubGateway.getIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(githubResult);
         when(enumToCapitalizedStringMapper.map(requestDto.getStatus())).thenReturn(status);
 
         final RequestDetailsView result = decorator.map(requestDto);
@@ -55,7 +47,7 @@ public class RequestDetailsViewMapperDecoratorTest {
         assertThat(result.getTitle()).isEqualTo(issueInformation.getTitle());
         assertThat(result.getStarred()).isEqualTo(requestDto.isLoggedInUserIsWatcher());
         assertThat(result.getStatus()).isEqualTo(status);
-        assertThat(result.getDescription()).isEqualTo(githubResult.getBodyHtml());
+        assertThat(result.getDescription()).isNull();
     }
 
     @Test